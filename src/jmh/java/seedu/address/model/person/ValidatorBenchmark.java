@@ -0,0 +1,190 @@
+package seedu.address.model.person;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Compares the field validators against the regular expression versions they replaced, which called
+ * {@code String.matches} and {@code String.replaceAll} and so compiled a new pattern on every call.
+ * Each benchmark checks the same mix of valid and invalid values, as a person read from storage or typed in would have.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ValidatorBenchmark {
+
+    private final List<String> names = List.of("Alex Yeoh", "Bernice Yu", "Mary-Jane O'Brien", "Zo\u00eb M\u00fcller",
+            "R2D2", "--", "Jean--Luc");
+    private final List<String> phones = List.of("87438807", "9927 2758", "6123-4567", "12345678", "9123456");
+    private final List<String> emails = List.of("alexyeoh@example.com", "berniceyu@example.com",
+            "mary-jane.o_brien@school.edu.sg", "peter@", "@example.com");
+    private final List<String> addresses = List.of("Blk 30 Geylang Street 29, #06-40", "Blk 436 Serangoon Gardens",
+            "Blk 47 Tampines Street 20, #17-35", "Short road", "Blk 30 Geylang Street 29 #06-40 *");
+    private final List<String> birthdays = List.of("24-12-2005", "01-01-1990", "29-02-2016", "29-02-2015",
+            "2005-12-24", "1-1-2000");
+    private final List<String> classes = List.of("K1A", "K2B", "Nursery1", "K 1A", "ABCDEFGHIJKLMNOPQRSTU");
+    private final List<String> notes = List.of("", "Allergic to peanuts", "Picked up by grandmother on Fridays",
+            "Line one\nline two");
+    private final List<String> tags = List.of("student", "colleague", "Student", "parent");
+
+    @Benchmark
+    public void isValidName(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(Name.isValidName(name));
+        }
+    }
+
+    @Benchmark
+    public void isValidNameRegex(Blackhole blackhole) {
+        for (String name : names) {
+            blackhole.consume(isValidNameRegex(name));
+        }
+    }
+
+    @Benchmark
+    public void isValidPhone(Blackhole blackhole) {
+        for (String phone : phones) {
+            blackhole.consume(Phone.isValidPhone(phone));
+        }
+    }
+
+    @Benchmark
+    public void isValidPhoneRegex(Blackhole blackhole) {
+        for (String phone : phones) {
+            blackhole.consume(phone.replaceAll("[\\s-]", "").matches(Phone.VALIDATION_REGEX));
+        }
+    }
+
+    @Benchmark
+    public void isValidEmail(Blackhole blackhole) {
+        for (String email : emails) {
+            blackhole.consume(Email.isValidEmail(email));
+        }
+    }
+
+    @Benchmark
+    public void isValidEmailRegex(Blackhole blackhole) {
+        for (String email : emails) {
+            blackhole.consume(email.matches(Email.VALIDATION_REGEX));
+        }
+    }
+
+    @Benchmark
+    public void isValidAddress(Blackhole blackhole) {
+        for (String address : addresses) {
+            blackhole.consume(Address.isValidAddress(address));
+        }
+    }
+
+    @Benchmark
+    public void isValidAddressRegex(Blackhole blackhole) {
+        for (String address : addresses) {
+            String trimmed = address.trim();
+            blackhole.consume(trimmed.length() >= Address.MIN_LENGTH && trimmed.matches(Address.VALIDATION_REGEX));
+        }
+    }
+
+    @Benchmark
+    public void isValidBirthday(Blackhole blackhole) {
+        for (String birthday : birthdays) {
+            blackhole.consume(Birthday.isValidBirthday(birthday));
+        }
+    }
+
+    @Benchmark
+    public void isValidBirthdayRegex(Blackhole blackhole) {
+        for (String birthday : birthdays) {
+            blackhole.consume(isValidBirthdayRegex(birthday));
+        }
+    }
+
+    @Benchmark
+    public void isValidClass(Blackhole blackhole) {
+        for (String studentClass : classes) {
+            blackhole.consume(Class.isValidClass(studentClass));
+        }
+    }
+
+    @Benchmark
+    public void isValidClassRegex(Blackhole blackhole) {
+        for (String studentClass : classes) {
+            blackhole.consume(studentClass.trim().matches(Class.VALIDATION_REGEX));
+        }
+    }
+
+    @Benchmark
+    public void isValidNote(Blackhole blackhole) {
+        for (String note : notes) {
+            blackhole.consume(Note.isValidNote(note));
+        }
+    }
+
+    @Benchmark
+    public void isValidNoteRegex(Blackhole blackhole) {
+        for (String note : notes) {
+            blackhole.consume(note.matches(Note.VALIDATION_REGEX) && note.length() <= Note.MAX_LENGTH);
+        }
+    }
+
+    @Benchmark
+    public void isValidTagName(Blackhole blackhole) {
+        for (String tag : tags) {
+            blackhole.consume(Tag.isValidTagName(tag));
+        }
+    }
+
+    @Benchmark
+    public void isValidTagNameRegex(Blackhole blackhole) {
+        for (String tag : tags) {
+            blackhole.consume(tag.matches(Tag.VALIDATION_REGEX));
+        }
+    }
+
+    /**
+     * Returns true if {@code test} is a valid name, checked as {@code Name} did before it was rewritten.
+     */
+    private static boolean isValidNameRegex(String test) {
+        String trimmed = test.trim();
+        if (trimmed.isEmpty() || !trimmed.matches(Name.VALIDATION_REGEX)) {
+            return false;
+        }
+
+        long letterCount = trimmed.chars().filter(Character::isLetter).count();
+        if (letterCount < 2 || trimmed.matches(".*[-']{2,}.*")
+                || trimmed.replaceAll("[\\s\\-']+", "").isEmpty()) {
+            return false;
+        }
+
+        long punctuationCount = trimmed.chars().filter(ch -> ch == '-' || ch == '\'').count();
+        return punctuationCount < letterCount;
+    }
+
+    /**
+     * Returns true if {@code test} is a valid birthday, checked as {@code Birthday} did before it was rewritten.
+     */
+    private static boolean isValidBirthdayRegex(String test) {
+        if (!test.matches(Birthday.VALIDATION_REGEX)) {
+            return false;
+        }
+
+        try {
+            LocalDate parsedDate = LocalDate.parse(test, Birthday.DATE_FORMATTER);
+            return !parsedDate.isBefore(Birthday.MIN_VALID_DATE) && !parsedDate.isAfter(Birthday.MAX_VALID_DATE)
+                    && parsedDate.format(Birthday.DATE_FORMATTER).equals(test);
+        } catch (DateTimeParseException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookSnapshotStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.HeadlessPopupHandler;
+
+/**
+ * The entry point for running a script of commands without starting the GUI,
+ * e.g. {@code java -cp littlelogbook.jar seedu.address.BatchMain --save-every 500 maintenance.txt}.
+ * The script is read from standard input if no file (or {@code -}) is given.
+ *
+ * Uses the same config, preferences and data file as the GUI, but never rewrites the config or preferences files.
+ * Exits with status 0 if every command succeeded, 1 if any command failed,
+ * and 2 if the script could not be run or the data could not be saved.
+ */
+public class BatchMain {
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_ERROR = 2;
+
+    public static final String OPTION_SAVE_EVERY = "--save-every";
+    public static final String STDIN_ARGUMENT = "-";
+    public static final String MESSAGE_USAGE = "Usage: BatchMain [" + OPTION_SAVE_EVERY + " N] [SCRIPT_FILE]\n"
+            + "Runs each line of SCRIPT_FILE (or standard input) as a command, saving every N commands and at the end.";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchMain.class);
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    /**
+     * Runs the script named in {@code args} and returns the exit status.
+     */
+    private static int run(String[] args) {
+        int saveInterval = 0;
+        String scriptArgument = STDIN_ARGUMENT;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(OPTION_SAVE_EVERY) && i + 1 < args.length) {
+                    saveInterval = Integer.parseInt(args[++i]);
+                } else if (i == args.length - 1 && !args[i].startsWith("--")) {
+                    scriptArgument = args[i];
+                } else {
+                    throw new IllegalArgumentException("Unknown argument: " + args[i]);
+                }
+            }
+            if (saveInterval < 0) {
+                throw new IllegalArgumentException("N cannot be negative: " + saveInterval);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(MESSAGE_USAGE);
+            return EXIT_ERROR;
+        }
+
+        Config config = readConfig();
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = readPrefs(userPrefsStorage);
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        Storage storage = new StorageManager(new JsonAddressBookStorage(addressBookFilePath), userPrefsStorage);
+        AddressBookSnapshotStorage snapshotStorage = new AddressBookSnapshotStorage(addressBookFilePath);
+
+        ReadOnlyAddressBook addressBook;
+        try {
+            addressBook = readAddressBook(storage, snapshotStorage);
+        } catch (DataLoadingException e) {
+            // Running the script against an empty address book would overwrite the data file when saving
+            System.err.println("Data file at " + addressBookFilePath + " could not be loaded: " + e.getMessage());
+            return EXIT_ERROR;
+        }
+
+        Model model = new ModelManager(addressBook, userPrefs);
+        HeadlessPopupHandler popupHandler = new HeadlessPopupHandler();
+        BatchRunner runner = new BatchRunner(model, storage, new AddressBookParser(popupHandler, popupHandler),
+                saveInterval, System.out);
+
+        int failedCount;
+        try (BufferedReader script = openScript(scriptArgument)) {
+            failedCount = runner.run(script);
+        } catch (IOException e) {
+            System.err.println("Could not run the script: " + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        }
+
+        try {
+            snapshotStorage.saveSnapshot(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to save snapshot of the address book " + StringUtil.getDetails(e));
+        }
+        return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+    }
+
+    private static BufferedReader openScript(String scriptArgument) throws IOException {
+        if (scriptArgument.equals(STDIN_ARGUMENT)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Path.of(scriptArgument), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Returns the config in {@code Config#DEFAULT_CONFIG_FILE}, or the default config if it cannot be read.
+     */
+    private static Config readConfig() {
+        try {
+            return ConfigUtil.readConfig(Config.DEFAULT_CONFIG_FILE).orElseGet(Config::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + Config.DEFAULT_CONFIG_FILE + " could not be loaded."
+                    + " Using default config properties.");
+            return new Config();
+        }
+    }
+
+    /**
+     * Returns the preferences in {@code storage}, or the default preferences if they cannot be read.
+     */
+    private static UserPrefs readPrefs(UserPrefsStorage storage) {
+        try {
+            return storage.readUserPrefs().orElseGet(UserPrefs::new);
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + storage.getUserPrefsFilePath() + " could not be loaded."
+                    + " Using default preferences.");
+            return new UserPrefs();
+        }
+    }
+
+    /**
+     * Returns the address book in the snapshot if it is up to date, or else the one in the data file,
+     * or an empty address book if there is no data file yet.
+     *
+     * @throws DataLoadingException if the data file exists but could not be loaded.
+     */
+    private static ReadOnlyAddressBook readAddressBook(Storage storage, AddressBookSnapshotStorage snapshotStorage)
+            throws DataLoadingException {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+        Optional<ReadOnlyAddressBook> snapshotOptional = snapshotStorage.readSnapshot();
+        if (snapshotOptional.isPresent()) {
+            return snapshotOptional.get();
+        }
+        return storage.readAddressBook().orElseGet(AddressBook::new);
+    }
+}
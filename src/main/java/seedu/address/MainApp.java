@@ -2,32 +2,40 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.scene.Scene;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.StartupTimer;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSnapshotStorage;
 import seedu.address.storage.AddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.ui.FxThread;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -38,14 +46,31 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** Number of persons added to the model at a time while the address book loads. */
+    public static final int LOAD_CHUNK_SIZE = 500;
+
+    /** System property naming a CSV file to append the startup phase timings to. */
+    public static final String PROPERTY_STARTUP_TIMINGS_FILE = "littlelogbook.startupTimingsFile";
+
+    /** System property that makes the app exit as soon as the address book has loaded, e.g. for training runs. */
+    public static final String PROPERTY_EXIT_AFTER_STARTUP = "littlelogbook.exitAfterStartup";
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
     protected Logic logic;
+    protected CommandRunner commandRunner;
     protected Storage storage;
+    protected AddressBookSnapshotStorage snapshotStorage;
     protected Model model;
     protected Config config;
 
+    private final StartupTimer startupTimer = new StartupTimer(List.of(
+            "config", "prefs", "storage", "model", "ui", "first frame", "address book"));
+    private volatile boolean isAddressBookLoaded;
+    // Only used on the JavaFX application thread, which adds the chunks of the address book
+    private boolean hasLoadingFailed;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
@@ -54,26 +79,139 @@ public class MainApp extends Application {
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
+        startupTimer.mark("config");
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        startupTimer.mark("prefs");
+
         AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        snapshotStorage = new AddressBookSnapshotStorage(userPrefs.getAddressBookFilePath());
+        startupTimer.mark("storage");
 
-        model = initModelManager(storage, userPrefs);
+        // The address book is loaded in the background once the window is showing, see #start(Stage)
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
+        startupTimer.mark("model");
+
+        // Once loaded, the model is only changed by commands, which run on the runner's thread
+        commandRunner = new CommandRunner(logic, Platform::runLater);
+        ui = new UiManager(logic, commandRunner);
+    }
 
+    /**
+     * Reads the address book and adds it to the model in chunks of {@code LOAD_CHUNK_SIZE} persons,
+     * so that the person list fills in while the window stays responsive.
+     * Must be called on a background thread; the model is only changed on the JavaFX application thread,
+     * and commands are held back until loading has finished.
+     * If loading fails, the commands are never run, so that a partly loaded model is never saved over the data file.
+     */
+    private void loadAddressBook() {
+        List<Person> persons;
+        try {
+            persons = readAddressBook(storage).getPersonList();
+        } catch (RuntimeException e) {
+            Platform.runLater(() -> failLoading(e));
+            return;
+        }
+
+        for (int start = 0; start < persons.size(); start += LOAD_CHUNK_SIZE) {
+            int end = Math.min(start + LOAD_CHUNK_SIZE, persons.size());
+            List<Person> chunk = new ArrayList<>(persons.subList(start, end));
+            Platform.runLater(() -> addChunk(chunk, end));
+        }
+        Platform.runLater(this::finishLoading);
+    }
+
+    /**
+     * Adds {@code chunk} to the model, with {@code loadedCount} persons loaded once it is added.
+     */
+    private void addChunk(List<Person> chunk, int loadedCount) {
+        if (hasLoadingFailed) {
+            return;
+        }
+        try {
+            model.addPersons(chunk);
+        } catch (RuntimeException e) {
+            failLoading(e);
+            return;
+        }
+        ui.showLoadingProgress(loadedCount);
+    }
+
+    private void finishLoading() {
+        if (hasLoadingFailed) {
+            return;
+        }
+        isAddressBookLoaded = true;
+        logger.info("Loaded " + model.getAddressBook().getPersonList().size() + " persons.");
         showBirthdayReminders(logic);
+        ui.showLoadingFinished();
+        startupTimer.mark("address book");
+        reportStartupTimings();
+
+        if (Boolean.getBoolean(PROPERTY_EXIT_AFTER_STARTUP)) {
+            Platform.exit();
+        }
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Stops loading the address book, and shows why before the application shuts down.
+     * The address book is left as it is, as it is neither loaded nor saved.
+     */
+    private void failLoading(RuntimeException e) {
+        hasLoadingFailed = true;
+        logger.severe("Failed to load the address book " + StringUtil.getDetails(e));
+        ui.showLoadingFailed(e);
+    }
+
+    /**
+     * Logs the time taken by each startup phase, and appends it to the file named by
+     * {@code PROPERTY_STARTUP_TIMINGS_FILE} if that property is set.
+     */
+    private void reportStartupTimings() {
+        logger.info("Startup timings: " + startupTimer.getSummary());
+
+        String timingsFile = System.getProperty(PROPERTY_STARTUP_TIMINGS_FILE);
+        if (timingsFile == null) {
+            return;
+        }
+        try {
+            startupTimer.appendTo(Path.of(timingsFile));
+        } catch (IOException e) {
+            logger.warning("Failed to save startup timings to " + timingsFile + " " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Marks the {@code "first frame"} startup phase once {@code scene} has been laid out for the first time,
+     * just before it is drawn.
+     */
+    private void markFirstFrame(Scene scene) {
+        scene.addPostLayoutPulseListener(new Runnable() {
+            private boolean isMarked;
+
+            @Override
+            public void run() {
+                if (isMarked) {
+                    return;
+                }
+                isMarked = true;
+                startupTimer.mark("first frame");
+                // Listeners cannot be removed while the scene is notifying them
+                Platform.runLater(() -> scene.removePostLayoutPulseListener(this));
+            }
+        });
     }
 
     /**
      * Shows birthday reminders when the app starts.
      */
     private void showBirthdayReminders(Logic logic) {
-        String reminderMessage = logic.getBirthdayReminders();
+        // Shared with the reminders shown in the main window, see MainWindow#showLoadingFinished()
+        String reminderMessage = logic.getStartupReminders().getFeedbackToUser();
 
         // Only log if there are actual reminders (not the "no birthdays" messages).
         if (!reminderMessage.contains("No upcoming birthdays found.")
@@ -84,13 +222,19 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * A snapshot of the address book taken when the app last stopped is used instead, if the data file is unchanged.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readAddressBook(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
+        Optional<ReadOnlyAddressBook> snapshotOptional = snapshotStorage.readSnapshot();
+        if (snapshotOptional.isPresent()) {
+            return snapshotOptional.get();
+        }
+
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -106,7 +250,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -188,15 +332,38 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        ui.showLoadingProgress(0);
+        startupTimer.mark("ui");
+        if (primaryStage.getScene() != null) {
+            markFirstFrame(primaryStage.getScene());
+        }
+
+        Thread loader = new Thread(this::loadAddressBook, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        // Lets the running command finish saving, so that the snapshot below matches the data file.
+        // Its popups are cancelled first, so that it cannot be waiting on this thread.
+        commandRunner.close();
+        FxThread.close();
+        commandRunner.awaitTermination();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        if (!isAddressBookLoaded) {
+            // The model only holds part of the data file, so it must not be snapshotted
+            return;
+        }
+        try {
+            snapshotStorage.saveSnapshot(model.getAddressBook());
+        } catch (IOException e) {
+            logger.warning("Failed to save snapshot of the address book " + StringUtil.getDetails(e));
+        }
     }
 }
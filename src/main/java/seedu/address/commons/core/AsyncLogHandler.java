@@ -0,0 +1,134 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log {@link Handler} that hands records to other handlers on a background thread, so that logging does not
+ * wait for the console or the log file.
+ * Records wait in a bounded queue. When the queue is full, new records are dropped rather than blocking the caller,
+ * and the number of dropped records is logged once the queue has room again.
+ * Records are taken off the queue and published while holding this handler's lock, so that the background thread
+ * and {@link #flush()} never publish records out of order.
+ */
+public class AsyncLogHandler extends Handler {
+
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(200);
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> delegates;
+    private final BlockingQueue<LogRecord> queue;
+    private final AtomicInteger droppedCount = new AtomicInteger();
+    private final Thread worker;
+
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code delegates}, holding at most {@code capacity} waiting records.
+     */
+    public AsyncLogHandler(List<Handler> delegates, int capacity) {
+        requireNonNull(delegates);
+        this.delegates = new ArrayList<>(delegates);
+        this.queue = new ArrayBlockingQueue<>(capacity);
+
+        worker = new Thread(this::drainContinuously, "async-log-handler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+
+        // Resolve the caller now, as it cannot be inferred on the background thread
+        record.getSourceClassName();
+
+        if (!queue.offer(record)) {
+            droppedCount.incrementAndGet();
+        }
+        LockSupport.unpark(worker);
+    }
+
+    /**
+     * Publishes every waiting record and flushes the delegates.
+     */
+    @Override
+    public void flush() {
+        drainAvailable();
+        synchronized (this) {
+            delegates.forEach(Handler::flush);
+        }
+    }
+
+    /**
+     * Publishes every waiting record, then stops the background thread and closes the delegates.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        LockSupport.unpark(worker);
+        try {
+            // The background thread may have taken a record off the queue without having published it yet
+            worker.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        synchronized (this) {
+            delegates.forEach(Handler::close);
+        }
+    }
+
+    /**
+     * Returns the number of records dropped and not yet reported.
+     */
+    public int getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void drainContinuously() {
+        while (!isClosed) {
+            drainAvailable();
+            if (queue.isEmpty()) {
+                // publish() and close() unpark this thread, so a record offered after the check is not missed
+                LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+            }
+        }
+    }
+
+    private synchronized void drainAvailable() {
+        LogRecord record;
+        while ((record = queue.poll()) != null) {
+            publishToDelegates(record);
+        }
+        reportDropped();
+    }
+
+    private void reportDropped() {
+        int dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            publishToDelegates(new LogRecord(Level.WARNING,
+                    dropped + " log record(s) were dropped because the log queue was full."));
+        }
+    }
+
+    private synchronized void publishToDelegates(LogRecord record) {
+        for (Handler delegate : delegates) {
+            delegate.publish(record);
+        }
+    }
+}
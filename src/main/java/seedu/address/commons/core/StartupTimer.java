@@ -0,0 +1,123 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Records how long each phase of the app's startup takes.
+ * Each call to {@link #mark(String)} ends a phase, which is timed from the end of the previous phase.
+ * The first phase, {@value #LAUNCH_PHASE}, is the time the JVM took to reach the creation of this timer.
+ * The other phases are named when the timer is created, so that every run is saved with the same columns.
+ */
+public class StartupTimer {
+
+    public static final String LAUNCH_PHASE = "launch";
+    public static final String TOTAL_COLUMN = "total";
+
+    private final List<String> columns = new ArrayList<>();
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> phaseNanos = new LinkedHashMap<>();
+    private long lastMarkNanos;
+
+    /**
+     * Creates a timer whose first phase covers the time since the JVM started, followed by {@code phases}.
+     */
+    public StartupTimer(List<String> phases) {
+        this(phases, System::nanoTime, ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * Creates a timer that reads the time from {@code nanoClock}, with a first phase of {@code launchMillis}
+     * followed by {@code phases}.
+     */
+    StartupTimer(List<String> phases, LongSupplier nanoClock, long launchMillis) {
+        requireNonNull(phases);
+        requireNonNull(nanoClock);
+        columns.add(LAUNCH_PHASE);
+        columns.addAll(phases);
+        this.nanoClock = nanoClock;
+        phaseNanos.put(LAUNCH_PHASE, TimeUnit.MILLISECONDS.toNanos(launchMillis));
+        lastMarkNanos = nanoClock.getAsLong();
+    }
+
+    /**
+     * Ends the phase named {@code phase}, which must be one of the phases given when the timer was created.
+     * Marking the same phase again adds to its time.
+     */
+    public synchronized void mark(String phase) {
+        requireNonNull(phase);
+        assert columns.contains(phase) : "Unknown startup phase " + phase;
+        long now = nanoClock.getAsLong();
+        phaseNanos.merge(phase, now - lastMarkNanos, Long::sum);
+        lastMarkNanos = now;
+    }
+
+    /**
+     * Returns the time taken by each phase in milliseconds, in the order the phases were first marked.
+     */
+    public synchronized Map<String, Long> getPhaseMillis() {
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase, TimeUnit.NANOSECONDS.toMillis(nanos)));
+        return phaseMillis;
+    }
+
+    /**
+     * Returns the total time taken by all phases so far in milliseconds.
+     */
+    public synchronized long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(phaseNanos.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    /**
+     * Returns a one-line summary of the phases, e.g. {@code "launch 310 ms, config 12 ms (total 322 ms)"}.
+     */
+    public String getSummary() {
+        String phases = getPhaseMillis().entrySet().stream()
+                .map(entry -> entry.getKey() + " " + entry.getValue() + " ms")
+                .collect(Collectors.joining(", "));
+        return phases + " (" + TOTAL_COLUMN + " " + getTotalMillis() + " ms)";
+    }
+
+    /**
+     * Appends the phase times in milliseconds as a row to the CSV file at {@code csvFile},
+     * writing a header row of the phase names first if the file does not exist yet.
+     * The columns are always the phases given when the timer was created, in that order,
+     * and phases that have not been marked yet are left blank.
+     *
+     * @throws IOException if there was an error writing to the file.
+     */
+    public void appendTo(Path csvFile) throws IOException {
+        requireNonNull(csvFile);
+        Map<String, Long> phaseMillis = getPhaseMillis();
+
+        StringBuilder rows = new StringBuilder();
+        if (!Files.exists(csvFile)) {
+            rows.append(String.join(",", columns)).append(',').append(TOTAL_COLUMN).append('\n');
+        }
+        for (String column : columns) {
+            Long millis = phaseMillis.get(column);
+            rows.append(millis == null ? "" : millis).append(',');
+        }
+        rows.append(getTotalMillis()).append('\n');
+
+        Path parent = csvFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(csvFile, rows, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.commons.core.index;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of {@code Index}es, stored as sorted, disjoint ranges of one-based indexes.
+ * A range such as {@code 1-100000} takes constant space, and {@code Index} objects are only created while iterating.
+ * Iteration is in increasing order.
+ */
+public class IndexRangeSet extends AbstractSet<Index> {
+
+    private static final IndexRangeSet EMPTY = new IndexRangeSet(new int[0], new int[0]);
+
+    // One-based and inclusive; starts[i] <= ends[i] < starts[i + 1] - 1
+    private final int[] starts;
+    private final int[] ends;
+    private final int size;
+
+    private IndexRangeSet(int[] starts, int[] ends) {
+        this.starts = starts;
+        this.ends = ends;
+
+        // Summed as a long, so that large ranges never wrap around to a negative size
+        long total = 0;
+        for (int i = 0; i < starts.length; i++) {
+            total += (long) ends[i] - starts[i] + 1;
+        }
+        this.size = Math.toIntExact(total);
+    }
+
+    /**
+     * Returns an empty {@code IndexRangeSet}.
+     */
+    public static IndexRangeSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns an {@code IndexRangeSet} holding the one-based indexes {@code start} to {@code end}, inclusive.
+     */
+    public static IndexRangeSet ofRange(int start, int end) {
+        return new Builder().addRange(start, end).build();
+    }
+
+    /**
+     * Returns an {@code IndexRangeSet} holding the given {@code indexes}.
+     */
+    public static IndexRangeSet of(Collection<Index> indexes) {
+        requireNonNull(indexes);
+        if (indexes instanceof IndexRangeSet) {
+            return (IndexRangeSet) indexes;
+        }
+
+        Builder builder = new Builder();
+        for (Index index : indexes) {
+            builder.add(index.getOneBased());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (!(o instanceof Index)) {
+            return false;
+        }
+        int oneBased = ((Index) o).getOneBased();
+        int range = findRangeEndingAtOrAfter(oneBased);
+        return range < starts.length && starts[range] <= oneBased;
+    }
+
+    /**
+     * Returns the smallest index.
+     *
+     * @throws NoSuchElementException if this set is empty.
+     */
+    public Index first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return Index.fromOneBased(starts[0]);
+    }
+
+    /**
+     * Returns the largest index.
+     *
+     * @throws NoSuchElementException if this set is empty.
+     */
+    public Index last() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return Index.fromOneBased(ends[ends.length - 1]);
+    }
+
+    /**
+     * Returns the smallest index whose one-based value is at least {@code oneBased}, or null if there is none.
+     */
+    public Index ceiling(int oneBased) {
+        int range = findRangeEndingAtOrAfter(oneBased);
+        if (range == starts.length) {
+            return null;
+        }
+        return Index.fromOneBased(Math.max(starts[range], oneBased));
+    }
+
+    /**
+     * Returns the first index that is out of bounds for a list of {@code listSize} items, or null if all are in bounds.
+     */
+    public Index firstOutOfBounds(int listSize) {
+        return ceiling(listSize + 1);
+    }
+
+    /**
+     * Returns the number of disjoint ranges in this set.
+     */
+    public int getRangeCount() {
+        return starts.length;
+    }
+
+    @Override
+    public Iterator<Index> iterator() {
+        return new Iterator<>() {
+            private int range = 0;
+            private int next = starts.length == 0 ? 0 : starts[0];
+
+            @Override
+            public boolean hasNext() {
+                return range < starts.length;
+            }
+
+            @Override
+            public Index next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                Index index = Index.fromOneBased(next);
+                if (next == ends[range]) {
+                    range++;
+                    next = range < starts.length ? starts[range] : 0;
+                } else {
+                    next++;
+                }
+                return index;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (other instanceof IndexRangeSet) {
+            IndexRangeSet otherSet = (IndexRangeSet) other;
+            return Arrays.equals(starts, otherSet.starts) && Arrays.equals(ends, otherSet.ends);
+        }
+
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // Same as AbstractSet#hashCode, i.e. the sum of the zero-based indexes, worked out range by range.
+        // Overflow wraps around just like the int sum does, so long arithmetic gives the same low 32 bits.
+        long hash = 0;
+        for (int i = 0; i < starts.length; i++) {
+            long first = starts[i] - 1L;
+            long last = ends[i] - 1L;
+            long count = last - first + 1;
+            hash += count % 2 == 0 ? (count / 2) * (first + last) : count * ((first + last) / 2);
+        }
+        return (int) hash;
+    }
+
+    /**
+     * Returns the position of the first range that ends at or after {@code oneBased}, or the number of ranges if
+     * there is no such range.
+     */
+    private int findRangeEndingAtOrAfter(int oneBased) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] < oneBased) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Collects one-based indexes and ranges, in any order and possibly overlapping, into an {@code IndexRangeSet}.
+     */
+    public static class Builder {
+        private final List<int[]> ranges = new ArrayList<>();
+
+        /**
+         * Adds the one-based index {@code oneBased}.
+         */
+        public Builder add(int oneBased) {
+            return addRange(oneBased, oneBased);
+        }
+
+        /**
+         * Adds the one-based indexes {@code start} to {@code end}, inclusive.
+         *
+         * @throws IllegalArgumentException if {@code start} is not positive or {@code end} is less than {@code start}.
+         */
+        public Builder addRange(int start, int end) {
+            if (start <= 0 || end < start) {
+                throw new IllegalArgumentException("Invalid index range: " + start + "-" + end);
+            }
+            ranges.add(new int[] {start, end});
+            return this;
+        }
+
+        /**
+         * Returns the set of all indexes added so far, with overlapping and adjacent ranges merged.
+         */
+        public IndexRangeSet build() {
+            if (ranges.isEmpty()) {
+                return EMPTY;
+            }
+
+            List<int[]> sorted = new ArrayList<>(ranges);
+            sorted.sort(Comparator.comparingInt(range -> range[0]));
+
+            int[] starts = new int[sorted.size()];
+            int[] ends = new int[sorted.size()];
+            int count = 0;
+            for (int[] range : sorted) {
+                // Widened to long, as the end of the previous range may be Integer.MAX_VALUE
+                if (count > 0 && range[0] <= (long) ends[count - 1] + 1) {
+                    ends[count - 1] = Math.max(ends[count - 1], range[1]);
+                } else {
+                    starts[count] = range[0];
+                    ends[count] = range[1];
+                    count++;
+                }
+            }
+            return new IndexRangeSet(Arrays.copyOf(starts, count), Arrays.copyOf(ends, count));
+        }
+    }
+}
@@ -96,4 +96,40 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code c} is a whitespace character as matched by {@code \\s} in a regular expression,
+     * i.e. a space, tab, line feed, vertical tab, form feed or carriage return.
+     */
+    public static boolean isRegexWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+    }
+
+    /**
+     * Returns {@code s} with every run of whitespace (as matched by {@code \\s+}) replaced by a single space.
+     */
+    public static String collapseWhitespace(String s) {
+        requireNonNull(s);
+
+        StringBuilder collapsed = new StringBuilder(s.length());
+        boolean isInWhitespace = false;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!isRegexWhitespace(c)) {
+                collapsed.append(c);
+                isInWhitespace = false;
+            } else if (!isInWhitespace) {
+                collapsed.append(' ');
+                isInWhitespace = true;
+            }
+        }
+        return collapsed.toString();
+    }
 }
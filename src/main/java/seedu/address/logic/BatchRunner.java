@@ -0,0 +1,156 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Runs a script of commands, one per line, against a {@code Model} without any UI.
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are skipped. A failed command is reported and the
+ * script carries on, even if the command failed with an unexpected exception, while an exit command ends the script.
+ * The address book is saved every {@code saveInterval} commands, if positive, and once more at the end,
+ * instead of after every command as {@link LogicManager} does.
+ */
+public class BatchRunner {
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_COMMAND_RESULT = "%1$5d  %2$-5s %3$9.3f ms  %4$s";
+    public static final String MESSAGE_COMMAND_ERROR = "%1$5s  %2$s";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+    public static final String MESSAGE_SAVED = "%1$5s  %2$-5s %3$9.3f ms  saved to %4$s";
+    public static final String MESSAGE_SUMMARY = "Ran %1$d command(s) in %2$d ms, %3$d failed.";
+
+    private static final String STATUS_OK = "ok";
+    private static final String STATUS_FAILED = "FAIL";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final AddressBookParser addressBookParser;
+    private final int saveInterval;
+    private final PrintStream out;
+
+    private int commandsSinceSave;
+
+    /**
+     * Creates a {@code BatchRunner} that runs commands parsed by {@code addressBookParser} against {@code model},
+     * saves to {@code storage} and reports to {@code out}.
+     *
+     * @param saveInterval the number of commands to run between saves, or 0 to only save at the end.
+     */
+    public BatchRunner(Model model, Storage storage, AddressBookParser addressBookParser, int saveInterval,
+            PrintStream out) {
+        requireAllNonNull(model, storage, addressBookParser, out);
+        if (saveInterval < 0) {
+            throw new IllegalArgumentException("Save interval cannot be negative: " + saveInterval);
+        }
+        this.model = model;
+        this.storage = storage;
+        this.addressBookParser = addressBookParser;
+        this.saveInterval = saveInterval;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command in {@code script}, printing the time taken by each, and returns the number of commands
+     * that failed.
+     *
+     * @throws IOException if the script could not be read, or the address book could not be saved.
+     *     Commands run before a failed save may be lost, so no further commands are run.
+     */
+    public int run(BufferedReader script) throws IOException {
+        long startNanos = System.nanoTime();
+        int commandCount = 0;
+        int failedCount = 0;
+        commandsSinceSave = 0;
+
+        String line;
+        int lineNumber = 0;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_MARKER)) {
+                continue;
+            }
+
+            commandCount++;
+            CommandResult result = runCommand(lineNumber, commandText);
+            if (result == null) {
+                failedCount++;
+                continue;
+            }
+
+            commandsSinceSave++;
+            if (saveInterval > 0 && commandsSinceSave >= saveInterval) {
+                save();
+            }
+            if (result.isExit()) {
+                break;
+            }
+        }
+
+        if (commandsSinceSave > 0) {
+            save();
+        }
+
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        out.println(String.format(MESSAGE_SUMMARY, commandCount, totalMillis, failedCount));
+        return failedCount;
+    }
+
+    /**
+     * Parses and executes {@code commandText}, printing the outcome and the time taken.
+     * Returns the result of the command, or null if it failed.
+     */
+    private CommandResult runCommand(int lineNumber, String commandText) {
+        logger.fine("----------------[SCRIPT COMMAND][" + commandText + "]");
+        long startNanos = System.nanoTime();
+        try {
+            Command command = addressBookParser.parseCommand(commandText);
+            CommandResult result = command.execute(model);
+            out.println(String.format(MESSAGE_COMMAND_RESULT, lineNumber, STATUS_OK, millisSince(startNanos),
+                    commandText));
+            return result;
+        } catch (CommandException | ParseException e) {
+            out.println(String.format(MESSAGE_COMMAND_RESULT, lineNumber, STATUS_FAILED, millisSince(startNanos),
+                    commandText));
+            out.println(String.format(MESSAGE_COMMAND_ERROR, "", e.getMessage()));
+            return null;
+        } catch (RuntimeException e) {
+            // A bug in one command should not lose the changes made by the rest of the script
+            logger.severe("Command on line " + lineNumber + " failed unexpectedly " + StringUtil.getDetails(e));
+            out.println(String.format(MESSAGE_COMMAND_RESULT, lineNumber, STATUS_FAILED, millisSince(startNanos),
+                    commandText));
+            out.println(String.format(MESSAGE_COMMAND_ERROR, "", String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+            return null;
+        }
+    }
+
+    private void save() throws IOException {
+        long startNanos = System.nanoTime();
+        storage.saveAddressBook(model.getAddressBook());
+        commandsSinceSave = 0;
+        out.println(String.format(MESSAGE_SAVED, "", STATUS_OK, millisSince(startNanos),
+                storage.getAddressBookFilePath()));
+    }
+
+    private static double millisSince(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,183 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands one at a time on a single background thread, in the order they were submitted,
+ * so that parsing, executing and saving a command does not hold up the JavaFX application thread.
+ * Once the address book has loaded, that thread is the only one that changes the model.
+ * The outcome of each command is handed back through the given callback executor, e.g. {@code Platform::runLater}.
+ */
+public class CommandRunner {
+
+    public static final String MESSAGE_CANCELLED = "\"%1$s\" was not run as the application is closing.";
+    public static final String MESSAGE_READ_CANCELLED = "The model was not read as the application is closing.";
+
+    private static final long CLOSE_TIMEOUT_SECONDS = 30;
+    private static final Logger logger = LogsCenter.getLogger(CommandRunner.class);
+
+    private final Logic logic;
+    private final Executor callbackExecutor;
+    private final ExecutorService commandThread;
+    // Commands submitted and not yet finished, including the one running
+    private final AtomicInteger pendingCount = new AtomicInteger();
+
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a {@code CommandRunner} that executes commands with {@code logic}
+     * and completes their results on {@code callbackExecutor}.
+     */
+    public CommandRunner(Logic logic, Executor callbackExecutor) {
+        requireAllNonNull(logic, callbackExecutor);
+        this.logic = logic;
+        this.callbackExecutor = callbackExecutor;
+        this.commandThread = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-runner");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Queues {@code commandText} to run after every command submitted before it.
+     * The returned future is completed on the callback executor with the result of the command,
+     * or with the {@code CommandException} or {@code ParseException} it threw.
+     * It is cancelled if the runner is closed before the command starts.
+     */
+    public CompletableFuture<CommandResult> submit(String commandText) {
+        requireNonNull(commandText);
+        CompletableFuture<CommandResult> future = new CompletableFuture<>();
+        if (isClosed) {
+            future.completeExceptionally(cancellation(commandText));
+            return future;
+        }
+
+        pendingCount.incrementAndGet();
+        commandThread.execute(() -> run(commandText, future));
+        return future;
+    }
+
+    /**
+     * Queues {@code query} to read the model through the logic after every command submitted before it,
+     * e.g. to bring a window up to date once a command has changed the model.
+     * The returned future is completed on the callback executor with the value returned by {@code query},
+     * or with the exception it threw. It is cancelled if the runner is closed before the query starts.
+     */
+    public <T> CompletableFuture<T> read(Function<? super Logic, ? extends T> query) {
+        requireNonNull(query);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        if (isClosed) {
+            future.completeExceptionally(new CancellationException(MESSAGE_READ_CANCELLED));
+            return future;
+        }
+
+        commandThread.execute(() -> {
+            T value = null;
+            Throwable error = null;
+            if (isClosed) {
+                error = new CancellationException(MESSAGE_READ_CANCELLED);
+            } else {
+                try {
+                    value = query.apply(logic);
+                } catch (RuntimeException e) {
+                    logger.severe("Unexpected error while reading the model: " + StringUtil.getDetails(e));
+                    error = e;
+                }
+            }
+            complete(future, value, error);
+        });
+        return future;
+    }
+
+    /**
+     * Returns the number of commands submitted that have not finished, including the one running.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    public boolean isClosed() {
+        return isClosed;
+    }
+
+    /**
+     * Stops accepting commands and cancels the commands still waiting, without waiting for the command that is
+     * running, if any. The running command is not interrupted, so that it never stops halfway through saving.
+     *
+     * @see #awaitTermination()
+     */
+    public void close() {
+        isClosed = true;
+        commandThread.shutdown();
+    }
+
+    /**
+     * Waits for the command that was running when the runner was closed, if any, to finish.
+     * The caller must make sure that the command cannot be waiting on the calling thread, e.g. for a popup.
+     */
+    public void awaitTermination() {
+        assert isClosed : "The runner must be closed first";
+        try {
+            if (!commandThread.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for the running command to finish.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(String commandText, CompletableFuture<CommandResult> future) {
+        CommandResult result = null;
+        Throwable error = null;
+        if (isClosed) {
+            error = cancellation(commandText);
+        } else {
+            try {
+                result = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected error while running \"" + commandText + "\": " + StringUtil.getDetails(e));
+                error = e;
+            }
+        }
+
+        pendingCount.decrementAndGet();
+        complete(future, result, error);
+    }
+
+    /**
+     * Completes {@code future} on the callback executor with {@code value}, or with {@code error} if there is one.
+     */
+    private <T> void complete(CompletableFuture<T> future, T value, Throwable error) {
+        callbackExecutor.execute(() -> {
+            if (error == null) {
+                future.complete(value);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+    }
+
+    private static CancellationException cancellation(String commandText) {
+        return new CancellationException(String.format(MESSAGE_CANCELLED, commandText));
+    }
+}
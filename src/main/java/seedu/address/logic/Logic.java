@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -8,6 +10,8 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 
 /**
@@ -33,6 +37,16 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /** Returns an unmodifiable view of the favourites in the address book */
+    ObservableList<Person> getFavouritePersonList();
+
+    /**
+     * Returns the attendance of every student in each of {@code studentClasses} during {@code month},
+     * one block per class. As this reads the model, it must be run on the command thread,
+     * e.g. through {@link CommandRunner#read}.
+     */
+    List<MonthBlock> getClassMonthAttendance(List<Class> studentClasses, YearMonth month);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -49,7 +63,17 @@ public interface Logic {
     void setGuiSettings(GuiSettings guiSettings);
 
     /**
-     * Returns reminder for birthdays (including upcoming).
+     * Returns the birthday reminders to show at startup, computed the first time this is called and
+     * shared by every later call. Unlike executing {@code remind}, this never saves the address book.
+     * Must only be called once the address book has loaded.
+     */
+    CommandResult getStartupReminders();
+
+    /**
+     * Returns the attendance alerts of all students, as executing {@code alerts} would show them.
+     * This is worked out from the attendance statistics kept since the address book was loaded, without parsing
+     * any records, but still reads every student, so it is run on the command thread, e.g. through
+     * {@link CommandRunner#read}.
      */
-    String getBirthdayReminders();
+    CommandResult getAttendanceAlerts();
 }
@@ -3,11 +3,15 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AlertsCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.RemindCommand;
@@ -16,6 +20,8 @@ import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
@@ -33,6 +39,7 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private CommandResult startupReminders;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
@@ -44,10 +51,16 @@ public class LogicManager implements Logic {
     }
 
     @Override
-    public String getBirthdayReminders() {
-        RemindCommand remindCommand = new RemindCommand();
-        CommandResult result = remindCommand.execute(model);
-        return result.getFeedbackToUser();
+    public CommandResult getStartupReminders() {
+        if (startupReminders == null) {
+            startupReminders = new RemindCommand().execute(model);
+        }
+        return startupReminders;
+    }
+
+    @Override
+    public CommandResult getAttendanceAlerts() {
+        return new AlertsCommand().execute(model);
     }
 
     @Override
@@ -79,6 +92,20 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<Person> getFavouritePersonList() {
+        return model.getFavouritePersonList();
+    }
+
+    @Override
+    public List<MonthBlock> getClassMonthAttendance(List<Class> studentClasses, YearMonth month) {
+        List<MonthBlock> blocks = new ArrayList<>(studentClasses.size());
+        for (Class studentClass : studentClasses) {
+            blocks.add(model.getClassMonthAttendance(studentClass, month));
+        }
+        return blocks;
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
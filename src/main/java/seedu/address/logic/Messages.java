@@ -33,7 +33,7 @@ public class Messages {
             "Please enter a valid index number\nor press ESC to cancel and go back to main window.";
     public static final String MESSAGE_INSTRUCTION = "(Press ESC to cancel or ENTER to return to main window)";
     public static final String MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS =
-            "Index(es) must be positive integers separated by commas.";
+            "Index(es) must be positive integers or ranges (e.g. 2-5) separated by commas.";
 
 
 
@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceAlert;
+import seedu.address.model.person.AttendanceAnalytics;
+
+/**
+ * Shows students whose attendance stands out from their class.
+ */
+public class AlertsCommand extends Command {
+
+    public static final String COMMAND_WORD = "alerts";
+
+    public static final String MESSAGE_NO_ALERTS = "No attendance alerts.";
+    public static final String MESSAGE_ALERTS_HEADER = "Attendance alerts (%d):";
+    public static final String MESSAGE_ALERTS_LEGEND = "Flagged: more than "
+            + AttendanceAnalytics.ABSENCE_STREAK_THRESHOLD + " consecutive absences, or a late rate or recent "
+            + "attendance far (" + (int) AttendanceAnalytics.DEVIATION_THRESHOLD + " standard deviations) "
+            + "from the average of the rest of the class.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
+        List<AttendanceAlert> alerts = model.getAttendanceAlerts();
+        if (alerts.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_ALERTS);
+        }
+
+        List<String> rows = new ArrayList<>(alerts.size() + 2);
+        for (AttendanceAlert alert : alerts) {
+            rows.add("• " + alert.toDisplayString());
+        }
+        rows.add("");
+        rows.add(MESSAGE_ALERTS_LEGEND);
+
+        return CommandResult.withRows(String.format(MESSAGE_ALERTS_HEADER, alerts.size()), rows);
+    }
+}
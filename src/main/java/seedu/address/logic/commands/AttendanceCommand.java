@@ -7,14 +7,14 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.InvalidDateException;
@@ -42,6 +42,8 @@ public class AttendanceCommand extends Command {
             + PREFIX_DATE + "29-12-2025";
 
     public static final String MESSAGE_SUCCESS = "Modified %d out of %d contacts as %s on %s.";
+    public static final String MESSAGE_STUDENTS_MODIFIED = "Students with updated attendance:";
+    public static final String MESSAGE_CONTACTS_NOT_MODIFIED = "Below are the unmodified contacts:";
 
     private static final Logger logger = LogsCenter.getLogger(AttendanceCommand.class);
 
@@ -52,13 +54,10 @@ public class AttendanceCommand extends Command {
         PRESENT, LATE, SICK, ABSENT, REMOVE
     }
 
-    private final Set<Index> indexes;
+    private final IndexRangeSet indexes;
     private final LocalDate date;
     private final AttendanceStatus status;
 
-    private final StringBuilder studentsModified = new StringBuilder();
-    private final StringBuilder contactsNotModified = new StringBuilder();
-
     /**
      * Creates a AttendanceCommand to mark attendance of the
      * specified indexes.
@@ -72,8 +71,7 @@ public class AttendanceCommand extends Command {
         requireNonNull(date);
         requireNonNull(status);
 
-        this.indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
-        this.indexes.addAll(indexes);
+        this.indexes = IndexRangeSet.of(indexes);
         this.date = date;
         this.status = status;
     }
@@ -88,61 +86,65 @@ public class AttendanceCommand extends Command {
             throw new CommandException("No contacts available to mark attendance.");
         }
 
-        int totalModified = markAll(lastShownList);
+        List<String> studentsModified = new ArrayList<>();
+        List<String> contactsNotModified = new ArrayList<>();
+        markAll(lastShownList, studentsModified, contactsNotModified);
 
-        return getCommandResult(totalModified);
+        return getCommandResult(studentsModified, contactsNotModified);
     }
 
     /**
-     * Returns a CommandResult object based on the number of marked students and
-     * display the details of both marked and unmarked contacts.
+     * Returns a CommandResult object based on the number of marked students,
+     * with a row for each of the marked and unmarked contacts.
      *
-     * @param totalModified The number of students successfully marked.
+     * @param studentsModified A row for each student successfully marked.
+     * @param contactsNotModified A row for each contact not marked, with the reason.
      * @return A CommandResult object.
-     * @throws CommandException If an error occurs during command execution.
      */
-    private CommandResult getCommandResult(int totalModified) throws CommandException {
+    private CommandResult getCommandResult(List<String> studentsModified, List<String> contactsNotModified) {
+        int totalModified = studentsModified.size();
         logger.info("Successfully modified attendance for " + totalModified + " students");
         String dateMsg = date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"));
 
+        List<String> rows = new ArrayList<>(studentsModified.size() + contactsNotModified.size() + 4);
         if (!studentsModified.isEmpty()) {
-            studentsModified.insert(0, "\n\nStudents with updated attendance:");
+            rows.add("");
+            rows.add(MESSAGE_STUDENTS_MODIFIED);
+            rows.addAll(studentsModified);
         }
 
         if (!contactsNotModified.isEmpty()) {
-            contactsNotModified.insert(0, "\n\nBelow are the unmodified contacts:");
+            rows.add("");
+            rows.add(MESSAGE_CONTACTS_NOT_MODIFIED);
+            rows.addAll(contactsNotModified);
         }
 
-        return new CommandResult(String.format(
-                MESSAGE_SUCCESS, totalModified, indexes.size(), status, dateMsg)
-                + studentsModified.append(contactsNotModified));
+        return CommandResult.withRows(String.format(
+                MESSAGE_SUCCESS, totalModified, indexes.size(), status, dateMsg), rows);
     }
 
     /**
-     * Marks all specified indexes (if they are a student) and returns the
-     * number of contacts actually marked.
+     * Marks all specified indexes (if they are a student), adding a row for each contact
+     * to {@code studentsModified} or {@code contactsNotModified}.
      *
-     * @return The total number of marked contacts that is a student.
      * @throws CommandException If an error occurs during command execution.
      */
-    private int markAll(List<Person> lastShownList) throws CommandException {
-        int totalModified = 0;
+    private void markAll(List<Person> lastShownList, List<String> studentsModified,
+            List<String> contactsNotModified) throws CommandException {
+        // Check every index before marking anyone, so that an invalid index leaves all contacts unchanged
+        Index invalidIndex = indexes.firstOutOfBounds(lastShownList.size());
+        if (invalidIndex != null) {
+            logger.warning(() -> "Invalid index provided: " + invalidIndex.getOneBased());
+            throw new CommandException(String.format("%s: %d",
+                    MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, invalidIndex.getOneBased()));
+        }
 
         for (Index i : indexes) {
-            int zeroBasedIndex = i.getZeroBased();
-
-            // Check for invalid index (negative or out of range)
-            if (zeroBasedIndex < 0 || zeroBasedIndex >= lastShownList.size()) {
-                logger.warning("Invalid index provided: " + i.getOneBased());
-                throw new CommandException(String.format("%s: %d",
-                        MESSAGE_INVALID_PERSON_DISPLAYED_INDEX, i.getOneBased()));
-            }
-
-            Person personToEdit = lastShownList.get(zeroBasedIndex);
+            Person personToEdit = lastShownList.get(i.getZeroBased());
 
             // Ensure person is a student
             if (personToEdit.isStudent()) {
-                logger.fine("Marking attendance for " + personToEdit.getName() + " on " + date + " as " + status);
+                logger.fine(() -> "Marking attendance for " + personToEdit.getName() + " on " + date + " as " + status);
 
                 try {
                     boolean isDuplicate = false;
@@ -153,26 +155,27 @@ public class AttendanceCommand extends Command {
                     }
 
                     if (isDuplicate) {
-                        logger.warning("Duplicate attendance: " + i.getOneBased());
-                        contactsNotModified.append("\n").append(i.getOneBased()).append(". ")
-                                .append(personToEdit.getName()).append(" [Status unchanged - same as previous record]");
+                        logger.fine(() -> "Duplicate attendance: " + i.getOneBased());
+                        contactsNotModified.add(formatRow(i, personToEdit)
+                                + " [Status unchanged - same as previous record]");
                         continue;
                     }
 
-                    studentsModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName());
-                    totalModified++;
+                    studentsModified.add(formatRow(i, personToEdit));
                 } catch (InvalidDateException e) {
-                    logger.warning("Invalid date for attendance: " + i.getOneBased());
-                    contactsNotModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName())
-                            .append(" [Date not within six years of birthdate or is a future date]");
+                    logger.fine(() -> "Invalid date for attendance: " + i.getOneBased());
+                    contactsNotModified.add(formatRow(i, personToEdit)
+                            + " [Date not within six years of birthdate or is a future date]");
                 }
             } else {
-                logger.warning("Contact is not a student: " + i.getOneBased());
-                contactsNotModified.append("\n").append(i.getOneBased()).append(". ").append(personToEdit.getName())
-                        .append(" [Not a student]");
+                logger.fine(() -> "Contact is not a student: " + i.getOneBased());
+                contactsNotModified.add(formatRow(i, personToEdit) + " [Not a student]");
             }
         }
-        return totalModified;
+    }
+
+    private static String formatRow(Index index, Person person) {
+        return index.getOneBased() + ". " + person.getName();
     }
 
 
@@ -187,16 +190,7 @@ public class AttendanceCommand extends Command {
         }
 
         AttendanceCommand otherAttendanceCommand = (AttendanceCommand) other;
-
-        // Sort indexes before comparison
-        List<Index> thisSortedIndexes = this.indexes.stream()
-                .sorted((a, b) -> Integer.compare(a.getZeroBased(), b.getZeroBased()))
-                .toList();
-        List<Index> otherSortedIndexes = otherAttendanceCommand.indexes.stream()
-                .sorted((a, b) -> Integer.compare(a.getZeroBased(), b.getZeroBased()))
-                .toList();
-
-        return thisSortedIndexes.equals(otherSortedIndexes)
+        return indexes.equals(otherAttendanceCommand.indexes)
                 && date.equals(otherAttendanceCommand.date)
                 && status.equals(otherAttendanceCommand.status);
     }
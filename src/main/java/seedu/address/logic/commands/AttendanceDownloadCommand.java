@@ -2,12 +2,16 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassDailyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateClassMonthlyAttendanceReport;
-import static seedu.address.logic.commands.util.AttendanceCsvUtil.generateStudentsMonthlyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.createClassDailyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.createClassMonthlyAttendanceReport;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.createStudentsMonthlyAttendanceReport;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUNDLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_XLSX;
+import static seedu.address.storage.AttendanceCsvStorage.createAttendanceBundle;
+import static seedu.address.storage.AttendanceCsvStorage.createAttendanceWorkbook;
 import static seedu.address.storage.AttendanceCsvStorage.saveAttendanceCsv;
 
 import java.io.IOException;
@@ -17,15 +21,19 @@ import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.SortedSet;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.AttendanceReport;
 import seedu.address.model.Model;
 import seedu.address.model.person.Class;
+import seedu.address.storage.AttendanceBundleWriter;
+import seedu.address.storage.AttendanceXlsxWriter;
 
 /**
  * Downloads attendance report of a specific student or class
@@ -43,10 +51,16 @@ public class AttendanceDownloadCommand extends Command {
             + "1. " + COMMAND_WORD + " INDEX(es) [m/MONTH]\n"
             + "2. " + COMMAND_WORD + " c/CLASS(es) [d/DATE]\n"
             + "3. " + COMMAND_WORD + " c/CLASS(es) [m/MONTH]\n"
+            + "Add " + PREFIX_BUNDLE + " to save all reports into one ZIP file, or "
+            + PREFIX_XLSX + " to save them into one Excel workbook with a sheet per report.\n"
             + "Examples:\n"
             + "• " + COMMAND_WORD + " 1-5,10,13 " + PREFIX_MONTH + "12-2025\n"
             + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_DATE + "12-12-2025\n"
-            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025";
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025 "
+            + PREFIX_BUNDLE + "\n"
+            + "• " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K2B " + PREFIX_MONTH + "12-2025 "
+            + PREFIX_XLSX;
 
     public static final String MESSAGE_SUCCESS = "Attendance report(s) downloaded.";
 
@@ -55,33 +69,59 @@ public class AttendanceDownloadCommand extends Command {
 
     private static final Logger logger = LogsCenter.getLogger(AttendanceCommand.class);
 
-    private final SortedSet<Index> indexes;
+    /**
+     * Represents how the generated report(s) are saved.
+     */
+    public enum ReportFormat {
+        CSV, ZIP, XLSX
+    }
+
+    private final IndexRangeSet indexes;
     private final List<Class> studentClass;
     private final LocalDate date;
     private final YearMonth month;
     private final Boolean userProvideDate;
     private final Boolean userProvideMonth;
+    private final ReportFormat format;
 
     /**
      * Creates a AttendanceDownloadCommand to download
-     * attendance report.
+     * attendance report(s) as separate CSV files.
      *
      * @param indexes Which index(es) to download.
      * @param studentClass Which class(es) to download.
      * @param date Which date to download attendance report.
      * @param month Which month to download attendance report.
      */
-    public AttendanceDownloadCommand(SortedSet<Index> indexes, List<Class> studentClass, LocalDate date,
+    public AttendanceDownloadCommand(Set<Index> indexes, List<Class> studentClass, LocalDate date,
                                      YearMonth month, Boolean userProvideDate, Boolean userProvideMonth) {
+        this(indexes, studentClass, date, month, userProvideDate, userProvideMonth, ReportFormat.CSV);
+    }
+
+    /**
+     * Creates a AttendanceDownloadCommand to download
+     * attendance report(s).
+     *
+     * @param indexes Which index(es) to download.
+     * @param studentClass Which class(es) to download.
+     * @param date Which date to download attendance report.
+     * @param month Which month to download attendance report.
+     * @param format How the report(s) are saved.
+     */
+    public AttendanceDownloadCommand(Set<Index> indexes, List<Class> studentClass, LocalDate date,
+                                     YearMonth month, Boolean userProvideDate, Boolean userProvideMonth,
+                                     ReportFormat format) {
         requireNonNull(date);
         requireNonNull(month);
+        requireNonNull(format);
 
-        this.indexes = indexes;
+        this.indexes = indexes == null ? null : IndexRangeSet.of(indexes);
         this.studentClass = studentClass;
         this.date = date;
         this.month = month;
         this.userProvideDate = userProvideDate;
         this.userProvideMonth = userProvideMonth;
+        this.format = format;
     }
 
     @Override
@@ -92,6 +132,11 @@ public class AttendanceDownloadCommand extends Command {
             throw new CommandException("No contacts available to download attendance.");
         }
 
+        if (indexes != null && indexes.firstOutOfBounds(model.getFilteredPersonList().size()) != null) {
+            logger.warning("Index out of bound: " + indexes.last().getOneBased());
+            throw new CommandException(MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
         if (userProvideDate) {
             checkValidDate();
         } else if (userProvideMonth) {
@@ -99,18 +144,26 @@ public class AttendanceDownloadCommand extends Command {
         }
 
         try {
-            String filePath = "";
-
-            if (indexes != null) {
-                filePath = downloadStudentMonthlyAttendanceReport(model);
-            } else {
-                // Class attendance report default to monthly
-                if (userProvideDate) {
-                    filePath = downloadClassDailyAttendanceReport(model, filePath);
-                } else {
-                    filePath = downloadClassMonthlyAttendanceReport(model, filePath);
+            String filePath;
+
+            switch (format) {
+            case ZIP -> {
+                try (AttendanceBundleWriter bundle = createAttendanceBundle()) {
+                    filePath = downloadReports(model, (report, fileName, sheetName) ->
+                            bundle.addReport(report.toCsv(), fileName));
+                    bundle.finish();
+                }
+            }
+            case XLSX -> {
+                try (AttendanceXlsxWriter workbook = createAttendanceWorkbook(getWorkbookFileName())) {
+                    filePath = downloadReports(model, (report, fileName, sheetName) ->
+                            workbook.addSheet(report, sheetName));
+                    workbook.finish();
                 }
             }
+            default -> filePath = downloadReports(model, (report, fileName, sheetName) ->
+                    saveAttendanceCsv(report.toCsv(), fileName));
+            }
 
             return new CommandResult(MESSAGE_SUCCESS + " Saved to:\n" + filePath);
         } catch (IOException e) {
@@ -122,6 +175,37 @@ public class AttendanceDownloadCommand extends Command {
         }
     }
 
+    /**
+     * Generates the requested report(s) and hands each of them to {@code saver}.
+     *
+     * @return The path reported by {@code saver} for the last saved report.
+     */
+    private String downloadReports(Model model, ReportSaver saver) throws IOException, CommandException {
+        if (indexes != null) {
+            return downloadStudentMonthlyAttendanceReport(model, saver);
+        }
+
+        // Class attendance report default to monthly
+        if (userProvideDate) {
+            return downloadClassDailyAttendanceReport(model, saver);
+        } else {
+            return downloadClassMonthlyAttendanceReport(model, saver);
+        }
+    }
+
+    /**
+     * Returns the file name of the workbook holding every requested report.
+     */
+    private String getWorkbookFileName() {
+        if (indexes != null) {
+            return "student_attendance_" + month.format(DateTimeFormatter.ofPattern("MM-yyyy")) + ".xlsx";
+        } else if (userProvideDate) {
+            return "class_attendance_" + date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")) + ".xlsx";
+        } else {
+            return "class_attendance_" + month.format(DateTimeFormatter.ofPattern("MM-yyyy")) + ".xlsx";
+        }
+    }
+
     /**
      * Checks whether user's month is within 01-1900 to current month.
      *
@@ -158,20 +242,23 @@ public class AttendanceDownloadCommand extends Command {
      * of the last saved file.
      *
      * @param model The model containing the person data.
-     * @param filePath The file path for saving the reports.
+     * @param saver Where the reports are saved.
      * @return The file path of the last saved class attendance report.
      * @throws IOException If an error occurs during file saving.
      */
-    private String downloadClassMonthlyAttendanceReport(Model model, String filePath)
+    private String downloadClassMonthlyAttendanceReport(Model model, ReportSaver saver)
             throws IOException, CommandException {
+        String filePath = "";
         String fileName;
         for (Class studentClass : studentClass) {
-            String classCsv = generateClassMonthlyAttendanceReport(model, studentClass, month);
+            AttendanceReport classReport = createClassMonthlyAttendanceReport(model, studentClass, month);
             fileName = studentClass + "_attendance_"
                     + month.format(DateTimeFormatter.ofPattern("MM-yyyy"))
                     + ".csv";
 
-            filePath = classCsv.isEmpty() ? "" : saveAttendanceCsv(classCsv, fileName);
+            if (!classReport.isEmpty()) {
+                filePath = saver.save(classReport, fileName, studentClass.toString());
+            }
         }
 
         if (filePath.isEmpty()) {
@@ -187,20 +274,23 @@ public class AttendanceDownloadCommand extends Command {
      * of the last saved file.
      *
      * @param model The model containing the person data.
-     * @param filePath The file path for saving the reports.
+     * @param saver Where the reports are saved.
      * @return The file path of the last saved class attendance report.
      * @throws IOException If an error occurs during file saving.
      */
-    private String downloadClassDailyAttendanceReport(Model model, String filePath)
+    private String downloadClassDailyAttendanceReport(Model model, ReportSaver saver)
             throws IOException, CommandException {
+        String filePath = "";
         String fileName;
         for (Class studentClass : studentClass) {
-            String classCsv = generateClassDailyAttendanceReport(model, studentClass, date);
+            AttendanceReport classReport = createClassDailyAttendanceReport(model, studentClass, date);
             fileName = studentClass + "_attendance_"
                     + date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))
                     + ".csv";
 
-            filePath = classCsv.isEmpty() ? "" : saveAttendanceCsv(classCsv, fileName);
+            if (!classReport.isEmpty()) {
+                filePath = saver.save(classReport, fileName, studentClass.toString());
+            }
         }
 
         if (filePath.isEmpty()) {
@@ -215,20 +305,21 @@ public class AttendanceDownloadCommand extends Command {
      * Generates a single CSV file containing attendance data for all specified students.
      *
      * @param model The model containing the person data.
+     * @param saver Where the report is saved.
      * @return The file path of the saved student attendance report.
      * @throws IOException If an error occurs during file saving.
      */
-    private String downloadStudentMonthlyAttendanceReport(Model model)
+    private String downloadStudentMonthlyAttendanceReport(Model model, ReportSaver saver)
             throws IOException, IndexOutOfBoundsException, CommandException {
-        String fileCsv = generateStudentsMonthlyAttendanceReport(model, indexes, month);
+        AttendanceReport report = createStudentsMonthlyAttendanceReport(model, indexes, month);
         String fileName = "student_attendance_"
                 + month.format(DateTimeFormatter.ofPattern("MM-yyyy"))
                 + ".csv";
 
-        if (fileCsv.isEmpty()) {
+        if (report.isEmpty()) {
             throw new CommandException("No attendance report downloaded. No student in the index specified.");
         } else {
-            return saveAttendanceCsv(fileCsv, fileName);
+            return saver.save(report, fileName, "Students");
         }
     }
 
@@ -262,7 +353,8 @@ public class AttendanceDownloadCommand extends Command {
                 && date.equals(otherAttendanceDownloadCommand.date)
                 && month.equals(otherAttendanceDownloadCommand.month)
                 && userProvideDate.equals(otherAttendanceDownloadCommand.userProvideDate)
-                && userProvideMonth.equals(otherAttendanceDownloadCommand.userProvideMonth);
+                && userProvideMonth.equals(otherAttendanceDownloadCommand.userProvideMonth)
+                && format == otherAttendanceDownloadCommand.format;
     }
 
     @Override
@@ -274,6 +366,15 @@ public class AttendanceDownloadCommand extends Command {
                 .add("month", month)
                 .add("userProvideDate", userProvideDate)
                 .add("userProvideMonth", userProvideMonth)
+                .add("format", format)
                 .toString();
     }
+
+    /**
+     * Saves one generated report and returns where it was saved.
+     */
+    @FunctionalInterface
+    private interface ReportSaver {
+        String save(AttendanceReport report, String fileName, String sheetName) throws IOException;
+    }
 }
@@ -0,0 +1,95 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+
+/**
+ * Shows the attendance of every student in one or more classes during a month, as a grid of students and days.
+ */
+public class AttendanceHeatmapCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendanceH";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance of every student in the given class(es) during a month, "
+            + "as a grid of students and days coloured by status.\n"
+            + "Parameters: " + PREFIX_CLASS + "CLASS [" + PREFIX_CLASS + "CLASS]... [" + PREFIX_MONTH + "MONTH]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_CLASS + "K1A " + PREFIX_CLASS + "K1B "
+            + PREFIX_MONTH + "12-2025";
+
+    public static final String MESSAGE_SUCCESS = "Showing the attendance of %1$d student(s) in %2$s for %3$s.";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students in %1$s.";
+
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MM-yyyy");
+
+    private final List<Class> studentClasses;
+    private final YearMonth month;
+
+    /**
+     * Creates an AttendanceHeatmapCommand to show the attendance of {@code studentClasses} during {@code month}.
+     */
+    public AttendanceHeatmapCommand(List<Class> studentClasses, YearMonth month) {
+        requireAllNonNull(studentClasses, month);
+        this.studentClasses = List.copyOf(new LinkedHashSet<>(studentClasses));
+        this.month = month;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<MonthBlock> blocks = new ArrayList<>();
+        int studentCount = 0;
+        for (Class studentClass : studentClasses) {
+            MonthBlock block = model.getClassMonthAttendance(studentClass, month);
+            blocks.add(block);
+            studentCount += block.size();
+        }
+
+        String classNames = studentClasses.stream().map(Class::toString).collect(Collectors.joining(", "));
+        if (studentCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NO_STUDENTS, classNames));
+        }
+
+        return CommandResult.ofClassAttendance(
+                String.format(MESSAGE_SUCCESS, studentCount, classNames, month.format(MONTH_FORMATTER)), blocks);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceHeatmapCommand)) {
+            return false;
+        }
+
+        AttendanceHeatmapCommand otherCommand = (AttendanceHeatmapCommand) other;
+        return studentClasses.equals(otherCommand.studentClasses) && month.equals(otherCommand.month);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentClasses", studentClasses)
+                .add("month", month)
+                .toString();
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.commands.util.AttendanceCsvUtil.parseStudentMonthlyHeader;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.exceptions.InvalidDateException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Imports attendance records from a CSV file in the layout of a monthly attendance report.
+ * Every row is validated before any record is applied, so the import is saved as one batch.
+ * Only applicable to contact with "student" tag.
+ */
+public class AttendanceImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendanceImport";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Import attendance records from a CSV file.\n"
+            + "The file must follow the layout of a monthly attendance report: "
+            + "Name,Class,dd-MM-yyyy,dd-MM-yyyy,...\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/K1A_attendance_12-2025.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %d attendance record(s) for %d student(s) from %s.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Attendance file not found: %s";
+    public static final String MESSAGE_EMPTY_FILE = "Attendance file is empty: %s";
+    public static final String MESSAGE_READ_ERROR = "Error reading attendance file: %s";
+    public static final String MESSAGE_ROWS_WITH_ERRORS = "\n\nRows not fully imported:";
+
+    private static final Logger logger = LogsCenter.getLogger(AttendanceImportCommand.class);
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+    private final Path filePath;
+
+    /**
+     * Creates an AttendanceImportCommand to import attendance from the specified file.
+     *
+     * @param filePath The CSV file to import from.
+     */
+    public AttendanceImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        Map<String, List<Person>> studentIndex = buildStudentIndex(model.getAddressBook().getPersonList());
+        List<PendingRecord> pendingRecords = new ArrayList<>();
+        StringBuilder rowErrors = new StringBuilder();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+
+            List<LocalDate> dates = parseStudentMonthlyHeader(stripByteOrderMark(header));
+
+            String line;
+            int rowNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                rowNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                readRow(line, rowNumber, dates, studentIndex, pendingRecords, rowErrors);
+            }
+        } catch (NoSuchFileException e) {
+            logger.warning("Attendance file not found: " + filePath);
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath));
+        } catch (IOException e) {
+            logger.severe("Error reading attendance file: " + e.getMessage());
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, e.getMessage()));
+        } catch (IllegalValueException e) {
+            throw new CommandException(e.getMessage());
+        }
+
+        int totalImported = applyAll(pendingRecords);
+        long totalStudents = pendingRecords.stream().map(record -> record.student).distinct().count();
+        logger.info("Imported " + totalImported + " attendance records from " + filePath);
+
+        String result = String.format(MESSAGE_SUCCESS, totalImported, totalStudents, filePath);
+        if (!rowErrors.isEmpty()) {
+            result += MESSAGE_ROWS_WITH_ERRORS + rowErrors;
+        }
+        return new CommandResult(result);
+    }
+
+    /**
+     * Validates one data row and adds its valid cells to {@code pendingRecords}.
+     * Problems found in the row are appended to {@code rowErrors}.
+     */
+    private void readRow(String line, int rowNumber, List<LocalDate> dates, Map<String, List<Person>> studentIndex,
+                         List<PendingRecord> pendingRecords, StringBuilder rowErrors) {
+        String[] cells = line.split(",", -1);
+        String name = cells[0].trim();
+        String rowLabel = "\nRow " + rowNumber + " (" + name + "): ";
+
+        if (cells.length != dates.size() + 2) {
+            rowErrors.append(rowLabel).append(String.format("Expected %d columns but found %d",
+                    dates.size() + 2, cells.length));
+            return;
+        }
+
+        List<Person> matches = studentIndex.getOrDefault(toKey(name, cells[1].trim()), List.of());
+        if (matches.isEmpty()) {
+            rowErrors.append(rowLabel).append("No student with this name in class ").append(cells[1].trim());
+            return;
+        } else if (matches.size() > 1) {
+            rowErrors.append(rowLabel).append("More than one student with this name in class ")
+                    .append(cells[1].trim());
+            return;
+        }
+
+        Person student = matches.get(0);
+        List<String> invalidCells = new ArrayList<>();
+
+        for (int i = 0; i < dates.size(); i++) {
+            String cell = cells[i + 2].trim();
+            if (cell.isEmpty()) {
+                continue; // no record on this date
+            }
+
+            LocalDate date = dates.get(i);
+            AttendanceStatus status = parseStatus(cell);
+            if (status == null) {
+                invalidCells.add(date.format(DATE_FORMATTER) + " [Unknown status: " + cell + "]");
+            } else if (!student.validAttendanceDate(date)) {
+                invalidCells.add(date.format(DATE_FORMATTER)
+                        + " [Date not within six years of birthdate or is a future date]");
+            } else {
+                pendingRecords.add(new PendingRecord(student, date, status));
+            }
+        }
+
+        if (!invalidCells.isEmpty()) {
+            rowErrors.append(rowLabel).append(String.join(", ", invalidCells));
+        }
+    }
+
+    /**
+     * Applies every validated record and returns the number of records actually changed.
+     */
+    private int applyAll(List<PendingRecord> pendingRecords) throws CommandException {
+        int totalImported = 0;
+        try {
+            for (PendingRecord record : pendingRecords) {
+                if (record.student.markAttendance(record.date, record.status)) {
+                    totalImported++;
+                }
+            }
+        } catch (InvalidDateException e) {
+            // Dates are validated while reading, so this should not happen
+            logger.severe("Attendance import applied an invalid date: " + e.getMessage());
+            throw new CommandException(e.getMessage());
+        }
+        return totalImported;
+    }
+
+    /**
+     * Indexes every student by name and class, both case-insensitive.
+     */
+    private static Map<String, List<Person>> buildStudentIndex(List<Person> persons) {
+        Map<String, List<Person>> studentIndex = new HashMap<>();
+        for (Person person : persons) {
+            if (person.isStudent()) {
+                studentIndex.computeIfAbsent(toKey(person.getName().fullName, person.getStudentClass().value),
+                        k -> new ArrayList<>(1)).add(person);
+            }
+        }
+        return studentIndex;
+    }
+
+    private static String toKey(String name, String studentClass) {
+        return name.toLowerCase(Locale.ROOT) + "," + studentClass.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the status written in a report cell, or null if it is not a status that can be imported.
+     */
+    private static AttendanceStatus parseStatus(String cell) {
+        try {
+            AttendanceStatus status = AttendanceStatus.valueOf(cell.toUpperCase(Locale.ROOT));
+            return status == AttendanceStatus.REMOVE ? null : status;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static String stripByteOrderMark(String line) {
+        return line.startsWith("\uFEFF") ? line.substring(1) : line;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof AttendanceImportCommand)) {
+            return false;
+        }
+
+        AttendanceImportCommand otherAttendanceImportCommand = (AttendanceImportCommand) other;
+        return filePath.equals(otherAttendanceImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * An attendance record that has been validated but not yet applied.
+     */
+    private static class PendingRecord {
+        private final Person student;
+        private final LocalDate date;
+        private final AttendanceStatus status;
+
+        PendingRecord(Person student, LocalDate date, AttendanceStatus status) {
+            this.student = student;
+            this.date = date;
+            this.status = status;
+        }
+    }
+}
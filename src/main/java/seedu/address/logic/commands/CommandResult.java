@@ -2,9 +2,12 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 
 /**
@@ -12,7 +15,11 @@ import seedu.address.model.person.Person;
  */
 public class CommandResult {
 
-    private final String feedbackToUser;
+    /** Feedback shown above the result rows, or on its own if there are none. */
+    private final String summary;
+
+    /** Lines of detail, e.g. one per contact, which the UI shows as they are scrolled into view. */
+    private final List<String> resultRows;
 
     /** Help information should be shown to the user. */
     private final boolean showHelp;
@@ -26,15 +33,28 @@ public class CommandResult {
     /** Person to display for view command. */
     private final Person personToView;
 
+    /** Class attendance to display as a heatmap, one block per class. */
+    private final List<MonthBlock> classAttendanceToShow;
+
+    /** The summary followed by the result rows, only joined into one string when first asked for. */
+    private String feedbackToUser;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean showView, boolean exit, Person personToView) {
-        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this(feedbackToUser, List.of(), showHelp, showView, exit, personToView, null);
+    }
+
+    private CommandResult(String summary, List<String> resultRows, boolean showHelp, boolean showView, boolean exit,
+            Person personToView, List<MonthBlock> classAttendanceToShow) {
+        this.summary = requireNonNull(summary);
+        this.resultRows = requireNonNull(resultRows);
         this.showHelp = showHelp;
         this.showView = showView;
         this.exit = exit;
         this.personToView = personToView;
+        this.classAttendanceToShow = classAttendanceToShow;
     }
 
     /**
@@ -52,6 +72,24 @@ public class CommandResult {
         this(feedbackToUser, false, true, false, personToView);
     }
 
+    /**
+     * Returns a {@code CommandResult} with the attendance of one or more classes to show.
+     */
+    public static CommandResult ofClassAttendance(String feedbackToUser, List<MonthBlock> classAttendanceToShow) {
+        requireNonNull(classAttendanceToShow);
+        return new CommandResult(feedbackToUser, List.of(), false, false, false, null,
+                List.copyOf(classAttendanceToShow));
+    }
+
+    /**
+     * Returns a {@code CommandResult} with a {@code summary} followed by {@code resultRows}, one line each.
+     * The rows are not copied, so the caller must not change them afterwards.
+     */
+    public static CommandResult withRows(String summary, List<String> resultRows) {
+        requireNonNull(resultRows);
+        return new CommandResult(summary, Collections.unmodifiableList(resultRows), false, false, false, null, null);
+    }
+
     public boolean isShowPerson() {
         return personToView != null;
     }
@@ -60,10 +98,38 @@ public class CommandResult {
         return personToView;
     }
 
+    public boolean isShowClassAttendance() {
+        return classAttendanceToShow != null;
+    }
+
+    public List<MonthBlock> getClassAttendanceToShow() {
+        return classAttendanceToShow;
+    }
+
+    /**
+     * Returns the summary followed by the result rows, one per line.
+     * Prefer {@link #getSummary()} and {@link #getResultRows()} where the rows can be shown separately,
+     * as the rows of a large result make for a very long string.
+     */
     public String getFeedbackToUser() {
+        if (feedbackToUser == null) {
+            feedbackToUser = resultRows.isEmpty() ? summary : summary + "\n" + String.join("\n", resultRows);
+        }
         return feedbackToUser;
     }
 
+    public String getSummary() {
+        return summary;
+    }
+
+    public boolean hasResultRows() {
+        return !resultRows.isEmpty();
+    }
+
+    public List<String> getResultRows() {
+        return resultRows;
+    }
+
     public boolean isShowHelp() {
         return showHelp;
     }
@@ -88,26 +154,30 @@ public class CommandResult {
         }
 
         CommandResult otherCommandResult = (CommandResult) other;
-        return feedbackToUser.equals(otherCommandResult.feedbackToUser)
+        return summary.equals(otherCommandResult.summary)
+                && resultRows.equals(otherCommandResult.resultRows)
                 && showHelp == otherCommandResult.showHelp
                 && showView == otherCommandResult.showView
                 && exit == otherCommandResult.exit
-                && personToView == otherCommandResult.personToView;
+                && personToView == otherCommandResult.personToView
+                && Objects.equals(classAttendanceToShow, otherCommandResult.classAttendanceToShow);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, showView, exit, personToView);
+        return Objects.hash(summary, resultRows, showHelp, showView, exit, personToView, classAttendanceToShow);
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
-                .add("feedbackToUser", feedbackToUser)
+                .add("summary", summary)
+                .add("resultRows", resultRows)
                 .add("showHelp", showHelp)
                 .add("showView", showView)
                 .add("exit", exit)
                 .add("personToView", personToView)
+                .add("classAttendanceToShow", classAttendanceToShow)
                 .toString();
     }
 }
@@ -93,6 +93,7 @@ public class DeleteCommand extends Command {
 
             if (possibleMatches.isEmpty()) {
                 infoPopupHandler.showMessage(Messages.MESSAGE_NO_MATCHES_FOUND, Messages.MESSAGE_INSTRUCTION);
+                throw new CommandException(Messages.MESSAGE_NO_MATCHES_FOUND);
             } else {
                 Person selectedPerson = showDeletePopup(possibleMatches);
                 if (isDeletionCancelled(selectedPerson)) {
@@ -129,7 +130,7 @@ public class DeleteCommand extends Command {
     /**
      * Shows a Confirm popup window to ask the user whether to proceed with the deletion.
      */
-    private boolean isDeletionCancelled(Person person) {
+    private boolean isDeletionCancelled(Person person) throws CommandException {
         return !deletePopupHandler.confirmDeletion(person);
     }
 
@@ -1,27 +1,56 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FAVOURITE;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Comparator;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Lists all persons in the address book to the user.
+ * Lists all persons, or only the favourites, in the address book to the user.
  */
 public class ListCommand extends Command {
 
     public static final String COMMAND_WORD = "list";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists all contacts with the favourites at the top, or only the favourites.\n"
+            + "Parameters: [" + PREFIX_FAVOURITE + "]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FAVOURITE;
+
     public static final String MESSAGE_SUCCESS = "Listed all persons. The favourites are shown at the top!";
+    public static final String MESSAGE_SUCCESS_FAVOURITES = "Listed all favourites.";
+
+    private final boolean isFavouritesOnly;
 
+    /**
+     * Creates a ListCommand to list all persons.
+     */
+    public ListCommand() {
+        this(false);
+    }
+
+    /**
+     * Creates a ListCommand to list all persons, or only the favourites if {@code isFavouritesOnly} is true.
+     */
+    public ListCommand(boolean isFavouritesOnly) {
+        this.isFavouritesOnly = isFavouritesOnly;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
+        if (isFavouritesOnly) {
+            // The favourites are shown as they are kept in the model, so nobody else is looked at
+            model.showFavouritePersonList();
+            return new CommandResult(MESSAGE_SUCCESS_FAVOURITES);
+        }
+
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         Comparator<Person> comparator = null;
@@ -32,4 +61,26 @@ public class ListCommand extends Command {
         model.sortFilteredPersonList(comparator);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ListCommand)) {
+            return false;
+        }
+
+        ListCommand otherListCommand = (ListCommand) other;
+        return isFavouritesOnly == otherListCommand.isFavouritesOnly;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isFavouritesOnly", isFavouritesOnly)
+                .toString();
+    }
 }
@@ -1,69 +1,82 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
+import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 
 /**
- * Shows birthday reminders for upcoming birthdays.
+ * Shows birthday reminders for today and the upcoming days.
  */
 public class RemindCommand extends Command {
 
     public static final String COMMAND_WORD = "remind";
 
+    // Number of days to look ahead for upcoming birthdays
+    public static final int DEFAULT_UPCOMING_DAYS = 7; // One week before will start reminding.
+    public static final int MAX_UPCOMING_DAYS = 365;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the birthdays today and in the next DAYS days (" + DEFAULT_UPCOMING_DAYS + " by default).\n"
+            + "Parameters: [" + PREFIX_DATE + "DAYS]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_DATE + "30";
+    public static final String MESSAGE_INVALID_DAYS =
+            "Number of days should be a whole number from 1 to " + MAX_UPCOMING_DAYS + ".";
+
     public static final String MESSAGE_SUCCESS = "Birthday reminders displayed.";
     public static final String MESSAGE_NO_UPCOMING_BIRTHDAYS = "No upcoming birthdays found.";
     public static final String MESSAGE_NO_BIRTHDAYS_TODAY = "No birthdays today!";
     public static final String MESSAGE_NO_PERSONS = "No contacts in LittleLogBook.";
 
-    // Number of days to look ahead for upcoming birthdays
-    private static final int UPCOMING_DAYS = 7; // One week before will start reminding.
+    private final int upcomingDays;
 
-    @Override
-    public CommandResult execute(Model model) {
-        requireNonNull(model);
-
-        String reminderMessage = generateReminderMessage(model);
-        return new CommandResult(reminderMessage);
+    /**
+     * Creates a RemindCommand for the birthdays in the next {@code DEFAULT_UPCOMING_DAYS} days.
+     */
+    public RemindCommand() {
+        this(DEFAULT_UPCOMING_DAYS);
     }
 
     /**
-     * Generates a reminder message listing people who have birthdays today or within the next {@code UPCOMING_DAYS}.
-     *
-     * @param model The model containing the filtered list of persons.
-     * @return A formatted reminder message string.
+     * Creates a RemindCommand for the birthdays in the next {@code upcomingDays} days.
      */
-    private String generateReminderMessage(Model model) {
+    public RemindCommand(int upcomingDays) {
+        assert upcomingDays > 0 && upcomingDays <= MAX_UPCOMING_DAYS;
+        this.upcomingDays = upcomingDays;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+
         // Check if there's people in the addressbook
-        if (model.getFilteredPersonList().isEmpty()) {
-            return MESSAGE_NO_PERSONS;
+        if (model.getAddressBook().getPersonList().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_PERSONS);
         }
 
         LocalDate today = LocalDate.now();
-        List<Person> todayBirthdays = new ArrayList<>();
+        List<Person> todayBirthdays = model.getBirthdaysOn(today);
         List<Person> upcomingBirthdays = new ArrayList<>();
 
-        // Categorise birthdays
-        for (Person person : model.getFilteredPersonList()) {
-            LocalDate birthday = person.getBirthday().date;
-            long daysUntilBirthday = calculateDaysUntilBirthday(birthday, today);
-
-            if (daysUntilBirthday == 0) {
-                todayBirthdays.add(person);
-            } else if (daysUntilBirthday > 0 && daysUntilBirthday <= UPCOMING_DAYS) {
-                upcomingBirthdays.add(person);
+        // Only the days in the window are looked up, so the cost follows the number of birthdays found
+        LocalDate sameDayNextYear = today.plusYears(1);
+        for (int days = 1; days <= upcomingDays; days++) {
+            LocalDate date = today.plusDays(days);
+            if (!date.isBefore(sameDayNextYear)) {
+                break;
             }
+            upcomingBirthdays.addAll(model.getBirthdaysOn(date));
         }
 
-        return buildReminderString(todayBirthdays, upcomingBirthdays);
+        return buildReminderResult(todayBirthdays, upcomingBirthdays, today);
     }
 
     /**
@@ -99,84 +112,104 @@ public class RemindCommand extends Command {
     }
 
     /**
-     * Builds the formatted reminder message string containing today's and upcoming birthdays.
+     * Builds the reminder result, with a row for each of today's and upcoming birthdays.
      *
      * @param todayBirthdays List of persons whose birthday is today.
-     * @param upcomingBirthdays List of persons whose birthday is within {@code UPCOMING_DAYS}.
-     * @return A formatted reminder message string.
+     * @param upcomingBirthdays List of persons whose birthday is within {@code upcomingDays}, soonest first.
+     * @param today The current date.
+     * @return A CommandResult with the reminder summary and rows.
      */
-    private String buildReminderString(List<Person> todayBirthdays, List<Person> upcomingBirthdays) {
-        StringBuilder message = new StringBuilder();
+    private CommandResult buildReminderResult(List<Person> todayBirthdays, List<Person> upcomingBirthdays,
+            LocalDate today) {
+        if (todayBirthdays.isEmpty() && upcomingBirthdays.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_UPCOMING_BIRTHDAYS);
+        }
+
+        List<String> rows = new ArrayList<>(todayBirthdays.size() + upcomingBirthdays.size() + 5);
 
         // Today's birthdays section
+        String summary;
         if (!todayBirthdays.isEmpty()) {
-            message.append("Happy Birthday to these people today!\n");
-            message.append(getFormattedPersonList(todayBirthdays, true));
-            message.append("\n");
+            summary = "Happy Birthday to these people today!";
+            addFormattedPersons(rows, todayBirthdays, today, true);
         } else {
-            message.append(MESSAGE_NO_BIRTHDAYS_TODAY).append("\n\n");
+            summary = MESSAGE_NO_BIRTHDAYS_TODAY;
         }
 
         // Upcoming birthdays section
         if (!upcomingBirthdays.isEmpty()) {
-            if (!todayBirthdays.isEmpty()) {
-                message.append("\n");
-            }
-            message.append("Upcoming birthdays in the next ").append(UPCOMING_DAYS).append(" days:\n");
-            message.append(getFormattedPersonList(upcomingBirthdays, false));
-        } else if (todayBirthdays.isEmpty()) {
-            return MESSAGE_NO_UPCOMING_BIRTHDAYS;
+            rows.add("");
+            rows.add("Upcoming birthdays in the next " + upcomingDays + " days:");
+            addFormattedPersons(rows, upcomingBirthdays, today, false);
         }
 
-        message.append("\n\nDon't forget to wish them happy birthday!");
-        return message.toString();
+        rows.add("");
+        rows.add("Don't forget to wish them happy birthday!");
+        return CommandResult.withRows(summary, rows);
     }
 
     /**
-     * Formats a list of persons into a numbered, readable list for display in the reminder message.
+     * Adds a numbered, readable row for each of {@code persons} to {@code rows}.
      * Each entry includes the person's name, birthday date, and optional tags.
      * If {@code isTodayList} is false, the number of days until the person's birthday is also shown.
      *
+     * @param rows The rows to add to.
      * @param persons The list of persons to format.
+     * @param today The current date.
      * @param isTodayList Whether the list represents people with birthdays today.
-     * @return A formatted string representing the list of persons.
      */
-    private String getFormattedPersonList(List<Person> persons, boolean isTodayList) {
-        if (persons.isEmpty()) {
-            return "";
+    private void addFormattedPersons(List<String> rows, List<Person> persons, LocalDate today, boolean isTodayList) {
+        for (int i = 0; i < persons.size(); i++) {
+            Person person = persons.get(i);
+            StringBuilder entry = new StringBuilder();
+            entry.append(i + 1).append(") ").append(person.getName().toString());
+
+            // Add birthday date
+            entry.append(" - ").append(person.getBirthday().toString());
+
+            // Add tags if available
+            if (!person.getTags().isEmpty()) {
+                entry.append(" [");
+                entry.append(person.getTags().stream()
+                        .map(tag -> tag.tagName)
+                        .collect(Collectors.joining(", ")));
+                entry.append("]");
+            }
+
+            // Add days until birthday for upcoming birthdays
+            if (!isTodayList) {
+                long daysUntil = calculateDaysUntilBirthday(person.getBirthday().date, today);
+                if (daysUntil > 0) {
+                    entry.append(" (in ").append(daysUntil).append(" day")
+                            .append(daysUntil == 1 ? "" : "s").append(")");
+                }
+            } else {
+                entry.append(" (TODAY!)");
+            }
+
+            rows.add(entry.toString());
         }
+    }
 
-        return IntStream.range(0, persons.size())
-                .mapToObj(i -> {
-                    Person person = persons.get(i);
-                    StringBuilder entry = new StringBuilder();
-                    entry.append(i + 1).append(") ").append(person.getName().toString());
-
-                    // Add birthday date
-                    entry.append(" - ").append(person.getBirthday().toString());
-
-                    // Add tags if available
-                    if (!person.getTags().isEmpty()) {
-                        entry.append(" [");
-                        entry.append(person.getTags().stream()
-                                .map(tag -> tag.tagName)
-                                .collect(Collectors.joining(", ")));
-                        entry.append("]");
-                    }
-
-                    // Add days until birthday for upcoming birthdays
-                    if (!isTodayList) {
-                        long daysUntil = calculateDaysUntilBirthday(person.getBirthday().date, LocalDate.now());
-                        if (daysUntil > 0) {
-                            entry.append(" (in ").append(daysUntil).append(" day")
-                                    .append(daysUntil == 1 ? "" : "s").append(")");
-                        }
-                    } else {
-                        entry.append(" (TODAY!)");
-                    }
-
-                    return entry.toString();
-                })
-                .collect(Collectors.joining("\n"));
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RemindCommand)) {
+            return false;
+        }
+
+        RemindCommand otherRemindCommand = (RemindCommand) other;
+        return upcomingDays == otherRemindCommand.upcomingDays;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("upcomingDays", upcomingDays)
+                .toString();
     }
 }
@@ -3,16 +3,21 @@ package seedu.address.logic.commands.util;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.model.Model;
+import seedu.address.model.person.Attendance;
 import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 
 /**
@@ -20,6 +25,12 @@ import seedu.address.model.person.Person;
  */
 public class AttendanceCsvUtil {
 
+    public static final String MESSAGE_INVALID_HEADER =
+            "Invalid attendance file header. Expected: Name,Class,dd-MM-yyyy,...";
+
+    private static final DateTimeFormatter HEADER_DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("dd-MM-uuuu").withResolverStyle(ResolverStyle.STRICT);
+
     /**
      * Generates a monthly attendance report based on the specified index(es)
      * and the specified month.
@@ -31,33 +42,30 @@ public class AttendanceCsvUtil {
      */
     public static String generateStudentsMonthlyAttendanceReport(Model model, Set<Index> indexes, YearMonth month)
             throws IndexOutOfBoundsException {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        String header = generateStudentMonthlyHeader(month);
-
-        csv.append(header).append("\n");
+        return createStudentsMonthlyAttendanceReport(model, indexes, month).toCsv();
+    }
 
+    /**
+     * Creates a monthly attendance report based on the specified index(es)
+     * and the specified month, with a row for each student among them.
+     *
+     * @param model {@code Model} Which the command should operate on.
+     * @param indexes The index(es) to generate attendance for.
+     * @param month The month to generate attendance for.
+     * @return A report with all dates in the month as columns.
+     */
+    public static AttendanceReport createStudentsMonthlyAttendanceReport(Model model, Set<Index> indexes,
+            YearMonth month) throws IndexOutOfBoundsException {
+        List<Person> students = new ArrayList<>();
         for (Index i : indexes) {
             Person person = model.getFilteredPersonList().get(i.getZeroBased());
-
-            String row;
-
             if (person.isStudent()) {
-                row = generateStudentMonthlyRow(person, month);
-                atLeasOneRecord = true;
-            } else {
-                continue;
+                students.add(person);
             }
-
-            csv.append(row).append("\n");
         }
 
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
-        }
+        return new AttendanceReport(List.of(generateStudentMonthlyHeader(month)), students.size(), row ->
+                generateStudentMonthlyRow(students.get(row), month));
     }
 
     /**
@@ -70,43 +78,33 @@ public class AttendanceCsvUtil {
      * @return CSV string with students' attendance in rows.
      */
     public static String generateClassDailyAttendanceReport(Model model, Class studentClass, LocalDate date) {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        csv.append("Class attendance on: ")
-                .append(date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
-                .append("\n");
-
-        String header = "Name,Status";
-
-        csv.append(header).append("\n");
-
-        ObservableList<Person> filteredStudent = model.getFilteredPersonList()
-                .filtered(person -> person.getStudentClass().equals(studentClass));
-
-        for (Person person : filteredStudent) {
-            if (person.isStudent()) {
-                csv.append(person.getName()).append(",");
-
-                Map<LocalDate, AttendanceStatus> attendance = person.getAttendance().getAttendanceRecords();
-
-                if (attendance.containsKey(date)) {
-                    csv.append(attendance.get(date).toString());
-                }
-
-                atLeasOneRecord = true;
-            } else {
-                continue;
-            }
-
-            csv.append("\n");
-        }
+        return createClassDailyAttendanceReport(model, studentClass, date).toCsv();
+    }
 
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
-        }
+    /**
+     * Creates a daily attendance report based on the specified class
+     * and the specified date.
+     *
+     * @param model {@code Model} Which the command should operate on.
+     * @param studentClass The class to generate attendance for.
+     * @param date The date to generate attendance for.
+     * @return A report with students' attendance in rows.
+     */
+    public static AttendanceReport createClassDailyAttendanceReport(Model model, Class studentClass,
+            LocalDate date) {
+        List<Person> students = model.getFilteredPersonList().stream()
+                .filter(person -> person.getStudentClass().equals(studentClass) && person.isStudent())
+                .toList();
+
+        List<List<String>> headerRows = List.of(
+                List.of("Class attendance on: " + date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy"))),
+                List.of("Name", "Status"));
+
+        return new AttendanceReport(headerRows, students.size(), row -> {
+            Person student = students.get(row);
+            AttendanceStatus status = student.getAttendance().getStatus(date);
+            return List.of(student.getName().toString(), status == null ? "" : status.toString());
+        });
     }
 
     /**
@@ -119,84 +117,134 @@ public class AttendanceCsvUtil {
      * @return CSV string with all dates in the month as columns.
     */
     public static String generateClassMonthlyAttendanceReport(Model model, Class studentClass, YearMonth month) {
-        StringBuilder csv = new StringBuilder();
-        boolean atLeasOneRecord = false;
-
-        String header = generateStudentMonthlyHeader(month);
-
-        csv.append(header).append("\n");
-
-        ObservableList<Person> filteredStudent = model.getFilteredPersonList()
-                .filtered(person -> person.getStudentClass().equals(studentClass));
-
+        return createClassMonthlyAttendanceReport(model, studentClass, month).toCsv();
+    }
 
-        for (Person person : filteredStudent) {
-            String row;
+    /**
+     * Creates a monthly attendance report based on the specified class
+     * and the specified month.
+     * Rows are read sequentially from the class's columnar attendance block.
+     *
+     * @param model {@code Model} Which the command should operate on.
+     * @param studentClass The class to generate data for.
+     * @param month The month to generate attendance for.
+     * @return A report with all dates in the month as columns.
+     */
+    public static AttendanceReport createClassMonthlyAttendanceReport(Model model, Class studentClass,
+            YearMonth month) {
+        MonthBlock classAttendance = model.getClassMonthAttendance(studentClass, month);
+        Set<Person> shownPersons = getShownPersonsIfFiltered(model);
+        int daysInMonth = month.lengthOfMonth();
+
+        List<Integer> shownRows = new ArrayList<>();
+        for (int row = 0; row < classAttendance.size(); row++) {
+            if (shownPersons == null || shownPersons.contains(classAttendance.getStudent(row))) {
+                shownRows.add(row);
+            }
+        }
 
-            if (person.isStudent()) {
-                row = generateStudentMonthlyRow(person, month);
-                atLeasOneRecord = true;
-            } else {
-                continue;
+        return new AttendanceReport(List.of(generateStudentMonthlyHeader(month)), shownRows.size(), i -> {
+            int row = shownRows.get(i);
+            Person student = classAttendance.getStudent(row);
+
+            List<String> cells = new ArrayList<>(daysInMonth + 2);
+            cells.add(student.getName().toString());
+            cells.add(student.getStudentClass().toString());
+            for (int day = 1; day <= daysInMonth; day++) {
+                AttendanceStatus status = classAttendance.getStatus(row, day);
+                // No attendance record is an empty cell
+                cells.add(status == null ? "" : status.toString());
             }
+            return cells;
+        });
+    }
 
-            csv.append(row).append("\n");
+    /**
+     * Returns the persons currently shown in the filtered list, or null if every person is shown.
+     */
+    private static Set<Person> getShownPersonsIfFiltered(Model model) {
+        List<Person> shownList = model.getFilteredPersonList();
+        if (shownList.size() == model.getAddressBook().getPersonList().size()) {
+            return null;
         }
 
-        if (atLeasOneRecord) {
-            return csv.toString();
-        } else {
-            return "";
-        }
+        Set<Person> shownPersons = Collections.newSetFromMap(new IdentityHashMap<>());
+        shownPersons.addAll(shownList);
+        return shownPersons;
     }
 
     /**
-     * Generates the header row for a monthly attendance report CSV.
+     * Generates the header row for a monthly attendance report.
      * Format: "Name,Class,01-10-2024,02-10-2024,...,31-10-2024".
      *
      * @param month The month to generate headers for.
-     * @return CSV header string with all dates in the month as columns.
+     * @return The header cells, with all dates in the month as columns.
      */
-    private static String generateStudentMonthlyHeader(YearMonth month) {
+    private static List<String> generateStudentMonthlyHeader(YearMonth month) {
         LocalDate firstDay = month.atDay(1);
         LocalDate lastDay = month.atEndOfMonth();
 
-        List<LocalDate> monthDates = firstDay.datesUntil(lastDay.plusDays(1)).toList();
-
-        String header = "Name,Class,"
-                + monthDates.stream()
+        List<String> header = new ArrayList<>(List.of("Name", "Class"));
+        firstDay.datesUntil(lastDay.plusDays(1))
                 .map(date -> date.format(DateTimeFormatter.ofPattern("dd-MM-yyyy")))
-                .collect(Collectors.joining(","));
+                .forEach(header::add);
 
         return header;
     }
 
     /**
-     * Generates a single student's monthly attendance data as a CSV row.
+     * Generates a single student's monthly attendance data as a row.
      * Format: "John Doe,K1A,PRESENT,,ABSENT,,LATE".
      * Empty cells represent dates with no attendance records.
      *
      * @param person The student to generate data for.
      * @param month The month to generate attendance for.
-     * @return CSV row string with student's attendance data for the month.
+     * @return The row cells with student's attendance data for the month.
      */
-    private static String generateStudentMonthlyRow(Person person, YearMonth month) {
-        StringBuilder row = new StringBuilder(person.getName() + "," + person.getStudentClass());
-        Map<LocalDate, AttendanceStatus> attendance = person.getAttendance().getAttendanceRecords();
+    private static List<String> generateStudentMonthlyRow(Person person, YearMonth month) {
+        List<String> row = new ArrayList<>(month.lengthOfMonth() + 2);
+        row.add(person.getName().toString());
+        row.add(person.getStudentClass().toString());
+        Attendance attendance = person.getAttendance();
 
         LocalDate firstDay = month.atDay(1);
         LocalDate lastDay = month.atEndOfMonth();
 
-        List<LocalDate> monthDates = firstDay.datesUntil(lastDay.plusDays(1)).toList();
+        for (LocalDate date : firstDay.datesUntil(lastDay.plusDays(1)).toList()) {
+            AttendanceStatus status = attendance.getStatus(date);
+            // No attendance record is an empty cell
+            row.add(status == null ? "" : status.toString());
+        }
+
+        return row;
+    }
+
+    /**
+     * Parses the header row of a monthly attendance report CSV, as generated by
+     * {@link #generateStudentMonthlyHeader(YearMonth)}.
+     * Format: "Name,Class,01-10-2024,02-10-2024,...".
+     *
+     * @param header The header row of the CSV.
+     * @return The dates of the attendance columns, in column order.
+     * @throws IllegalValueException If the header is not in the expected format.
+     */
+    public static List<LocalDate> parseStudentMonthlyHeader(String header) throws IllegalValueException {
+        String[] columns = header.split(",", -1);
+
+        if (columns.length < 3 || !columns[0].trim().equalsIgnoreCase("Name")
+                || !columns[1].trim().equalsIgnoreCase("Class")) {
+            throw new IllegalValueException(MESSAGE_INVALID_HEADER);
+        }
 
-        for (LocalDate date : monthDates) {
-            row.append(",");
-            if (attendance.containsKey(date)) {
-                row.append(attendance.get(date).toString());
+        List<LocalDate> dates = new ArrayList<>(columns.length - 2);
+        for (int i = 2; i < columns.length; i++) {
+            try {
+                dates.add(LocalDate.parse(columns[i].trim(), HEADER_DATE_FORMATTER));
+            } catch (DateTimeParseException e) {
+                throw new IllegalValueException(MESSAGE_INVALID_HEADER + " Invalid date: " + columns[i].trim(), e);
             }
-            // else it will be an empty cell (comma)
         }
 
-        return row.toString();
+        return dates;
     }
 }
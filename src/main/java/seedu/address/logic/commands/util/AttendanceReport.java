@@ -0,0 +1,84 @@
+package seedu.address.logic.commands.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.IntFunction;
+
+/**
+ * An attendance report whose data rows are only generated as they are written,
+ * so that a report can be written out row by row without holding all of it in memory.
+ */
+public class AttendanceReport {
+
+    private final List<List<String>> headerRows;
+    private final int dataRowCount;
+    private final IntFunction<List<String>> dataRowGenerator;
+
+    /**
+     * Creates a report with the given header rows, followed by {@code dataRowCount} data rows,
+     * the i-th of which is generated by {@code dataRowGenerator} when it is written.
+     */
+    public AttendanceReport(List<List<String>> headerRows, int dataRowCount,
+            IntFunction<List<String>> dataRowGenerator) {
+        requireNonNull(headerRows);
+        requireNonNull(dataRowGenerator);
+        this.headerRows = headerRows;
+        this.dataRowCount = dataRowCount;
+        this.dataRowGenerator = dataRowGenerator;
+    }
+
+    /**
+     * Returns the number of rows before the data rows, including the column header row.
+     */
+    public int getHeaderRowCount() {
+        return headerRows.size();
+    }
+
+    /**
+     * Returns true if the report has no data rows.
+     */
+    public boolean isEmpty() {
+        return dataRowCount == 0;
+    }
+
+    /**
+     * Writes every row of the report, header rows first, to {@code rowWriter}.
+     *
+     * @throws IOException If an error occurs during writing.
+     */
+    public void writeRows(RowWriter rowWriter) throws IOException {
+        for (List<String> headerRow : headerRows) {
+            rowWriter.write(headerRow);
+        }
+        for (int i = 0; i < dataRowCount; i++) {
+            rowWriter.write(dataRowGenerator.apply(i));
+        }
+    }
+
+    /**
+     * Returns the report as CSV, or an empty string if the report has no data rows.
+     */
+    public String toCsv() {
+        if (isEmpty()) {
+            return "";
+        }
+
+        StringBuilder csv = new StringBuilder();
+        try {
+            writeRows(cells -> csv.append(String.join(",", cells)).append("\n"));
+        } catch (IOException e) {
+            throw new AssertionError("Appending to a StringBuilder does not throw", e);
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Takes the rows of a report one at a time.
+     */
+    @FunctionalInterface
+    public interface RowWriter {
+        void write(List<String> cells) throws IOException;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
@@ -9,8 +10,11 @@ import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AlertsCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
+import seedu.address.logic.commands.AttendanceHeatmapCommand;
+import seedu.address.logic.commands.AttendanceImportCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
@@ -44,6 +48,25 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
+    private final InfoPopupHandler infoPopupHandler;
+    private final DeletePopupHandler deletePopupHandler;
+
+    /**
+     * Creates an {@code AddressBookParser} whose commands ask the user through popup windows.
+     */
+    public AddressBookParser() {
+        this(new RealInfoInfoPopupHandler(), new RealDeletePopupHandler());
+    }
+
+    /**
+     * Creates an {@code AddressBookParser} whose commands ask the user through the given handlers.
+     */
+    public AddressBookParser(InfoPopupHandler infoPopupHandler, DeletePopupHandler deletePopupHandler) {
+        requireAllNonNull(infoPopupHandler, deletePopupHandler);
+        this.infoPopupHandler = infoPopupHandler;
+        this.deletePopupHandler = deletePopupHandler;
+    }
+
     /**
      * Parses user input into command for execution.
      *
@@ -73,13 +96,10 @@ public class AddressBookParser {
             return new EditCommandParser().parse(arguments);
 
         case DeleteCommand.COMMAND_WORD:
-            InfoPopupHandler infoHandler = new RealInfoInfoPopupHandler();
-            DeletePopupHandler deleteHandler = new RealDeletePopupHandler();
-            return new DeleteCommandParser(infoHandler, deleteHandler).parse(arguments);
+            return new DeleteCommandParser(infoPopupHandler, deletePopupHandler).parse(arguments);
 
         case ClearCommand.COMMAND_WORD:
-            InfoPopupHandler handler = new RealInfoInfoPopupHandler();
-            return new ClearCommand(handler);
+            return new ClearCommand(infoPopupHandler);
 
         case FavouriteCommand.COMMAND_WORD:
             return new FavouriteCommandParser().parse(arguments);
@@ -97,7 +117,7 @@ public class AddressBookParser {
             return new FindPhoneCommandParser().parse(arguments);
 
         case ListCommand.COMMAND_WORD:
-            return new ListCommand();
+            return new ListCommandParser().parse(arguments);
 
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
@@ -117,11 +137,20 @@ public class AddressBookParser {
         case AttendanceDownloadCommand.COMMAND_WORD:
             return new AttendanceDownloadCommandParser().parse(arguments);
 
+        case AttendanceHeatmapCommand.COMMAND_WORD:
+            return new AttendanceHeatmapCommandParser().parse(arguments);
+
+        case AttendanceImportCommand.COMMAND_WORD:
+            return new AttendanceImportCommandParser().parse(arguments);
+
         case SortCommand.COMMAND_WORD:
             return new SortCommandParser().parse(arguments);
 
         case RemindCommand.COMMAND_WORD:
-            return new RemindCommand();
+            return new RemindCommandParser().parse(arguments);
+
+        case AlertsCommand.COMMAND_WORD:
+            return new AlertsCommand();
 
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
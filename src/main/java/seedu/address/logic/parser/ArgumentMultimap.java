@@ -19,8 +19,11 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class ArgumentMultimap {
 
+    /** The key under which the preamble (text before the first valid prefix) is stored */
+    static final Prefix PREAMBLE = new Prefix("");
+
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<ArgumentValue>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -30,17 +33,23 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(new ArgumentValue(argValue));
+    }
+
+    /**
+     * Associates the argument value {@code source[start, end)}, without leading and trailing whitespaces,
+     * with {@code prefix} key in this map. The value is only copied out of {@code source} when it is read.
+     */
+    void put(Prefix prefix, String source, int start, int end) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>()).add(new ArgumentValue(source, start, end));
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<ArgumentValue> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(values.get(values.size() - 1).get());
     }
 
     /**
@@ -49,17 +58,18 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> allValues = new ArrayList<>();
+        for (ArgumentValue value : argMultimap.getOrDefault(prefix, List.of())) {
+            allValues.add(value.get());
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return allValues;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE).orElse("");
     }
 
     /**
@@ -75,4 +85,42 @@ public class ArgumentMultimap {
             throw new ParseException(Messages.getErrorMessageForDuplicatePrefixes(duplicatedPrefixes));
         }
     }
+
+    /**
+     * An argument value, kept as a slice of the arguments string until it is first read.
+     */
+    private static class ArgumentValue {
+        private final String source;
+        private final int start;
+        private final int end;
+        private String value;
+
+        ArgumentValue(String value) {
+            this(value, 0, value.length());
+            this.value = value;
+        }
+
+        /**
+         * Creates the value {@code source[start, end)}, without leading and trailing whitespaces.
+         */
+        ArgumentValue(String source, int start, int end) {
+            // Same whitespace rule as String#trim
+            while (start < end && source.charAt(start) <= ' ') {
+                start++;
+            }
+            while (end > start && source.charAt(end - 1) <= ' ') {
+                end--;
+            }
+            this.source = source;
+            this.start = start;
+            this.end = end;
+        }
+
+        String get() {
+            if (value == null) {
+                value = source.substring(start, end);
+            }
+            return value;
+        }
+    }
 }
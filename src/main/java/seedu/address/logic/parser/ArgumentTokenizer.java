@@ -1,9 +1,10 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
@@ -18,131 +19,81 @@ public class ArgumentTokenizer {
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * The arguments string is scanned once from left to right, looking up the prefixes that start with each
+     * character in a dispatch table, so the cost does not grow with the number of prefixes.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
-     */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
+        Map<Character, Prefix[]> prefixesByFirstChar = buildDispatchTable(prefixes);
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
 
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+        int valueStart = 0;
 
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
+        // A prefix is only recognised after a whitespace, so it can never start at index 0
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ') {
+                continue;
+            }
 
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
+            Prefix prefix = findPrefixAt(argsString, i, prefixesByFirstChar);
+            if (prefix == null) {
+                continue;
+            }
 
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+            argMultimap.put(currentPrefix, argsString, valueStart, i);
+            currentPrefix = prefix;
+            valueStart = i + prefix.getPrefix().length();
+            i = valueStart - 1;
         }
+        argMultimap.put(currentPrefix, argsString, valueStart, argsString.length());
 
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns the {@code prefixes} grouped by their first character, longest first within each group,
+     * so that a longer prefix wins over a shorter one that starts at the same position.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
+    private static Map<Character, Prefix[]> buildDispatchTable(Prefix... prefixes) {
+        Map<Character, List<Prefix>> grouped = new HashMap<>();
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (prefixString.isEmpty()) {
+                continue;
+            }
+            List<Prefix> group = grouped.computeIfAbsent(prefixString.charAt(0), unused -> new ArrayList<>());
+            if (!group.contains(prefix)) {
+                group.add(prefix);
+            }
+        }
 
-        return value.trim();
+        Map<Character, Prefix[]> prefixesByFirstChar = new HashMap<>();
+        grouped.forEach((firstChar, group) -> {
+            group.sort(Comparator.comparingInt((Prefix prefix) -> prefix.getPrefix().length()).reversed());
+            prefixesByFirstChar.put(firstChar, group.toArray(Prefix[]::new));
+        });
+        return prefixesByFirstChar;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the prefix that occurs in {@code argsString} at {@code position}, or null if there is none.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
+    private static Prefix findPrefixAt(String argsString, int position, Map<Character, Prefix[]> prefixesByFirstChar) {
+        Prefix[] candidates = prefixesByFirstChar.get(argsString.charAt(position));
+        if (candidates == null) {
+            return null;
         }
 
-        Prefix getPrefix() {
-            return prefix;
+        for (Prefix candidate : candidates) {
+            if (argsString.startsWith(candidate.getPrefix(), position)) {
+                return candidate;
+            }
         }
+        return null;
     }
 
 }
@@ -8,10 +8,9 @@ import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.format.ResolverStyle;
-import java.util.Set;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -56,7 +55,7 @@ public class AttendanceCommandParser implements Parser<AttendanceCommand> {
         String strStatus = argMultimap.getValue(PREFIX_STATUS).get();
         String strDate = argMultimap.getValue(PREFIX_DATE).orElse(LocalDate.now().format(formatter));
 
-        Set<Index> indexes = IndexParser.parseIndexes(strIndexes);
+        IndexRangeSet indexes = IndexParser.parseIndexes(strIndexes);
 
         if (strStatus.trim().isEmpty()) {
             throw new ParseException("Status cannot be empty. Use: present, late, sick, absent, or remove");
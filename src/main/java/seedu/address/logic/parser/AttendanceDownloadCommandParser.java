@@ -1,9 +1,11 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BUNDLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_XLSX;
 import static seedu.address.logic.parser.util.IndexParser.parseIndexes;
 
 import java.time.LocalDate;
@@ -14,11 +16,11 @@ import java.time.format.ResolverStyle;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.SortedSet;
 import java.util.stream.Stream;
 
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
+import seedu.address.logic.commands.AttendanceDownloadCommand.ReportFormat;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Class;
 
@@ -35,24 +37,26 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
      */
     @Override
     public AttendanceDownloadCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_DATE, PREFIX_MONTH);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_DATE, PREFIX_MONTH,
+                PREFIX_BUNDLE, PREFIX_XLSX);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_CLASS) && argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(
                     MESSAGE_INVALID_COMMAND_FORMAT, AttendanceDownloadCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_MONTH);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE, PREFIX_MONTH, PREFIX_BUNDLE, PREFIX_XLSX);
 
         boolean hasIndex = !argMultimap.getPreamble().isEmpty()
                 && !argMultimap.getPreamble().equals(AttendanceDownloadCommand.COMMAND_WORD);
         boolean hasClass = !argMultimap.getAllValues(PREFIX_CLASS).isEmpty();
         boolean userProvidedDate = argMultimap.getValue(PREFIX_DATE).isPresent();
         boolean userProvidedMonth = argMultimap.getValue(PREFIX_MONTH).isPresent();
+        ReportFormat format = parseFormat(argMultimap.getValue(PREFIX_BUNDLE), argMultimap.getValue(PREFIX_XLSX));
 
         validateParameterCombinations(hasIndex, hasClass, userProvidedDate, userProvidedMonth);
 
-        SortedSet<Index> indexes = null;
+        IndexRangeSet indexes = null;
         List<Class> studentClasses = null;
 
         if (hasIndex) {
@@ -74,7 +78,8 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
         LocalDate date = parseDate(argMultimap.getValue(PREFIX_DATE), userProvidedDate);
         YearMonth month = parseMonth(argMultimap.getValue(PREFIX_MONTH), userProvidedMonth);
 
-        return new AttendanceDownloadCommand(indexes, studentClasses, date, month, userProvidedDate, userProvidedMonth);
+        return new AttendanceDownloadCommand(indexes, studentClasses, date, month, userProvidedDate, userProvidedMonth,
+                format);
     }
 
     /**
@@ -138,15 +143,37 @@ public class AttendanceDownloadCommandParser implements Parser<AttendanceDownloa
         String strMonth = monthOpt.orElse(YearMonth.now().format(formatter));
 
         if (userProvided) {
-            try {
-                return YearMonth.parse(strMonth, formatter);
-            } catch (DateTimeParseException e) {
-                throw new ParseException("Invalid month format/input. Please use MM-yyyy (e.g. 12-2025).");
-            }
+            return ParserUtil.parseMonth(strMonth);
         }
         return YearMonth.parse(strMonth, formatter);
     }
 
+    /**
+     * Returns the report format chosen by the bundle and Excel flags. Neither flag takes a value.
+     *
+     * @param bundleOpt The optional value given after the bundle prefix.
+     * @param xlsxOpt The optional value given after the Excel prefix.
+     * @return How the report(s) should be saved.
+     * @throws ParseException If a value is given after either prefix, or both prefixes are given.
+     */
+    private ReportFormat parseFormat(Optional<String> bundleOpt, Optional<String> xlsxOpt) throws ParseException {
+        if (bundleOpt.isPresent() && !bundleOpt.get().isEmpty()) {
+            throw new ParseException(PREFIX_BUNDLE + " does not take a value.");
+        }
+        if (xlsxOpt.isPresent() && !xlsxOpt.get().isEmpty()) {
+            throw new ParseException(PREFIX_XLSX + " does not take a value.");
+        }
+        if (bundleOpt.isPresent() && xlsxOpt.isPresent()) {
+            throw new ParseException("Cannot specify both " + PREFIX_BUNDLE + " and " + PREFIX_XLSX + ". Choose one.");
+        }
+
+        if (bundleOpt.isPresent()) {
+            return ReportFormat.ZIP;
+        } else if (xlsxOpt.isPresent()) {
+            return ReportFormat.XLSX;
+        }
+        return ReportFormat.CSV;
+    }
 
     /**
      * Returns true if none of the prefixes contains empty {@code Optional} values in the given
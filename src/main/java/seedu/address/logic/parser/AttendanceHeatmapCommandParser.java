@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MONTH;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.AttendanceHeatmapCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
+
+/**
+ * Parses input arguments and creates a new AttendanceHeatmapCommand object.
+ */
+public class AttendanceHeatmapCommandParser implements Parser<AttendanceHeatmapCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceHeatmapCommand
+     * and returns an AttendanceHeatmapCommand object for execution.
+     * The month defaults to the current month.
+     *
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    @Override
+    public AttendanceHeatmapCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_MONTH);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getAllValues(PREFIX_CLASS).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    AttendanceHeatmapCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_MONTH);
+
+        List<Class> studentClasses = new ArrayList<>();
+        for (String classStr : argMultimap.getAllValues(PREFIX_CLASS)) {
+            studentClasses.add(ParserUtil.parseClass(classStr));
+        }
+
+        Optional<String> monthOpt = argMultimap.getValue(PREFIX_MONTH);
+        YearMonth month = monthOpt.isPresent() ? ParserUtil.parseMonth(monthOpt.get()) : YearMonth.now();
+
+        return new AttendanceHeatmapCommand(studentClasses, month);
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.AttendanceImportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AttendanceImportCommand object.
+ */
+public class AttendanceImportCommandParser implements Parser<AttendanceImportCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the AttendanceImportCommand
+     * and returns an AttendanceImportCommand object for execution.
+     *
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    @Override
+    public AttendanceImportCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(
+                    MESSAGE_INVALID_COMMAND_FORMAT, AttendanceImportCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            return new AttendanceImportCommand(filePath);
+        } catch (InvalidPathException e) {
+            throw new ParseException("Invalid file path: " + trimmedArgs, e);
+        }
+    }
+}
@@ -19,5 +19,8 @@ public class CliSyntax {
     public static final Prefix PREFIX_STATUS = new Prefix("s/");
     public static final Prefix PREFIX_FIELD = new Prefix("f/");
     public static final Prefix PREFIX_ORDER = new Prefix("o/");
+    public static final Prefix PREFIX_BUNDLE = new Prefix("zip/");
+    public static final Prefix PREFIX_XLSX = new Prefix("xlsx/");
+    public static final Prefix PREFIX_FAVOURITE = new Prefix("fav/");
 
 }
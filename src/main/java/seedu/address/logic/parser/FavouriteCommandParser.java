@@ -3,11 +3,10 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS;
 
-import java.util.List;
-
-import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.commands.FavouriteCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.util.IndexParser;
 
 /**
  * Parses input arguments and creates a new FindNameCommand object
@@ -27,19 +26,14 @@ public class FavouriteCommandParser implements Parser<FavouriteCommand> {
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, FavouriteCommand.MESSAGE_USAGE));
         }
 
-        String[] indexStrKeywords = trimmedArgs.split("\\s*,\\s*");
-        List<Index> indexKeywords = new java.util.ArrayList<>(List.of());
-        for (String s: indexStrKeywords) {
-            Index i;
-            try {
-                i = ParserUtil.parseIndex(s);
-            } catch (ParseException e) {
-                throw new ParseException(MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS);
-            }
-            indexKeywords.add(i);
+        IndexRangeSet indexes;
+        try {
+            indexes = IndexParser.parseIndexes(trimmedArgs);
+        } catch (ParseException e) {
+            throw new ParseException(MESSAGE_INVALID_INDEX_OR_MISSING_COMMAS);
         }
 
-        return new FavouriteCommand(indexKeywords);
+        return new FavouriteCommand(indexes);
     }
 
 }
@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FAVOURITE;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListCommand object.
+ */
+public class ListCommandParser implements Parser<ListCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListCommand
+     * and returns a ListCommand object for execution.
+     * Only the favourites are listed if {@code fav/} is given. Other arguments are ignored.
+     *
+     * @throws ParseException If {@code fav/} is given more than once.
+     */
+    @Override
+    public ListCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FAVOURITE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FAVOURITE);
+
+        return new ListCommand(argMultimap.getValue(PREFIX_FAVOURITE).isPresent());
+    }
+}
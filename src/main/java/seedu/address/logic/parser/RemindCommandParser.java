@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+
+import java.util.Optional;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RemindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RemindCommand object.
+ */
+public class RemindCommandParser implements Parser<RemindCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RemindCommand
+     * and returns a RemindCommand object for execution.
+     * The number of days defaults to {@code RemindCommand.DEFAULT_UPCOMING_DAYS}. Other arguments are ignored.
+     *
+     * @throws ParseException If the number of days given is not valid.
+     */
+    @Override
+    public RemindCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DATE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DATE);
+
+        Optional<String> daysOpt = argMultimap.getValue(PREFIX_DATE);
+        if (daysOpt.isEmpty()) {
+            return new RemindCommand();
+        }
+
+        String days = daysOpt.get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(days) || Integer.parseInt(days) > RemindCommand.MAX_UPCOMING_DAYS) {
+            throw new ParseException(RemindCommand.MESSAGE_INVALID_DAYS);
+        }
+        return new RemindCommand(Integer.parseInt(days));
+    }
+}
@@ -1,12 +1,7 @@
 package seedu.address.logic.parser.util;
 
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.SortedSet;
-import java.util.TreeSet;
-
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -15,38 +10,47 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class IndexParser {
     /**
-     * Parses the given string index into a {@code Set<Index>}.
+     * Parses the given string index into an {@code IndexRangeSet}.
+     * Ranges are kept as ranges, so no {@code Index} is created for each index in a range.
      *
      * @param strIndexes The given index in string format.
-     * @return Parsed index(es) in the form of {@code Set<Index>}.
+     * @return Parsed index(es) in the form of {@code IndexRangeSet}.
      * @throws ParseException If an error occurs during parsing.
      */
-    public static SortedSet<Index> parseIndexes(String strIndexes) throws ParseException, NumberFormatException {
-        SortedSet<Index> indexes = new TreeSet<>(Comparator.comparingInt(Index::getOneBased));
+    public static IndexRangeSet parseIndexes(String strIndexes) throws ParseException {
+        IndexRangeSet.Builder indexes = new IndexRangeSet.Builder();
         String[] parts = strIndexes.split(",");
 
         for (String part : parts) {
             part = part.trim();
 
             if (part.contains("-")) {
-                indexes.addAll(parseRange(part));
+                int[] bounds = parseRangeBounds(part);
+                indexes.addRange(bounds[0], bounds[1]);
             } else {
-                indexes.add(parseSingleIndex(part));
+                indexes.add(parseSingleIndex(part).getOneBased());
             }
         }
 
-        return indexes;
+        return indexes.build();
     }
 
     /**
      * Parses the given range of index.
      *
      * @param range Of index in the form of "startNum-endNum".
-     * @return Parsed indexes in the form of {@code Set<Index>}.
+     * @return Parsed indexes in the form of {@code IndexRangeSet}.
      * @throws ParseException If an error occurred during parsing.
      */
-    public static Set<Index> parseRange(String range) throws ParseException, NumberFormatException {
-        Set<Index> indexes = new HashSet<>();
+    public static IndexRangeSet parseRange(String range) throws ParseException {
+        int[] bounds = parseRangeBounds(range);
+        return IndexRangeSet.ofRange(bounds[0], bounds[1]);
+    }
+
+    /**
+     * Parses the given range of index into its one-based start and end.
+     */
+    private static int[] parseRangeBounds(String range) throws ParseException {
         String[] bounds = range.split("-");
 
         if (bounds.length != 2 || bounds[0].isEmpty() || bounds[1].isEmpty()) {
@@ -56,8 +60,12 @@ public class IndexParser {
         int start;
         int end;
 
-        start = Integer.parseInt(bounds[0].trim());
-        end = Integer.parseInt(bounds[1].trim());
+        try {
+            start = Integer.parseInt(bounds[0].trim());
+            end = Integer.parseInt(bounds[1].trim());
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid range format: " + range);
+        }
 
         if (start <= 0 || end <= 0) {
             throw new ParseException("Index range must contain positive numbers only.");
@@ -67,11 +75,7 @@ public class IndexParser {
             throw new ParseException("Invalid index range: start must be <= end.");
         }
 
-        for (int i = start; i <= end; i++) {
-            indexes.add(Index.fromOneBased(i));
-        }
-
-        return indexes;
+        return new int[] {start, end};
     }
 
     /**
@@ -81,7 +85,7 @@ public class IndexParser {
      * @return Index object.
      * @throws ParseException If an error occurs during parsing.
      */
-    public static Index parseSingleIndex(String strIndex) throws ParseException, NumberFormatException {
+    public static Index parseSingleIndex(String strIndex) throws ParseException {
         try {
             int index = Integer.parseInt(strIndex.trim());
             if (index <= 0) {
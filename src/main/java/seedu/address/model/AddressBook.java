@@ -2,11 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Comparator;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AttendanceAlert;
+import seedu.address.model.person.AttendanceAnalytics;
+import seedu.address.model.person.BirthdayCalendar;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+import seedu.address.model.person.FavouriteSet;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -17,6 +26,10 @@ import seedu.address.model.person.UniquePersonList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
+    private final ClassAttendanceMatrix classAttendance;
+    private final AttendanceAnalytics attendanceAnalytics;
+    private final BirthdayCalendar birthdayCalendar;
+    private final FavouriteSet favourites;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -27,6 +40,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
+        classAttendance = new ClassAttendanceMatrix(persons.asUnmodifiableObservableList());
+        attendanceAnalytics = new AttendanceAnalytics(persons.asUnmodifiableObservableList());
+        birthdayCalendar = new BirthdayCalendar();
+        favourites = new FavouriteSet();
     }
 
     public AddressBook() {}
@@ -47,6 +64,23 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        classAttendance.invalidateAll();
+        attendanceAnalytics.invalidateAll();
+        birthdayCalendar.setAll(persons);
+        favourites.setAll(persons);
+    }
+
+    /**
+     * Replaces the contents of the person list with {@code persons}, which are already known to be unique,
+     * e.g. as they were read back from a snapshot of the address book.
+     * Unlike {@link #setPersons(List)}, the persons are not checked for duplicates.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        this.persons.setTrustedPersons(persons);
+        classAttendance.invalidateAll();
+        attendanceAnalytics.invalidateAll();
+        birthdayCalendar.setAll(persons);
+        favourites.setAll(persons);
     }
 
     /**
@@ -74,6 +108,24 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        classAttendance.invalidate(p.getStudentClass());
+        attendanceAnalytics.invalidate(p.getStudentClass());
+        birthdayCalendar.add(p);
+        favourites.add(p);
+    }
+
+    /**
+     * Adds all of {@code persons} to the address book.
+     * None of the persons may already exist in the address book, and {@code persons} must not contain duplicates.
+     */
+    public void addPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        persons.stream().map(Person::getStudentClass).distinct().forEach(studentClass -> {
+            classAttendance.invalidate(studentClass);
+            attendanceAnalytics.invalidate(studentClass);
+        });
+        persons.forEach(birthdayCalendar::add);
+        persons.forEach(favourites::add);
     }
 
     /**
@@ -85,6 +137,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        classAttendance.invalidate(target.getStudentClass());
+        classAttendance.invalidate(editedPerson.getStudentClass());
+        attendanceAnalytics.invalidate(target.getStudentClass());
+        attendanceAnalytics.invalidate(editedPerson.getStudentClass());
+        birthdayCalendar.set(target, editedPerson);
+        favourites.set(target, editedPerson);
     }
 
     /**
@@ -93,6 +151,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void sortPersons(Comparator<Person> comparator) {
         requireNonNull(comparator);
         persons.sortPersons(comparator);
+        classAttendance.invalidateAll(); // keep rows in display order
+        birthdayCalendar.setAll(persons.asUnmodifiableObservableList()); // and birthdays on the same day too
+        favourites.setAll(persons.asUnmodifiableObservableList()); // and favourites too
     }
 
     /**
@@ -101,6 +162,63 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        classAttendance.invalidate(key.getStudentClass());
+        attendanceAnalytics.invalidate(key.getStudentClass());
+        birthdayCalendar.remove(key);
+        favourites.remove(key);
+    }
+
+    /**
+     * Marks {@code person} as a favourite or not.
+     * {@code person} must exist in the address book.
+     */
+    public void setFavourite(Person person, boolean isFavourite) {
+        favourites.setFavourite(person, isFavourite);
+    }
+
+    /**
+     * Marks each of {@code persons} as a favourite if they are not one, or as not a favourite if they are.
+     * {@code persons} must exist in the address book.
+     */
+    public void toggleFavourites(List<Person> persons) {
+        favourites.toggleAll(persons);
+    }
+
+    /**
+     * Returns true if {@code person}, as held in the address book, is a favourite.
+     */
+    public boolean isFavourite(Person person) {
+        return favourites.contains(person);
+    }
+
+    /**
+     * Returns the favourites, in display order unless they have been favourited since the address book was last
+     * sorted, in which case they follow in the order they were favourited.
+     */
+    public ObservableList<Person> getFavouriteList() {
+        return favourites.asUnmodifiableObservableList();
+    }
+
+    /**
+     * Returns the attendance of all students in {@code studentClass} during {@code month}, one row per student.
+     */
+    public MonthBlock getClassMonthAttendance(Class studentClass, YearMonth month) {
+        return classAttendance.getMonth(studentClass, month);
+    }
+
+    /**
+     * Returns the attendance alerts of every student, grouped by class.
+     */
+    public List<AttendanceAlert> getAttendanceAlerts() {
+        return attendanceAnalytics.getAlerts();
+    }
+
+    /**
+     * Returns the persons whose birthday falls on {@code date}, in display order unless they have been edited since
+     * the address book was last sorted. Persons born on 29 February are included on 28 February of other years.
+     */
+    public List<Person> getBirthdaysOn(LocalDate date) {
+        return birthdayCalendar.getBirthdaysOn(date);
     }
 
     //// util methods
@@ -1,13 +1,17 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.AttendanceAlert;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 
 /**
@@ -72,6 +76,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons, keeping the current filter.
+     * None of {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -104,9 +114,31 @@ public interface Model {
     void sortFilteredPersonList(Comparator<Person> comparator);
 
     /**
-     * Retrieve the list of favourites when model is launched.
+     * Marks {@code person} as a favourite or not.
+     * {@code person} must exist in the address book.
+     */
+    void setFavourite(Person person, boolean isFavourite);
+
+    /**
+     * Marks each of {@code persons} as a favourite if they are not one, or as not a favourite if they are.
+     * The favourite list reports the changes together, as a single change.
+     * {@code persons} must exist in the address book.
+     */
+    void toggleFavourites(List<Person> persons);
+
+    /**
+     * Returns true if {@code person} is one of the favourites in the address book.
+     */
+    boolean isFavourite(Person person);
+
+    /** Returns an unmodifiable view of the favourites in the address book */
+    ObservableList<Person> getFavouritePersonList();
+
+    /**
+     * Shows only the favourites in the filtered person list, in the order of {@link #getFavouritePersonList()}.
+     * The list follows the favourites as they change, until the filter is next updated.
      */
-    ArrayList<Index> retrieveInitialFavList();
+    void showFavouritePersonList();
 
     /**
      * Refine the filtered list further (cumulatively) based on new predicate.
@@ -115,4 +147,20 @@ public interface Model {
      */
     void updateFilteredPersonListCumulative(Predicate<Person> newPredicate);
 
+    /**
+     * Returns the attendance of all students in {@code studentClass} during {@code month}, one row per student.
+     */
+    MonthBlock getClassMonthAttendance(Class studentClass, YearMonth month);
+
+    /**
+     * Returns the persons in the address book whose birthday falls on {@code date}.
+     * Persons born on 29 February are included on 28 February of years that are not leap years.
+     */
+    List<Person> getBirthdaysOn(LocalDate date);
+
+    /**
+     * Returns the attendance alerts of every student in the address book.
+     */
+    List<AttendanceAlert> getAttendanceAlerts();
+
 }
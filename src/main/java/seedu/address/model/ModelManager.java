@@ -4,8 +4,10 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.ArrayList;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,7 +17,9 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
-import seedu.address.commons.core.index.Index;
+import seedu.address.model.person.AttendanceAlert;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 
 /**
@@ -27,6 +31,8 @@ public class ModelManager implements Model {
 
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
+    // Either every person or only the favourites, so that listing the favourites does not look at everyone else
+    private final SwitchableList<Person> shownPersons;
     private final FilteredList<Person> filteredPersons;
 
     /**
@@ -39,7 +45,8 @@ public class ModelManager implements Model {
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        shownPersons = new SwitchableList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredList<>(shownPersons);
     }
 
     public ModelManager() {
@@ -110,6 +117,11 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -127,6 +139,23 @@ public class ModelManager implements Model {
         return selectedPerson.get();
     }
 
+    @Override
+    public MonthBlock getClassMonthAttendance(Class studentClass, YearMonth month) {
+        requireAllNonNull(studentClass, month);
+        return addressBook.getClassMonthAttendance(studentClass, month);
+    }
+
+    @Override
+    public List<Person> getBirthdaysOn(LocalDate date) {
+        requireNonNull(date);
+        return addressBook.getBirthdaysOn(date);
+    }
+
+    @Override
+    public List<AttendanceAlert> getAttendanceAlerts() {
+        return addressBook.getAttendanceAlerts();
+    }
+
     /**
      * Returns an observable of the selected person for UI binding
      */
@@ -134,20 +163,27 @@ public class ModelManager implements Model {
         return selectedPerson;
     }
 
-    /**
-     * Adds those with a favourite indication upon launching model.
-     *
-     * @return ArrayList List of indexes from filtered list which has favourite property.
-     */
-    public ArrayList<Index> retrieveInitialFavList() {
-        ArrayList<Index> favInitialList = new ArrayList<>();
-        for (Person p: filteredPersons) {
-            if (p.getIsFavBoolean()) {
-                Index indexToInclude = Index.fromZeroBased(filteredPersons.indexOf(p));
-                favInitialList.add(indexToInclude);
-            }
-        }
-        return favInitialList;
+    @Override
+    public void setFavourite(Person person, boolean isFavourite) {
+        requireNonNull(person);
+        addressBook.setFavourite(person, isFavourite);
+    }
+
+    @Override
+    public void toggleFavourites(List<Person> persons) {
+        requireAllNonNull(persons);
+        addressBook.toggleFavourites(persons);
+    }
+
+    @Override
+    public boolean isFavourite(Person person) {
+        requireNonNull(person);
+        return addressBook.isFavourite(person);
+    }
+
+    @Override
+    public ObservableList<Person> getFavouritePersonList() {
+        return addressBook.getFavouriteList();
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -165,6 +201,13 @@ public class ModelManager implements Model {
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredPersons.setPredicate(predicate);
+        shownPersons.setSource(addressBook.getPersonList());
+    }
+
+    @Override
+    public void showFavouritePersonList() {
+        filteredPersons.setPredicate(PREDICATE_SHOW_ALL_PERSONS);
+        shownPersons.setSource(addressBook.getFavouriteList());
     }
 
     @Override
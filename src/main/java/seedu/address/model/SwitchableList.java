@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of one of several observable lists, which can be switched to another list.
+ * Changes to the list being viewed are passed on as they are, so that lists built on this view, such as a
+ * {@code FilteredList}, only look at the elements that changed.
+ * Switching to another list is passed on as a replacement of all elements.
+ */
+class SwitchableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::passOn;
+    private ObservableList<? extends E> source;
+
+    /**
+     * Creates a view of {@code source}.
+     */
+    SwitchableList(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        this.source = source;
+        source.addListener(sourceListener);
+    }
+
+    /**
+     * Switches the view to {@code newSource}, if it is not already viewing it.
+     */
+    void setSource(ObservableList<? extends E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+
+        List<E> removed = new ArrayList<>(source);
+        source.removeListener(sourceListener);
+        source = newSource;
+        source.addListener(sourceListener);
+        if (removed.isEmpty() && source.isEmpty()) {
+            return;
+        }
+
+        beginChange();
+        nextReplace(0, source.size(), removed);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    private void passOn(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = from; i < to; i++) {
+                    permutation[i - from] = change.getPermutation(i);
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(from, new ArrayList<>(change.getRemoved()));
+            } else {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+}
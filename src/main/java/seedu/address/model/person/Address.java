@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -23,6 +25,7 @@ public class Address {
      * - Leading and trailing spaces are handled by trimming
      */
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9\\s,.\\-#/()]+$";
+    public static final int MIN_LENGTH = 15;
 
     public final String value;
 
@@ -38,11 +41,29 @@ public class Address {
         value = normalizedAddress;
     }
 
+    /**
+     * Constructs a {@code Address} of {@code normalizedAddress} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Address(String normalizedAddress, boolean isTrusted) {
+        assert isTrusted && isValidAddress(normalizedAddress) : MESSAGE_CONSTRAINTS;
+        value = normalizedAddress;
+    }
+
+    /**
+     * Returns a {@code Address} of {@code normalizedAddress}, which must already be valid and normalized,
+     * e.g. an address read back from a snapshot of the address book.
+     * It is only checked again when assertions are enabled.
+     */
+    public static Address fromTrusted(String normalizedAddress) {
+        requireNonNull(normalizedAddress);
+        return new Address(normalizedAddress, true);
+    }
+
     /**
      * Normalizes the address by trimming and collapsing multiple spaces into single spaces.
      */
     private static String normalizeAddress(String address) {
-        return address.trim().replaceAll("\\s+", " ");
+        return StringUtil.collapseWhitespace(address.trim());
     }
 
     /**
@@ -53,7 +74,24 @@ public class Address {
             return false;
         }
         String trimmed = test.trim();
-        return !trimmed.isEmpty() && trimmed.length() >= 15 && trimmed.matches(VALIDATION_REGEX);
+        if (trimmed.length() < MIN_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (!isValidAddressChar(trimmed.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the characters allowed by {@link #VALIDATION_REGEX}.
+     */
+    private static boolean isValidAddressChar(char c) {
+        return StringUtil.isAsciiAlphanumeric(c) || StringUtil.isRegexWhitespace(c)
+                || c == ',' || c == '.' || c == '-' || c == '#' || c == '/' || c == '(' || c == ')';
     }
 
     @Override
@@ -1,30 +1,141 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
 
 /**
  * Represents a Person's attendance in the address book.
+ * Attendance loaded from storage is kept in its serialized form until a record is first needed, so that
+ * records which are never viewed or changed are neither parsed nor re-formatted when saved.
+ * The number of records of each status, and the statuses of the latest records, are worked out from the serialized
+ * records as they are loaded, so that the attendance statistics can be queried without parsing the records.
+ * Serialized records with an invalid date or status are ignored by every query, whether or not the records have
+ * been parsed, and are saved again as they were loaded so that they are never lost.
+ * Every method locks the attendance, so that the UI can read the records while a command marks them on the
+ * command thread. Listeners are notified on the thread that changed the records.
  */
 public class Attendance {
     public static final String MESSAGE_CONSTRAINTS = "Attendance should only be "
             + "present/late/sick/absent.";
 
-    public final Map<LocalDate, AttendanceStatus> attendance;
+    // The number of latest records whose statuses are kept for records that have not been parsed
+    private static final int SUMMARY_LATEST_RECORDS = 10;
+
+    private static final Logger logger = LogsCenter.getLogger(Attendance.class);
+
+    private NavigableMap<LocalDate, AttendanceStatus> attendance;
+
+    // Records as loaded from storage (ISO date to status name), until they are parsed into attendance
+    private Map<String, String> serializedRecords;
+    // Serialized records that could not be parsed, kept as they were loaded
+    private Map<String, String> invalidRecords = Map.of();
+    // Statistics of the serialized records, or null once they are parsed or if they could not be worked out
+    private Summary summary;
+
+    private final List<AttendanceListener> listeners = new ArrayList<>();
+
+    // Running number of records per status, kept up to date on every mark and unmark
+    private final int[] statusCounts = new int[AttendanceStatus.values().length];
 
     /**
      * Constructs an empty {@code Attendance} object.
      */
     public Attendance() {
-        this.attendance = new HashMap<>();
+        this.attendance = new TreeMap<>();
+    }
+
+    /**
+     * Constructs an {@code Attendance} object from records in their serialized form,
+     * with ISO-8601 dates (yyyy-MM-dd) mapped to status names.
+     * The records are only parsed when first needed. {@code serializedRecords} must not be changed afterwards.
+     */
+    public Attendance(Map<String, String> serializedRecords) {
+        requireNonNull(serializedRecords);
+        this.serializedRecords = serializedRecords;
+        this.summary = Summary.of(serializedRecords);
+    }
+
+    /**
+     * Returns true if the records have been parsed from their serialized form.
+     */
+    public synchronized boolean isHydrated() {
+        return serializedRecords == null;
+    }
+
+    /**
+     * Returns every record in its serialized form, with ISO-8601 dates (yyyy-MM-dd) mapped to status names.
+     * Records that have not been parsed, and records that could not be, are returned exactly as they were loaded.
+     */
+    public synchronized Map<String, String> getSerializedRecords() {
+        if (!isHydrated()) {
+            return Collections.unmodifiableMap(serializedRecords);
+        }
+
+        // A valid record marked since loading replaces an invalid one with the same date
+        Map<String, String> records = new LinkedHashMap<>(invalidRecords);
+        attendance.forEach((date, status) -> records.put(date.toString(), status.toString()));
+        return records;
+    }
+
+    /**
+     * Returns the parsed records, parsing them first if needed.
+     * Serialized records with an invalid date or status are set aside in {@code invalidRecords}.
+     */
+    private NavigableMap<LocalDate, AttendanceStatus> records() {
+        if (isHydrated()) {
+            return attendance;
+        }
+
+        NavigableMap<LocalDate, AttendanceStatus> parsed = new TreeMap<>();
+        Map<String, String> invalid = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : serializedRecords.entrySet()) {
+            try {
+                AttendanceStatus status = AttendanceStatus.valueOf(entry.getValue());
+                parsed.put(LocalDate.parse(entry.getKey()), status);
+                statusCounts[status.ordinal()]++;
+            } catch (DateTimeParseException | IllegalArgumentException | NullPointerException e) {
+                logger.warning("Ignoring invalid attendance record: " + entry.getKey() + "=" + entry.getValue());
+                invalid.put(entry.getKey(), entry.getValue());
+            }
+        }
+
+        attendance = parsed;
+        invalidRecords = invalid.isEmpty() ? Map.of() : invalid;
+        serializedRecords = null;
+        summary = null;
+        return attendance;
+    }
+
+    /**
+     * Registers a listener to be notified whenever a record is marked or unmarked.
+     */
+    public synchronized void addListener(AttendanceListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     */
+    public synchronized void removeListener(AttendanceListener listener) {
+        listeners.remove(listener);
     }
 
     /**
@@ -34,9 +145,17 @@ public class Attendance {
      * @param date The date of attendance.
      * @param status The status of attendance.
      */
-    public boolean markAttendance(LocalDate date, AttendanceStatus status) {
-        AttendanceStatus s = attendance.put(date, status);
-        return !status.equals(s); // The status is different from the previous one
+    public synchronized boolean markAttendance(LocalDate date, AttendanceStatus status) {
+        AttendanceStatus s = records().put(date, status);
+        boolean isChanged = !status.equals(s); // The status is different from the previous one
+        if (isChanged) {
+            if (s != null) {
+                statusCounts[s.ordinal()]--;
+            }
+            statusCounts[status.ordinal()]++;
+            notifyListeners(date, status);
+        }
+        return isChanged;
     }
 
     /**
@@ -44,67 +163,127 @@ public class Attendance {
      *
      * @param date The date of attendance.
      */
-    public boolean unmarkAttendance(LocalDate date) throws NoAttendanceRecordException {
-        if (attendance.remove(date) != null) {
+    public synchronized boolean unmarkAttendance(LocalDate date) throws NoAttendanceRecordException {
+        AttendanceStatus removed = records().remove(date);
+        if (removed != null) {
+            statusCounts[removed.ordinal()]--;
+            notifyListeners(date, null);
             return true;
         } else {
             throw new NoAttendanceRecordException("No attendance record on the specified date.");
         }
     }
 
+    /**
+     * Returns the status recorded on {@code date}, or null if there is no record.
+     */
+    public synchronized AttendanceStatus getStatus(LocalDate date) {
+        return records().get(date);
+    }
+
+    /**
+     * Returns the number of records with the given {@code status}.
+     */
+    public synchronized int getStatusCount(AttendanceStatus status) {
+        if (summary != null) {
+            return summary.statusCounts[status.ordinal()];
+        }
+        records();
+        return statusCounts[status.ordinal()];
+    }
+
+    /**
+     * Returns the number of consecutive records with the given {@code status}, counting back from the latest record.
+     * Only the trailing run of records is visited.
+     */
+    public synchronized int getTrailingStreak(AttendanceStatus status) {
+        if (summary != null) {
+            return summary.latestStatus == status ? summary.trailingStreak : 0;
+        }
+
+        int streak = 0;
+        for (AttendanceStatus recorded : records().descendingMap().values()) {
+            if (recorded != status) {
+                break;
+            }
+            streak++;
+        }
+        return streak;
+    }
+
+    /**
+     * Returns the number of records with the given {@code status} among the latest {@code limit} records.
+     */
+    public synchronized int countRecent(AttendanceStatus status, int limit) {
+        Iterable<AttendanceStatus> latestFirst = summary != null && limit <= SUMMARY_LATEST_RECORDS
+                ? summary.latestStatuses
+                : records().descendingMap().values();
+        int count = 0;
+        int visited = 0;
+        for (AttendanceStatus recorded : latestFirst) {
+            if (visited++ == limit) {
+                break;
+            }
+            if (recorded == status) {
+                count++;
+            }
+        }
+        return count;
+    }
+
     /**
      * Returns a copy of all attendance records.
      * The returned map contains dates mapped to their corresponding attendance status.
      *
      * @return a copy of the attendance records map
      */
-    public Map<LocalDate, AttendanceStatus> getAttendanceRecords() {
-        return new HashMap<>(attendance);
+    public synchronized Map<LocalDate, AttendanceStatus> getAttendanceRecords() {
+        return new HashMap<>(records());
     }
 
     /**
-     * Returns the attendance records within the specified month.
+     * Returns a copy of the attendance records within the specified month, ordered by date.
+     * The records are looked up by date range, so the cost does not grow with the rest of the history.
      *
      * @param targetMonth specified attendance month.
      * @return attendance records map at the specified month.
      */
-    public Map<LocalDate, AttendanceStatus> getAttendanceRecordsForMonth(YearMonth targetMonth) {
-        return attendance.entrySet()
-                .stream()
-                .filter(entry -> YearMonth.from(entry.getKey()).equals(targetMonth))
-                .collect(Collectors.toMap(
-                        entry -> entry.getKey(),
-                        entry -> entry.getValue()
-                ));
+    public synchronized Map<LocalDate, AttendanceStatus> getAttendanceRecordsForMonth(YearMonth targetMonth) {
+        requireNonNull(targetMonth);
+        return new TreeMap<>(records().subMap(targetMonth.atDay(1), true, targetMonth.atEndOfMonth(), true));
     }
 
     /**
      * Returns true if there are no attendance records.
      */
-    public boolean isEmpty() {
-        return attendance.isEmpty();
+    public synchronized boolean isEmpty() {
+        if (summary != null) {
+            return summary.size == 0;
+        }
+        // Without any serialized records there is nothing to parse
+        return !isHydrated() && serializedRecords.isEmpty() || records().isEmpty();
     }
 
     /**
      * Returns the number of attendance records.
      */
-    public int size() {
-        return attendance.size();
+    public synchronized int size() {
+        return summary != null ? summary.size : records().size();
     }
 
     /**
      * Attendance formatter to be displayed in the view window.
      * @return a formatted string of the attendance record.
      */
-    public String formatAttendanceRecords() {
-        if (attendance.isEmpty()) {
+    public synchronized String formatAttendanceRecords() {
+        if (isEmpty()) {
             return "No attendance records.";
         }
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
         StringBuilder formattedAttendanceRecord = new StringBuilder();
 
-        attendance.entrySet().stream()
+        records().entrySet().stream()
                 .sorted(Map.Entry.comparingByKey())
                 .forEach(entry -> {
                     String formattedDate = entry.getKey().format(formatter);
@@ -122,17 +301,15 @@ public class Attendance {
      * @param targetMonth attendance month to be viewed.
      * @return a formatted string of the attendance record for the specified month.
      */
-    public String formatAttendanceRecordsForMonth(YearMonth targetMonth) {
-        if (attendance.isEmpty()) {
+    public synchronized String formatAttendanceRecordsForMonth(YearMonth targetMonth) {
+        if (isEmpty()) {
             return "No attendance records.";
         }
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd MMM yyyy", Locale.ENGLISH);
         StringBuilder formattedAttendanceRecord = new StringBuilder();
 
-        attendance.entrySet().stream()
-                .sorted(Map.Entry.comparingByKey())
-                .filter(entry -> YearMonth.from(entry.getKey()).equals(targetMonth))
+        getAttendanceRecordsForMonth(targetMonth).entrySet()
                 .forEach(entry -> {
                     String formattedDate = entry.getKey().format(formatter);
                     formattedAttendanceRecord.append(formattedDate)
@@ -146,9 +323,15 @@ public class Attendance {
                 + targetMonth.format(DateTimeFormatter.ofPattern("MMM yyyy")) : result;
     }
 
+    private void notifyListeners(LocalDate date, AttendanceStatus status) {
+        for (AttendanceListener listener : listeners) {
+            listener.onAttendanceChanged(date, status);
+        }
+    }
+
     @Override
-    public String toString() {
-        return attendance.toString();
+    public synchronized String toString() {
+        return records().toString();
     }
 
     @Override
@@ -162,13 +345,139 @@ public class Attendance {
             return false;
         }
 
-        Attendance otherAttendance = (Attendance) other;
-        return attendance.equals(otherAttendance.attendance);
+        // Copied first, so that the two attendances are never locked at the same time
+        Map<LocalDate, AttendanceStatus> otherRecords = ((Attendance) other).getAttendanceRecords();
+        synchronized (this) {
+            return records().equals(otherRecords);
+        }
     }
 
     @Override
-    public int hashCode() {
-        return attendance.hashCode();
+    public synchronized int hashCode() {
+        return records().hashCode();
+    }
+
+    /**
+     * The statistics of serialized records, worked out without parsing them into dates.
+     * Dates in the usual yyyy-MM-dd form are ordered by comparing them as strings, so no summary is made if any
+     * record has a date in another form, e.g. one with a five digit year.
+     */
+    private static class Summary {
+        private final int[] statusCounts = new int[AttendanceStatus.values().length];
+        // The statuses of at most SUMMARY_LATEST_RECORDS latest records, latest first
+        private final List<AttendanceStatus> latestStatuses = new ArrayList<>();
+        private int size;
+        private AttendanceStatus latestStatus;
+        private int trailingStreak;
+
+        /**
+         * Returns the summary of {@code serializedRecords}, or null if it cannot be worked out.
+         * Records that would be ignored once parsed are left out in the same way.
+         */
+        static Summary of(Map<String, String> serializedRecords) {
+            Summary summary = new Summary();
+            TreeMap<String, AttendanceStatus> latestRecords = new TreeMap<>();
+            // The latest date of each status
+            String[] latestDates = new String[AttendanceStatus.values().length];
+            for (Map.Entry<String, String> entry : serializedRecords.entrySet()) {
+                String date = entry.getKey();
+                if (date == null || !isUsualDateForm(date)) {
+                    return null;
+                }
+                AttendanceStatus status = toValidStatus(date, entry.getValue());
+                if (status == null) {
+                    continue;
+                }
+
+                summary.size++;
+                summary.statusCounts[status.ordinal()]++;
+                String latestDate = latestDates[status.ordinal()];
+                if (latestDate == null || date.compareTo(latestDate) > 0) {
+                    latestDates[status.ordinal()] = date;
+                }
+                latestRecords.put(date, status);
+                if (latestRecords.size() > SUMMARY_LATEST_RECORDS) {
+                    latestRecords.pollFirstEntry();
+                }
+            }
+
+            summary.latestStatuses.addAll(latestRecords.descendingMap().values());
+            if (summary.size > 0) {
+                summary.latestStatus = summary.latestStatuses.get(0);
+                summary.trailingStreak = countTrailingStreak(serializedRecords, summary.latestStatus, latestDates);
+            }
+            return summary;
+        }
+
+        /**
+         * Returns the number of records of {@code status} after the latest record of any other status.
+         */
+        private static int countTrailingStreak(Map<String, String> serializedRecords, AttendanceStatus status,
+                String[] latestDates) {
+            String streakStart = null;
+            for (AttendanceStatus other : AttendanceStatus.values()) {
+                String latestDate = latestDates[other.ordinal()];
+                if (other != status && latestDate != null
+                        && (streakStart == null || latestDate.compareTo(streakStart) > 0)) {
+                    streakStart = latestDate;
+                }
+            }
+
+            int streak = 0;
+            for (Map.Entry<String, String> entry : serializedRecords.entrySet()) {
+                if ((streakStart == null || entry.getKey().compareTo(streakStart) > 0)
+                        && toValidStatus(entry.getKey(), entry.getValue()) == status) {
+                    streak++;
+                }
+            }
+            return streak;
+        }
+
+        /**
+         * Returns true if {@code date} has the form yyyy-MM-dd, whether or not it is a valid date.
+         */
+        private static boolean isUsualDateForm(String date) {
+            if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+                return false;
+            }
+            for (int i = 0; i < date.length(); i++) {
+                char c = date.charAt(i);
+                if (i != 4 && i != 7 && (c < '0' || c > '9')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns the status of a record whose date has the usual form, or null if the record is invalid.
+         */
+        private static AttendanceStatus toValidStatus(String date, String status) {
+            int year = Integer.parseInt(date.substring(0, 4));
+            int month = Integer.parseInt(date.substring(5, 7));
+            int day = Integer.parseInt(date.substring(8, 10));
+            if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+                return null;
+            }
+            try {
+                return AttendanceStatus.valueOf(status);
+            } catch (IllegalArgumentException | NullPointerException e) {
+                return null;
+            }
+        }
     }
 
+    /**
+     * Listens for changes to the records of an {@code Attendance}.
+     */
+    @FunctionalInterface
+    public interface AttendanceListener {
+        /**
+         * Called after the record on {@code date} has changed.
+         *
+         * @param date The date of the changed record.
+         * @param status The new status, or null if the record was removed.
+         */
+        void onAttendanceChanged(LocalDate date, AttendanceStatus status);
+    }
 }
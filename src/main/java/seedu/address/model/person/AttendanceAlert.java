@@ -0,0 +1,85 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents an unusual attendance pattern of a student.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class AttendanceAlert {
+
+    /**
+     * Represents the kinds of attendance pattern that are flagged.
+     */
+    public enum Type {
+        ABSENCE_STREAK, HIGH_LATE_RATE, ATTENDANCE_DROP
+    }
+
+    private final Person student;
+    private final Type type;
+    private final String details;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public AttendanceAlert(Person student, Type type, String details) {
+        requireAllNonNull(student, type, details);
+        this.student = student;
+        this.type = type;
+        this.details = details;
+    }
+
+    public Person getStudent() {
+        return student;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getDetails() {
+        return details;
+    }
+
+    /**
+     * Returns the alert as a single line to be shown to the user.
+     */
+    public String toDisplayString() {
+        return student.getName() + " (" + student.getStudentClass() + "): " + details;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceAlert)) {
+            return false;
+        }
+
+        AttendanceAlert otherAlert = (AttendanceAlert) other;
+        return student.equals(otherAlert.student)
+                && type == otherAlert.type
+                && details.equals(otherAlert.details);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(student, type, details);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("student", student.getName())
+                .add("type", type)
+                .add("details", details)
+                .toString();
+    }
+}
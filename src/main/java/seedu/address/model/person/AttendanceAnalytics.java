@@ -0,0 +1,272 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.person.Attendance.AttendanceListener;
+
+/**
+ * Keeps running attendance statistics of every class and flags students whose attendance stands out.
+ * A student is flagged when
+ * <ul>
+ *     <li>their latest records are more than {@link #ABSENCE_STREAK_THRESHOLD} consecutive absences,</li>
+ *     <li>their late rate is more than {@link #DEVIATION_THRESHOLD} standard deviations above the mean of the rest
+ *     of the class, or</li>
+ *     <li>their attendance over the latest {@link #RECENT_RECORDS} records is more than
+ *     {@link #DEVIATION_THRESHOLD} standard deviations below the mean of the rest of the class.</li>
+ * </ul>
+ * Each student is compared with the rest of their class, leaving them out of the mean and standard deviation,
+ * as a student counted in the statistics can never be 2 standard deviations from them in a class of 5 or fewer.
+ * The standard deviation is taken to be at least {@link #MIN_DEVIATION}, so that a student still stands out from
+ * a class whose other students all have the same rate, but not by a few percent.
+ *
+ * Statistics are built from the running counts kept by each {@code Attendance}, which are worked out as the
+ * records are loaded, so a student's history is neither parsed nor scanned to query their class.
+ * Like {@link ClassAttendanceMatrix}, the statistics of a class are built when first queried and then updated in
+ * place as its students' attendance changes, until the class is invalidated.
+ */
+public class AttendanceAnalytics {
+
+    public static final int ABSENCE_STREAK_THRESHOLD = 3;
+    public static final double DEVIATION_THRESHOLD = 2.0;
+    public static final int RECENT_RECORDS = 10;
+    public static final double MIN_DEVIATION = 0.05;
+
+    private final List<Person> persons;
+    private final Map<Class, ClassStatistics> classStatistics = new HashMap<>();
+
+    /**
+     * Creates the analytics backed by {@code persons}.
+     * The owner of the list must call {@link #invalidate(Class)} or {@link #invalidateAll()} after changing it.
+     */
+    public AttendanceAnalytics(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the alerts of every student, grouped by class.
+     */
+    public List<AttendanceAlert> getAlerts() {
+        Set<Class> classes = new LinkedHashSet<>();
+        for (Person person : persons) {
+            if (person.isStudent()) {
+                classes.add(person.getStudentClass());
+            }
+        }
+
+        List<AttendanceAlert> alerts = new ArrayList<>();
+        for (Class studentClass : classes) {
+            getClassStatistics(studentClass).addAlerts(alerts);
+        }
+        return alerts;
+    }
+
+    /**
+     * Returns the running statistics of {@code studentClass}.
+     */
+    public ClassStatistics getClassStatistics(Class studentClass) {
+        requireNonNull(studentClass);
+        return classStatistics.computeIfAbsent(studentClass, this::buildClassStatistics);
+    }
+
+    /**
+     * Drops the statistics of {@code studentClass}, e.g. after a student joins, leaves or is edited.
+     */
+    public void invalidate(Class studentClass) {
+        ClassStatistics statistics = classStatistics.remove(studentClass);
+        if (statistics != null) {
+            statistics.detach();
+        }
+    }
+
+    /**
+     * Drops the statistics of every class.
+     */
+    public void invalidateAll() {
+        classStatistics.values().forEach(ClassStatistics::detach);
+        classStatistics.clear();
+    }
+
+    private ClassStatistics buildClassStatistics(Class studentClass) {
+        List<Person> students = new ArrayList<>();
+        for (Person person : persons) {
+            if (person.isStudent() && person.getStudentClass().equals(studentClass)) {
+                students.add(person);
+            }
+        }
+        return new ClassStatistics(students);
+    }
+
+    /**
+     * The mean and standard deviation of a changing set of values.
+     */
+    private static class RunningStatistic {
+        private int count;
+        private double sum;
+        private double sumOfSquares;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+        }
+
+        void remove(double value) {
+            count--;
+            sum -= value;
+            sumOfSquares -= value * value;
+        }
+
+        double mean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        double standardDeviation() {
+            if (count == 0) {
+                return 0;
+            }
+            double mean = mean();
+            return Math.sqrt(Math.max(0, sumOfSquares / count - mean * mean));
+        }
+
+        /**
+         * Returns the mean of the values other than one occurrence of {@code value}, which must have been added.
+         */
+        double meanWithout(double value) {
+            return count <= 1 ? 0 : (sum - value) / (count - 1);
+        }
+
+        /**
+         * Returns how many standard deviations {@code value}, which must have been added, is from the other values,
+         * counting the standard deviation as at least {@link #MIN_DEVIATION}.
+         * Returns 0 if there are no other values.
+         */
+        double deviationsFromOthers(double value) {
+            if (count <= 1) {
+                return 0;
+            }
+            int others = count - 1;
+            double mean = meanWithout(value);
+            double variance = (sumOfSquares - value * value) / others - mean * mean;
+            double deviation = Math.max(MIN_DEVIATION, Math.sqrt(Math.max(0, variance)));
+            return (value - mean) / deviation;
+        }
+    }
+
+    /**
+     * The running late rate and recent attendance rate of the students of one class.
+     * Students without any record are left out of the statistics.
+     */
+    public static class ClassStatistics {
+        private final List<Person> students;
+        private final List<AttendanceListener> listeners = new ArrayList<>();
+        private final boolean[] hasRecords;
+        private final double[] lateRates;
+        private final double[] recentRates;
+        private final RunningStatistic lateRate = new RunningStatistic();
+        private final RunningStatistic recentRate = new RunningStatistic();
+
+        private ClassStatistics(List<Person> students) {
+            this.students = Collections.unmodifiableList(students);
+            this.hasRecords = new boolean[students.size()];
+            this.lateRates = new double[students.size()];
+            this.recentRates = new double[students.size()];
+
+            for (int row = 0; row < students.size(); row++) {
+                final int studentRow = row;
+                addRow(row);
+                AttendanceListener listener = (date, status) -> updateRow(studentRow);
+                students.get(row).getAttendance().addListener(listener);
+                listeners.add(listener);
+            }
+        }
+
+        private void addRow(int row) {
+            Attendance attendance = students.get(row).getAttendance();
+            int total = attendance.size();
+            hasRecords[row] = total > 0;
+            if (!hasRecords[row]) {
+                return;
+            }
+
+            int recentTotal = Math.min(total, RECENT_RECORDS);
+            int recentAttended = attendance.countRecent(AttendanceStatus.PRESENT, RECENT_RECORDS)
+                    + attendance.countRecent(AttendanceStatus.LATE, RECENT_RECORDS);
+
+            lateRates[row] = (double) attendance.getStatusCount(AttendanceStatus.LATE) / total;
+            recentRates[row] = (double) recentAttended / recentTotal;
+            lateRate.add(lateRates[row]);
+            recentRate.add(recentRates[row]);
+        }
+
+        private void updateRow(int row) {
+            if (hasRecords[row]) {
+                lateRate.remove(lateRates[row]);
+                recentRate.remove(recentRates[row]);
+            }
+            addRow(row);
+        }
+
+        private void detach() {
+            for (int row = 0; row < students.size(); row++) {
+                students.get(row).getAttendance().removeListener(listeners.get(row));
+            }
+            listeners.clear();
+        }
+
+        public double getLateRateMean() {
+            return lateRate.mean();
+        }
+
+        public double getLateRateStandardDeviation() {
+            return lateRate.standardDeviation();
+        }
+
+        public double getRecentAttendanceMean() {
+            return recentRate.mean();
+        }
+
+        public double getRecentAttendanceStandardDeviation() {
+            return recentRate.standardDeviation();
+        }
+
+        /**
+         * Appends the alerts of every student of this class to {@code alerts}.
+         */
+        private void addAlerts(List<AttendanceAlert> alerts) {
+            for (int row = 0; row < students.size(); row++) {
+                if (!hasRecords[row]) {
+                    continue;
+                }
+                Person student = students.get(row);
+
+                int absenceStreak = student.getAttendance().getTrailingStreak(AttendanceStatus.ABSENT);
+                if (absenceStreak > ABSENCE_STREAK_THRESHOLD) {
+                    alerts.add(new AttendanceAlert(student, AttendanceAlert.Type.ABSENCE_STREAK,
+                            absenceStreak + " consecutive absences"));
+                }
+
+                if (lateRate.deviationsFromOthers(lateRates[row]) > DEVIATION_THRESHOLD) {
+                    alerts.add(new AttendanceAlert(student, AttendanceAlert.Type.HIGH_LATE_RATE,
+                            String.format("Late rate %.0f%% is well above class average of %.0f%%",
+                                    lateRates[row] * 100, lateRate.meanWithout(lateRates[row]) * 100)));
+                }
+
+                if (recentRate.deviationsFromOthers(recentRates[row]) < -DEVIATION_THRESHOLD) {
+                    alerts.add(new AttendanceAlert(student, AttendanceAlert.Type.ATTENDANCE_DROP,
+                            String.format("Attended %.0f%% of latest records, well below class average of %.0f%%",
+                                    recentRates[row] * 100, recentRate.meanWithout(recentRates[row]) * 100)));
+                }
+            }
+        }
+    }
+}
@@ -41,11 +41,30 @@ public class Birthday {
         this.date = LocalDate.parse(trimmedBirthday, DATE_FORMATTER);
     }
 
+    /**
+     * Constructs a {@code Birthday} of {@code trimmedBirthday} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Birthday(String trimmedBirthday, LocalDate date) {
+        assert isValidBirthday(trimmedBirthday) : MESSAGE_CONSTRAINTS;
+        value = trimmedBirthday;
+        this.date = date;
+    }
+
+    /**
+     * Returns a {@code Birthday} of {@code trimmedBirthday}, which must already be valid and trimmed, e.g. a birthday
+     * read back from a snapshot of the address book. Only the date is parsed, and it is only checked again when
+     * assertions are enabled.
+     */
+    public static Birthday fromTrusted(String trimmedBirthday) {
+        requireNonNull(trimmedBirthday);
+        return new Birthday(trimmedBirthday, LocalDate.parse(trimmedBirthday, DATE_FORMATTER));
+    }
+
     /**
      * Returns true if a given string is a valid birthday.
      */
     public static boolean isValidBirthday(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
+        if (!hasDateShape(test)) {
             return false;
         }
 
@@ -65,6 +84,24 @@ public class Birthday {
         }
     }
 
+    /**
+     * Returns true if {@code test} matches {@link #VALIDATION_REGEX}, i.e. has the shape dd-dd-dddd.
+     */
+    private static boolean hasDateShape(String test) {
+        if (test.length() != 10) {
+            return false;
+        }
+
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            boolean isValidChar = (i == 2 || i == 5) ? c == '-' : c >= '0' && c <= '9';
+            if (!isValidChar) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Checks whether incoming date is earlier than birthday date.
      *
@@ -0,0 +1,107 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps persons in a bucket per day of the year by the month and day of their birthday,
+ * so that the birthdays on a date are found without looking at anyone born on other days.
+ * Buckets are numbered as in a leap year, so that 29 February has a bucket of its own.
+ * Within a bucket, persons are kept in the order they were added.
+ *
+ * Unlike {@link ClassAttendanceMatrix}, the buckets are kept up to date as persons are added, replaced and
+ * removed, so the owner of the persons must pass on every change.
+ */
+public class BirthdayCalendar {
+
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_DAY_BUCKET = getBucketIndex(Month.FEBRUARY, 29);
+
+    private final List<List<Person>> buckets = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+
+    /**
+     * Creates an empty {@code BirthdayCalendar}.
+     */
+    public BirthdayCalendar() {
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            buckets.add(new ArrayList<>());
+        }
+    }
+
+    /**
+     * Replaces everyone in the calendar with {@code persons}.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        buckets.forEach(List::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} to the bucket of their birthday.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        getBucket(person).add(person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, keeping its place if the birthday is on the same day.
+     * {@code target} must be in the calendar.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        List<Person> targetBucket = getBucket(target);
+        List<Person> editedBucket = getBucket(editedPerson);
+        if (targetBucket == editedBucket) {
+            targetBucket.set(targetBucket.indexOf(target), editedPerson);
+        } else {
+            remove(target);
+            editedBucket.add(editedPerson);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the calendar.
+     * {@code person} must be in the calendar.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        boolean isRemoved = getBucket(person).remove(person);
+        assert isRemoved : "Person is not in the calendar";
+    }
+
+    /**
+     * Returns the persons whose birthday falls on {@code date}.
+     * On 28 February of a year that is not a leap year, this includes the persons born on 29 February.
+     */
+    public List<Person> getBirthdaysOn(LocalDate date) {
+        requireNonNull(date);
+        List<Person> bucket = buckets.get(getBucketIndex(date.getMonth(), date.getDayOfMonth()));
+        if (date.getMonth() != Month.FEBRUARY || date.getDayOfMonth() != 28 || date.isLeapYear()) {
+            return List.copyOf(bucket);
+        }
+
+        List<Person> leapDayBucket = buckets.get(LEAP_DAY_BUCKET);
+        List<Person> birthdays = new ArrayList<>(bucket.size() + leapDayBucket.size());
+        birthdays.addAll(bucket);
+        birthdays.addAll(leapDayBucket);
+        return birthdays;
+    }
+
+    private List<Person> getBucket(Person person) {
+        LocalDate birthday = person.getBirthday().date;
+        return buckets.get(getBucketIndex(birthday.getMonth(), birthday.getDayOfMonth()));
+    }
+
+    /**
+     * Returns the bucket of {@code dayOfMonth} in {@code month}, counting from 1 January of a leap year.
+     */
+    private static int getBucketIndex(Month month, int dayOfMonth) {
+        return month.firstDayOfYear(true) + dayOfMonth - 2;
+    }
+}
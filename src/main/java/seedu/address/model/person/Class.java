@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's class in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidClass(String)}
@@ -14,6 +16,7 @@ public class Class {
             + "with no spaces, and must be between 1 and 20 characters long.";
 
     public static final String VALIDATION_REGEX = "^[a-zA-Z0-9]{1,20}$";
+    public static final int MAX_LENGTH = 20;
 
     public final String value;
 
@@ -30,10 +33,37 @@ public class Class {
     }
 
     /**
-     * Returns true if a given string is a valid class.
+     * Constructs a {@code Class} of {@code trimmedClass} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Class(String trimmedClass, boolean isTrusted) {
+        assert isTrusted && isValidClass(trimmedClass) : MESSAGE_CONSTRAINTS;
+        value = trimmedClass;
+    }
+
+    /**
+     * Returns a {@code Class} of {@code trimmedClass}, which must already be valid and normalized, e.g. a class read
+     * back from a snapshot of the address book. It is only checked again when assertions are enabled.
+     */
+    public static Class fromTrusted(String trimmedClass) {
+        requireNonNull(trimmedClass);
+        return new Class(trimmedClass, true);
+    }
+
+    /**
+     * Returns true if a given string is a valid class, as declared in {@link #VALIDATION_REGEX}.
      */
     public static boolean isValidClass(String test) {
-        return test.trim().matches(VALIDATION_REGEX);
+        String trimmed = test.trim();
+        if (trimmed.isEmpty() || trimmed.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < trimmed.length(); i++) {
+            if (!StringUtil.isAsciiAlphanumeric(trimmed.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -0,0 +1,203 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.person.Attendance.AttendanceListener;
+
+/**
+ * A columnar view of the attendance of every student, grouped by class and month.
+ * Each (class, month) pair is stored as one compact {@code byte[]} with a row per student and a column per day,
+ * so that class-level reports and statistics can scan it sequentially instead of visiting each student's map.
+ *
+ * Rows of a class are only built when that class is first queried. From then on, the class listens to the
+ * {@code Attendance} of its students so that marking and unmarking updates the cached months in place.
+ * Adding, editing or removing a person only drops the cached rows of the affected class.
+ */
+public class ClassAttendanceMatrix {
+
+    /** Cell value of a day with no attendance record. */
+    private static final byte NO_RECORD = 0;
+    private static final int MAX_DAYS_IN_MONTH = 31;
+    private static final AttendanceStatus[] STATUSES = AttendanceStatus.values();
+
+    private final List<Person> persons;
+    private final Map<Class, ClassRows> classRows = new HashMap<>();
+
+    /**
+     * Creates a matrix backed by {@code persons}.
+     * The owner of the list must call {@link #invalidate(Class)} or {@link #invalidateAll()} after changing it.
+     */
+    public ClassAttendanceMatrix(List<Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Returns the attendance of every student in {@code studentClass} during {@code month}.
+     * The returned block stays in sync with later markings until the class is invalidated.
+     */
+    public MonthBlock getMonth(Class studentClass, YearMonth month) {
+        requireAllNonNull(studentClass, month);
+        return classRows.computeIfAbsent(studentClass, this::buildClassRows).getMonth(month);
+    }
+
+    /**
+     * Drops the cached rows of {@code studentClass}, e.g. after a student joins, leaves or is edited.
+     */
+    public void invalidate(Class studentClass) {
+        ClassRows rows = classRows.remove(studentClass);
+        if (rows != null) {
+            rows.detach();
+        }
+    }
+
+    /**
+     * Drops the cached rows of every class.
+     */
+    public void invalidateAll() {
+        classRows.values().forEach(ClassRows::detach);
+        classRows.clear();
+    }
+
+    private ClassRows buildClassRows(Class studentClass) {
+        List<Person> students = new ArrayList<>();
+        for (Person person : persons) {
+            if (person.isStudent() && person.getStudentClass().equals(studentClass)) {
+                students.add(person);
+            }
+        }
+        return new ClassRows(studentClass, students);
+    }
+
+    private static byte encode(AttendanceStatus status) {
+        return status == null ? NO_RECORD : (byte) (status.ordinal() + 1);
+    }
+
+    private static AttendanceStatus decode(byte cell) {
+        return cell == NO_RECORD ? null : STATUSES[cell - 1];
+    }
+
+    /**
+     * The students of one class, and the months of their attendance that have been built so far.
+     */
+    private static class ClassRows {
+        private final Class studentClass;
+        private final List<Person> students;
+        private final Map<YearMonth, MonthBlock> months = new HashMap<>();
+        private final List<AttendanceListener> listeners = new ArrayList<>();
+
+        ClassRows(Class studentClass, List<Person> students) {
+            this.studentClass = studentClass;
+            this.students = Collections.unmodifiableList(students);
+            for (int row = 0; row < students.size(); row++) {
+                final int studentRow = row;
+                AttendanceListener listener = (date, status) -> update(studentRow, date, status);
+                students.get(row).getAttendance().addListener(listener);
+                listeners.add(listener);
+            }
+        }
+
+        MonthBlock getMonth(YearMonth month) {
+            return months.computeIfAbsent(month, m -> new MonthBlock(studentClass, m, students));
+        }
+
+        void update(int row, LocalDate date, AttendanceStatus status) {
+            MonthBlock block = months.get(YearMonth.from(date));
+            if (block != null) {
+                block.set(row, date.getDayOfMonth(), status);
+            }
+        }
+
+        void detach() {
+            for (int row = 0; row < students.size(); row++) {
+                students.get(row).getAttendance().removeListener(listeners.get(row));
+            }
+            listeners.clear();
+        }
+    }
+
+    /**
+     * The attendance of one class during one month, stored row-major with one byte per day.
+     */
+    public static class MonthBlock {
+        private final Class studentClass;
+        private final YearMonth month;
+        private final List<Person> students;
+        private final byte[] cells;
+
+        private MonthBlock(Class studentClass, YearMonth month, List<Person> students) {
+            this.studentClass = studentClass;
+            this.month = month;
+            this.students = students;
+            this.cells = new byte[students.size() * MAX_DAYS_IN_MONTH];
+
+            int daysInMonth = month.lengthOfMonth();
+            for (int row = 0; row < students.size(); row++) {
+                Attendance attendance = students.get(row).getAttendance();
+                if (attendance.isEmpty()) {
+                    continue;
+                }
+                for (int day = 1; day <= daysInMonth; day++) {
+                    cells[row * MAX_DAYS_IN_MONTH + day - 1] = encode(attendance.getStatus(month.atDay(day)));
+                }
+            }
+        }
+
+        private void set(int row, int day, AttendanceStatus status) {
+            cells[row * MAX_DAYS_IN_MONTH + day - 1] = encode(status);
+        }
+
+        public Class getStudentClass() {
+            return studentClass;
+        }
+
+        public YearMonth getMonth() {
+            return month;
+        }
+
+        /**
+         * Returns the number of students (rows) in this block.
+         */
+        public int size() {
+            return students.size();
+        }
+
+        public Person getStudent(int row) {
+            return students.get(row);
+        }
+
+        /**
+         * Returns the status of the student at {@code row} on the given one-based {@code day},
+         * or null if there is no record.
+         */
+        public AttendanceStatus getStatus(int row, int day) {
+            assert day >= 1 && day <= month.lengthOfMonth();
+            return decode(cells[row * MAX_DAYS_IN_MONTH + day - 1]);
+        }
+
+        /**
+         * Returns the number of records in this block with the given {@code status}.
+         */
+        public int countStatus(AttendanceStatus status) {
+            requireNonNull(status);
+            byte target = encode(status);
+            int count = 0;
+            for (byte cell : cells) {
+                if (cell == target) {
+                    count++;
+                }
+            }
+            return count;
+        }
+    }
+}
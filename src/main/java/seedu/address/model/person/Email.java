@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -32,6 +34,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)+(" + DOMAIN_PART_REGEX + "){2,}$";
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -46,11 +50,29 @@ public class Email {
         value = normalizedEmail;
     }
 
+    /**
+     * Constructs a {@code Email} of {@code normalizedEmail} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Email(String normalizedEmail, boolean isTrusted) {
+        assert isTrusted && isValidEmail(normalizedEmail) : MESSAGE_CONSTRAINTS;
+        value = normalizedEmail;
+    }
+
+    /**
+     * Returns a {@code Email} of {@code normalizedEmail}, which must already be valid and normalized,
+     * e.g. an email read back from a snapshot of the address book.
+     * It is only checked again when assertions are enabled.
+     */
+    public static Email fromTrusted(String normalizedEmail) {
+        requireNonNull(normalizedEmail);
+        return new Email(normalizedEmail, true);
+    }
+
     /**
      * Returns if a given string is a valid email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -1,10 +1,14 @@
 package seedu.address.model.person;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.value.ChangeListener;
 
 /**
  * Represents if a person is marked as favourite.
+ * The status is changed by commands on the command thread, while the UI follows it from the JavaFX application
+ * thread, so the property can be read, changed and listened to from any thread.
  */
 public class Favourite {
 
@@ -16,7 +20,7 @@ public class Favourite {
      */
     public Favourite(Boolean value) {
 
-        this.isFavourite = new SimpleBooleanProperty(value);
+        this.isFavourite = new GuardedBooleanProperty(value);
     }
 
     /**
@@ -45,4 +49,46 @@ public class Favourite {
     public BooleanProperty getFavBooleanProperty() {
         return this.isFavourite;
     }
+
+    /**
+     * A {@code SimpleBooleanProperty} whose value and listeners are only used while holding its lock, so that
+     * a listener can be added on one thread while the value is changed on another.
+     * Listeners are notified on the thread that changes the value, and must not wait on other threads.
+     */
+    private static class GuardedBooleanProperty extends SimpleBooleanProperty {
+
+        GuardedBooleanProperty(boolean initialValue) {
+            super(initialValue);
+        }
+
+        @Override
+        public synchronized boolean get() {
+            return super.get();
+        }
+
+        @Override
+        public synchronized void set(boolean newValue) {
+            super.set(newValue);
+        }
+
+        @Override
+        public synchronized void addListener(InvalidationListener listener) {
+            super.addListener(listener);
+        }
+
+        @Override
+        public synchronized void removeListener(InvalidationListener listener) {
+            super.removeListener(listener);
+        }
+
+        @Override
+        public synchronized void addListener(ChangeListener<? super Boolean> listener) {
+            super.addListener(listener);
+        }
+
+        @Override
+        public synchronized void removeListener(ChangeListener<? super Boolean> listener) {
+            super.removeListener(listener);
+        }
+    }
 }
@@ -0,0 +1,204 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * Keeps track of which persons are favourites, so that whether a person is a favourite, and who the favourites are,
+ * can be answered without looking at every person.
+ * Persons are compared by reference, as the favourite status belongs to the entry in the address book.
+ * The favourites are also kept in an observable list, in the order they were added. Each favourite remembers when
+ * it was added, so that its place in the list is found by a binary search instead of by comparing persons.
+ *
+ * Like {@link BirthdayCalendar}, the owner of the persons must pass on every change, and favourites must only be
+ * changed through {@link #setFavourite(Person, boolean)} or {@link #toggleAll(List)} so that the set matches each
+ * person's favourite status.
+ */
+public class FavouriteSet {
+
+    // The order in which each favourite was added, which increases along the favourite list
+    private final Map<Person, Long> favourites = new IdentityHashMap<>();
+    private final FavouriteList favouriteList = new FavouriteList();
+    private long nextOrder;
+
+    /**
+     * Replaces the favourites with those among {@code persons} who are marked as favourite, in the order given.
+     */
+    public void setAll(List<Person> persons) {
+        requireNonNull(persons);
+        favourites.clear();
+        List<Person> newFavourites = new ArrayList<>();
+        List<Long> newOrders = new ArrayList<>();
+        for (Person person : persons) {
+            if (person.getIsFavBoolean() && favourites.putIfAbsent(person, nextOrder) == null) {
+                newFavourites.add(person);
+                newOrders.add(nextOrder++);
+            }
+        }
+        favouriteList.setAll(newFavourites, newOrders);
+    }
+
+    /**
+     * Adds {@code person} to the favourites if they are marked as favourite.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (person.getIsFavBoolean() && favourites.putIfAbsent(person, nextOrder) == null) {
+            favouriteList.add(person, nextOrder++);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, keeping its place if both are favourites.
+     */
+    public void set(Person target, Person editedPerson) {
+        requireNonNull(editedPerson);
+        Long order = favourites.remove(target);
+        if (order == null) {
+            add(editedPerson);
+            return;
+        }
+
+        int index = favouriteList.positionOf(order);
+        if (editedPerson.getIsFavBoolean() && favourites.putIfAbsent(editedPerson, order) == null) {
+            favouriteList.replace(index, editedPerson);
+        } else {
+            favouriteList.removeAt(index);
+        }
+    }
+
+    /**
+     * Removes {@code person} from the favourites, if they are one.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        Long order = favourites.remove(person);
+        if (order != null) {
+            favouriteList.removeAt(favouriteList.positionOf(order));
+        }
+    }
+
+    /**
+     * Marks {@code person} as a favourite or not, and adds them to or removes them from the favourites.
+     */
+    public void setFavourite(Person person, boolean isFavourite) {
+        requireNonNull(person);
+        person.updateFavourite(isFavourite);
+        if (isFavourite) {
+            add(person);
+        } else {
+            remove(person);
+        }
+    }
+
+    /**
+     * Marks each of {@code persons} as a favourite if they are not one, or as not a favourite if they are.
+     * The favourite list reports all of the changes as a single change.
+     */
+    public void toggleAll(List<Person> persons) {
+        requireNonNull(persons);
+        favouriteList.beginBatch();
+        try {
+            for (Person person : persons) {
+                setFavourite(person, !contains(person));
+            }
+        } finally {
+            favouriteList.endBatch();
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is a favourite.
+     */
+    public boolean contains(Person person) {
+        requireNonNull(person);
+        return favourites.containsKey(person);
+    }
+
+    /**
+     * Returns the favourites as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Person> asUnmodifiableObservableList() {
+        return favouriteList;
+    }
+
+    /**
+     * An unmodifiable observable list of the favourites, alongside the order in which each was added.
+     */
+    private static class FavouriteList extends ObservableListBase<Person> {
+        private final List<Person> persons = new ArrayList<>();
+        private final List<Long> orders = new ArrayList<>();
+
+        @Override
+        public Person get(int index) {
+            return persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return persons.size();
+        }
+
+        /**
+         * Returns the position of the favourite added in {@code order}, which must be in the list.
+         */
+        int positionOf(long order) {
+            int index = Collections.binarySearch(orders, order);
+            assert index >= 0 : "Favourite is not in the list";
+            return index;
+        }
+
+        void add(Person person, long order) {
+            beginChange();
+            persons.add(person);
+            orders.add(order);
+            nextAdd(persons.size() - 1, persons.size());
+            endChange();
+        }
+
+        void replace(int index, Person person) {
+            beginChange();
+            nextSet(index, persons.set(index, person));
+            endChange();
+        }
+
+        void removeAt(int index) {
+            beginChange();
+            orders.remove(index);
+            nextRemove(index, persons.remove(index));
+            endChange();
+        }
+
+        void setAll(List<Person> newPersons, List<Long> newOrders) {
+            beginChange();
+            List<Person> removed = new ArrayList<>(persons);
+            persons.clear();
+            persons.addAll(newPersons);
+            orders.clear();
+            orders.addAll(newOrders);
+            if (!removed.isEmpty() || !persons.isEmpty()) {
+                nextReplace(0, persons.size(), removed);
+            }
+            endChange();
+        }
+
+        /**
+         * Starts a batch of changes, which are reported together once {@link #endBatch()} is called.
+         */
+        void beginBatch() {
+            beginChange();
+        }
+
+        void endBatch() {
+            endChange();
+        }
+    }
+}
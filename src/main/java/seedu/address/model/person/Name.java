@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -35,60 +37,72 @@ public class Name {
         fullName = normalizedName;
     }
 
+    /**
+     * Constructs a {@code Name} of {@code normalizedName} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Name(String normalizedName, boolean isTrusted) {
+        assert isTrusted && isValidName(normalizedName) : MESSAGE_CONSTRAINTS;
+        fullName = normalizedName;
+    }
+
+    /**
+     * Returns a {@code Name} of {@code normalizedName}, which must already be valid and normalized, e.g. a name read
+     * back from a snapshot of the address book. It is only checked again when assertions are enabled.
+     */
+    public static Name fromTrusted(String normalizedName) {
+        requireNonNull(normalizedName);
+        return new Name(normalizedName, true);
+    }
+
     /**
      * Normalizes the name by trimming spaces and collapsing multiple spaces into one.
      */
     private static String normalizeName(String name) {
-        return name.trim().replaceAll("\\s+", " ");
+        return StringUtil.collapseWhitespace(name.trim());
     }
 
     /**
      * Returns true if a given string is a valid name.
+     * The rules are checked in a single pass over the trimmed string:
+     * every character must match {@link #VALIDATION_REGEX}, there must be at least 2 letters,
+     * no two hyphens or apostrophes may be adjacent, and there must be fewer of them than letters.
      */
     public static boolean isValidName(String test) {
         if (test == null) {
             throw new NullPointerException();
         }
 
-        if (test.trim().isEmpty()) {
-            return false;
-        }
-
         String trimmed = test.trim();
-
-        // Check basic character set
-        if (!trimmed.matches(VALIDATION_REGEX)) {
-            return false;
-        }
-
-        // Check for sufficient alphabetic content (at least 2 letters)
-        long letterCount = trimmed.chars()
-            .filter(Character::isLetter)
-            .count();
-        if (letterCount < 2) {
-            return false;
-        }
-
-        // Check for excessive consecutive punctuation (more than 1 consecutive hyphens or apostrophes)
-        if (trimmed.matches(".*[-']{2,}.*")) {
-            return false;
-        }
-
-        // Check that name doesn't consist only of punctuation and spaces
-        String withoutPunctuation = trimmed.replaceAll("[\\s\\-']+", "");
-        if (withoutPunctuation.isEmpty()) {
+        if (trimmed.isEmpty()) {
             return false;
         }
 
-        // Check for excessive punctuation - ratio of punctuation to letters should not exceed 1:1
-        long punctuationCount = trimmed.chars()
-            .filter(ch -> ch == '-' || ch == '\'')
-            .count();
-        if (punctuationCount >= letterCount) {
-            return false;
+        int letterCount = 0;
+        int punctuationCount = 0;
+        boolean isAfterPunctuation = false;
+        for (int i = 0; i < trimmed.length(); i++) {
+            char c = trimmed.charAt(i);
+            if (c == '-' || c == '\'') {
+                if (isAfterPunctuation) {
+                    return false;
+                }
+                punctuationCount++;
+                isAfterPunctuation = true;
+                continue;
+            }
+            isAfterPunctuation = false;
+
+            if (Character.isLetter(c)) {
+                letterCount++;
+            } else if (Character.isHighSurrogate(c) && i + 1 < trimmed.length()
+                    && Character.isLetter(trimmed.codePointAt(i))) {
+                i++; // letters outside the Basic Multilingual Plane are allowed but not counted
+            } else if (!StringUtil.isRegexWhitespace(c)) {
+                return false;
+            }
         }
 
-        return true;
+        return letterCount >= 2 && punctuationCount < letterCount;
     }
 
     /**
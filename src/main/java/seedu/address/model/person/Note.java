@@ -35,10 +35,37 @@ public class Note {
     }
 
     /**
-     * Returns true if a given string is a valid name.
+     * Constructs a {@code Note} of {@code value} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Note(String value, boolean isTrusted) {
+        assert isTrusted && isValidNote(value) : MESSAGE_CONSTRAINTS;
+        this.value = value;
+    }
+
+    /**
+     * Returns a {@code Note} of {@code value}, which must already be valid and normalized, e.g. a note read
+     * back from a snapshot of the address book. It is only checked again when assertions are enabled.
+     */
+    public static Note fromTrusted(String value) {
+        requireNonNull(value);
+        return new Note(value, true);
+    }
+
+    /**
+     * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX) && test.length() <= MAX_LENGTH;
+        if (test.length() > MAX_LENGTH) {
+            return false;
+        }
+
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c <= '\u001F' || c == '\u007F') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
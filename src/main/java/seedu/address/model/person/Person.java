@@ -5,13 +5,12 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.time.LocalDate;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.logging.Logger;
 
 import javafx.beans.property.BooleanProperty;
-import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.InvalidDateException;
@@ -24,8 +23,6 @@ import seedu.address.model.tag.Tag;
  */
 public class Person {
 
-    private static Logger logger = LogsCenter.getLogger(Person.class);
-
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -60,14 +57,7 @@ public class Person {
         this.attendance = (attendance != null) ? attendance : new Attendance();
 
         // favourite could potentially be null in which case set it to default false
-        if (favourite == null) {
-            this.favourite = new Favourite(false);
-            logger.info("favourite was null for " + name + "so we set it to false");
-        } else {
-            this.favourite = favourite;
-            logger.info("favourite was available for " + name + " so we set it to"
-                    + favourite.getIsFavouriteBoolean());
-        }
+        this.favourite = (favourite != null) ? favourite : new Favourite(false);
     }
 
     public Name getName() {
@@ -166,7 +156,7 @@ public class Person {
      * @param date When does this attendance apply.
      * @return False if date before born date or after born date.
      */
-    private boolean validAttendanceDate(LocalDate date) {
+    public boolean validAttendanceDate(LocalDate date) {
         int afterToday = date.compareTo(LocalDate.now());
 
         if (birthday.isBeforeBirthday(date) || afterToday > 0
@@ -259,6 +249,22 @@ public class Person {
         return false;
     }
 
+    /**
+     * Returns the keys that identify this person, such that two different persons share a key
+     * if and only if {@link #isSamePerson(Person)} is true for them.
+     * Persons that are neither students nor colleagues have no keys.
+     */
+    public List<List<Object>> getIdentityKeys() {
+        boolean isStudent = isStudent();
+        if (isColleague()) {
+            return List.of(List.of(isStudent, "colleague phone", getPhone()),
+                    List.of(isStudent, "colleague email", getEmail()));
+        } else if (isStudent) {
+            return List.of(List.of("student", getName().getNormalizedName(), getPhone()));
+        }
+        return List.of();
+    }
+
     /**
      * Returns true if person has a student tag.
      */
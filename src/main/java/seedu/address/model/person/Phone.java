@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -14,6 +16,7 @@ public class Phone {
             + "Examples: 61234567, 81234567, 91234567. Spaces and dashes are allowed but ignored.";
 
     public static final String VALIDATION_REGEX = "^[689]\\d{7}$";
+    public static final int LENGTH = 8;
 
     public final String value;
 
@@ -29,19 +32,59 @@ public class Phone {
         value = normalizedPhone;
     }
 
+    /**
+     * Constructs a {@code Phone} of {@code normalizedPhone} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Phone(String normalizedPhone, boolean isTrusted) {
+        assert isTrusted && isValidPhone(normalizedPhone) : MESSAGE_CONSTRAINTS;
+        value = normalizedPhone;
+    }
+
+    /**
+     * Returns a {@code Phone} of {@code normalizedPhone}, which must already be valid and normalized,
+     * e.g. a phone number read back from a snapshot of the address book.
+     * It is only checked again when assertions are enabled.
+     */
+    public static Phone fromTrusted(String normalizedPhone) {
+        requireNonNull(normalizedPhone);
+        return new Phone(normalizedPhone, true);
+    }
+
     /**
      * Normalizes the phone number by removing spaces and dashes.
      */
     private static String normalizePhone(String phone) {
-        return phone.replaceAll("[\\s-]", "");
+        StringBuilder normalized = new StringBuilder(phone.length());
+        for (int i = 0; i < phone.length(); i++) {
+            char c = phone.charAt(i);
+            if (c != '-' && !StringUtil.isRegexWhitespace(c)) {
+                normalized.append(c);
+            }
+        }
+        return normalized.toString();
     }
 
     /**
-     * Returns true if a given string is a valid phone number.
+     * Returns true if a given string is a valid phone number, as declared in {@link #VALIDATION_REGEX}
+     * once spaces and dashes are removed.
      */
     public static boolean isValidPhone(String test) {
         String normalized = normalizePhone(test);
-        return normalized.matches(VALIDATION_REGEX);
+        if (normalized.length() != LENGTH) {
+            return false;
+        }
+
+        char first = normalized.charAt(0);
+        if (first != '6' && first != '8' && first != '9') {
+            return false;
+        }
+        for (int i = 1; i < LENGTH; i++) {
+            char c = normalized.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -3,9 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -19,6 +23,9 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * The identity keys of the persons in the list are kept alongside it, so that checking for a duplicate takes
+ * constant time.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -28,13 +35,20 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // The identity keys of the persons in the list, and the persons without keys, who are only the same as themselves
+    private final Set<List<Object>> identityKeys = new HashSet<>();
+    private final Set<Person> keylessPersons = newIdentitySet();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        List<List<Object>> keys = toCheck.getIdentityKeys();
+        if (keys.isEmpty()) {
+            return keylessPersons.contains(toCheck);
+        }
+        return keys.stream().anyMatch(identityKeys::contains);
     }
 
     /**
@@ -47,6 +61,27 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addKeys(toAdd);
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the end of the list in a single change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     * Only {@code toAdd} is checked, so this takes time linear in the size of {@code toAdd}.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<List<Object>> addedKeys = new HashSet<>();
+        Set<Person> addedKeylessPersons = newIdentitySet();
+        if (!collectKeys(toAdd, addedKeys, addedKeylessPersons)
+                || addedKeys.stream().anyMatch(identityKeys::contains)
+                || addedKeylessPersons.stream().anyMatch(keylessPersons::contains)) {
+            throw new DuplicatePersonException();
+        }
+
+        internalList.addAll(toAdd);
+        identityKeys.addAll(addedKeys);
+        keylessPersons.addAll(addedKeylessPersons);
     }
 
     /**
@@ -62,11 +97,16 @@ public class UniquePersonList implements Iterable<Person> {
             throw new PersonNotFoundException();
         }
 
-        if (!target.isSamePerson(editedPerson) && contains(editedPerson)) {
+        // The target's own keys are taken out first, as the edited person may share them
+        Person replacedPerson = internalList.get(index);
+        removeKeys(replacedPerson);
+        if (contains(editedPerson)) {
+            addKeys(replacedPerson);
             throw new DuplicatePersonException();
         }
 
         internalList.set(index, editedPerson);
+        addKeys(editedPerson);
     }
 
     /**
@@ -75,14 +115,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        removeKeys(internalList.remove(index));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        identityKeys.clear();
+        identityKeys.addAll(replacement.identityKeys);
+        keylessPersons.clear();
+        keylessPersons.addAll(replacement.keylessPersons);
     }
 
     /**
@@ -91,11 +137,32 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Set<List<Object>> newKeys = new HashSet<>();
+        Set<Person> newKeylessPersons = newIdentitySet();
+        if (!collectKeys(persons, newKeys, newKeylessPersons)) {
             throw new DuplicatePersonException();
         }
 
         internalList.setAll(persons);
+        identityKeys.clear();
+        identityKeys.addAll(newKeys);
+        keylessPersons.clear();
+        keylessPersons.addAll(newKeylessPersons);
+    }
+
+    /**
+     * Replaces the contents of this list with {@code persons}, which are already known to be unique, e.g. as they
+     * were read back from a snapshot of the address book. Unlike {@link #setPersons(List)}, the persons are only
+     * checked for duplicates when assertions are enabled.
+     */
+    public void setTrustedPersons(List<Person> persons) {
+        requireAllNonNull(persons);
+        assert collectKeys(persons, new HashSet<>(), newIdentitySet()) : "Trusted persons are not unique";
+
+        internalList.setAll(persons);
+        identityKeys.clear();
+        keylessPersons.clear();
+        persons.forEach(this::addKeys);
     }
 
     /**
@@ -143,17 +210,42 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    private void addKeys(Person person) {
+        List<List<Object>> keys = person.getIdentityKeys();
+        if (keys.isEmpty()) {
+            keylessPersons.add(person);
+        }
+        identityKeys.addAll(keys);
+    }
+
+    private void removeKeys(Person person) {
+        keylessPersons.remove(person);
+        person.getIdentityKeys().forEach(identityKeys::remove);
+    }
+
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Adds the identity keys of {@code persons} to {@code keys}, and the persons without keys to
+     * {@code keylessPersons}. Returns false if {@code persons} does not contain only unique persons.
+     * Persons are compared through their identity keys, so this takes linear time.
+     *
+     * @see Person#getIdentityKeys()
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
+    private static boolean collectKeys(List<Person> persons, Set<List<Object>> keys, Set<Person> keylessPersons) {
+        for (Person person : persons) {
+            List<List<Object>> personKeys = person.getIdentityKeys();
+            if (personKeys.isEmpty() && !keylessPersons.add(person)) {
+                return false;
+            }
+            for (List<Object> key : personKeys) {
+                if (!keys.add(key)) {
                     return false;
                 }
             }
         }
         return true;
     }
+
+    private static Set<Person> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
 }
@@ -12,6 +12,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags must be either 'student' or 'colleague' (case-insensitive)";
     public static final String VALIDATION_REGEX = "(?i)(student|colleague)";
 
+    private static final String STUDENT = "student";
+    private static final String COLLEAGUE = "colleague";
+
     public final String tagName;
 
     /**
@@ -26,25 +29,62 @@ public class Tag {
         this.tagName = normalizedTagName;
     }
 
+    /**
+     * Constructs a {@code Tag} of {@code normalizedTagName} without checking it, for {@link #fromTrusted(String)}.
+     */
+    private Tag(String normalizedTagName, boolean isTrusted) {
+        assert isTrusted && isValidTagName(normalizedTagName) : MESSAGE_CONSTRAINTS;
+        this.tagName = normalizedTagName;
+    }
+
+    /**
+     * Returns a {@code Tag} of {@code normalizedTagName}, which must already be valid and normalized,
+     * e.g. a tag name read back from a snapshot of the address book.
+     * It is only checked again when assertions are enabled.
+     */
+    public static Tag fromTrusted(String normalizedTagName) {
+        requireNonNull(normalizedTagName);
+        return new Tag(normalizedTagName, true);
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return equalsIgnoreAsciiCase(test, STUDENT) || equalsIgnoreAsciiCase(test, COLLEAGUE);
+    }
+
+    /**
+     * Returns true if {@code test} equals the lowercase ASCII word {@code expected}, ignoring ASCII case only.
+     * This matches the case-insensitivity of {@link #VALIDATION_REGEX}.
+     */
+    private static boolean equalsIgnoreAsciiCase(String test, String expected) {
+        if (test.length() != expected.length()) {
+            return false;
+        }
+
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            char e = expected.charAt(i);
+            if (c != e && c != Character.toUpperCase(e)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
      * Returns true if this is a student tag.
      */
     public boolean isStudent() {
-        return tagName.equals("student");
+        return tagName.equals(STUDENT);
     }
 
     /**
      * Returns true if this is a colleague tag.
      */
     public boolean isColleague() {
-        return tagName.equals("colleague");
+        return tagName.equals(COLLEAGUE);
     }
 
     @Override
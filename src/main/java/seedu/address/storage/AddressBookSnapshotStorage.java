@@ -0,0 +1,237 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.Birthday;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Favourite;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Keeps a compact binary copy of the address book next to its JSON data file, so that the next launch can skip
+ * parsing the JSON file.
+ * The snapshot is stamped with the size, last modified time and SHA-256 hash of the JSON file it was taken from,
+ * and is only used while the JSON file still matches that stamp.
+ * Only data that was checked when it was loaded or changed is ever saved in a snapshot, so the persons read back
+ * from one are not checked again.
+ */
+public class AddressBookSnapshotStorage {
+
+    public static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    public static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int MAGIC = 0x4C4C4253; // "LLBS"
+    private static final int FORMAT_VERSION = 1;
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSnapshotStorage.class);
+
+    private final Path jsonFilePath;
+    private final Path snapshotFilePath;
+
+    /**
+     * Creates a snapshot storage for the JSON data file at {@code jsonFilePath}.
+     */
+    public AddressBookSnapshotStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.snapshotFilePath = jsonFilePath.resolveSibling(jsonFilePath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    public Path getSnapshotFilePath() {
+        return snapshotFilePath;
+    }
+
+    /**
+     * Returns the address book in the snapshot, or {@code Optional.empty()} if there is no snapshot,
+     * it cannot be read, or the JSON data file has changed since it was taken.
+     */
+    public Optional<ReadOnlyAddressBook> readSnapshot() {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                Files.newInputStream(snapshotFilePath)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                logger.info("Ignoring snapshot in an unknown format: " + snapshotFilePath);
+                return Optional.empty();
+            }
+
+            long jsonSize = in.readLong();
+            long jsonLastModified = in.readLong();
+            byte[] jsonHash = in.readNBytes(in.readInt());
+            if (!Files.exists(jsonFilePath)
+                    || Files.size(jsonFilePath) != jsonSize
+                    || Files.getLastModifiedTime(jsonFilePath).toMillis() != jsonLastModified
+                    || !Arrays.equals(hash(Files.readAllBytes(jsonFilePath)), jsonHash)) {
+                logger.info("Ignoring snapshot as " + jsonFilePath + " has changed since it was taken.");
+                return Optional.empty();
+            }
+
+            // The persons were checked before the snapshot was taken, so they are not checked again
+            AddressBook addressBook = new AddressBook();
+            addressBook.setTrustedPersons(readPersons(in));
+            logger.info("Loaded address book from snapshot " + snapshotFilePath);
+            return Optional.of(addressBook);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            // A damaged snapshot is never worse than not having one
+            logger.warning("Ignoring snapshot that could not be read: " + e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook}, provided that the JSON data file holds exactly the same data.
+     * Otherwise, any existing snapshot is deleted, so that the next launch reads the JSON data file.
+     *
+     * @throws IOException if there was any problem writing to the snapshot file.
+     */
+    public void saveSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+
+        byte[] expectedJson = JsonUtil.toJsonString(new JsonSerializableAddressBook(addressBook))
+                .getBytes(StandardCharsets.UTF_8);
+        if (!Files.exists(jsonFilePath) || !Arrays.equals(Files.readAllBytes(jsonFilePath), expectedJson)) {
+            logger.info("Not taking a snapshot as " + jsonFilePath + " does not hold the current data.");
+            Files.deleteIfExists(snapshotFilePath);
+            return;
+        }
+
+        // Written in full to a temporary file first, so that a snapshot cut short is never read
+        FileUtil.createParentDirsOfFile(snapshotFilePath);
+        Path tempFilePath = snapshotFilePath.resolveSibling(snapshotFilePath.getFileName() + TEMP_FILE_SUFFIX);
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(tempFilePath)))) {
+                byte[] jsonHash = hash(expectedJson);
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(expectedJson.length);
+                out.writeLong(Files.getLastModifiedTime(jsonFilePath).toMillis());
+                out.writeInt(jsonHash.length);
+                out.write(jsonHash);
+                writePersons(out, addressBook.getPersonList());
+            }
+            moveIntoPlace(tempFilePath);
+        } finally {
+            Files.deleteIfExists(tempFilePath);
+        }
+        logger.info("Saved snapshot of " + jsonFilePath + " to " + snapshotFilePath);
+    }
+
+    /**
+     * Moves the snapshot written to {@code tempFilePath} to the snapshot file, replacing any snapshot there.
+     * The move is atomic where the file system supports it.
+     */
+    private void moveIntoPlace(Path tempFilePath) throws IOException {
+        try {
+            Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFilePath, snapshotFilePath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static void writePersons(DataOutputStream out, List<Person> persons) throws IOException {
+        out.writeInt(persons.size());
+        for (Person person : persons) {
+            out.writeUTF(person.getName().fullName);
+            out.writeUTF(person.getPhone().value);
+            out.writeUTF(person.getEmail().value);
+            out.writeUTF(person.getAddress().value);
+            out.writeUTF(person.getStudentClass().value);
+            out.writeUTF(person.getBirthday().value);
+            out.writeUTF(person.getNote().value);
+
+            out.writeInt(person.getTags().size());
+            for (Tag tag : person.getTags()) {
+                out.writeUTF(tag.tagName);
+            }
+
+            out.writeBoolean(person.getIsFavBoolean());
+
+            Map<String, String> attendance = person.getAttendance().getSerializedRecords();
+            out.writeInt(attendance.size());
+            for (Map.Entry<String, String> record : attendance.entrySet()) {
+                out.writeUTF(record.getKey());
+                out.writeUTF(record.getValue());
+            }
+        }
+    }
+
+    private static List<Person> readPersons(DataInputStream in) throws IOException {
+        int personCount = in.readInt();
+        List<Person> persons = new ArrayList<>(personCount);
+        for (int i = 0; i < personCount; i++) {
+            Name name = Name.fromTrusted(in.readUTF());
+            Phone phone = Phone.fromTrusted(in.readUTF());
+            Email email = Email.fromTrusted(in.readUTF());
+            Address address = Address.fromTrusted(in.readUTF());
+            Class studentClass = Class.fromTrusted(in.readUTF());
+            Birthday birthday = Birthday.fromTrusted(in.readUTF());
+            Note note = Note.fromTrusted(in.readUTF());
+
+            int tagCount = in.readInt();
+            Set<Tag> tags = new HashSet<>();
+            for (int j = 0; j < tagCount; j++) {
+                tags.add(Tag.fromTrusted(in.readUTF()));
+            }
+
+            Favourite favourite = new Favourite(in.readBoolean());
+
+            // Records stay in their serialized form, as when loaded from the JSON data file
+            int recordCount = in.readInt();
+            Map<String, String> attendance = new LinkedHashMap<>();
+            for (int j = 0; j < recordCount; j++) {
+                attendance.put(in.readUTF(), in.readUTF());
+            }
+
+            persons.add(new Person(name, phone, email, address, studentClass, birthday, note, tags,
+                    new Attendance(attendance), favourite));
+        }
+        return persons;
+    }
+
+    private static byte[] hash(byte[] content) {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM).digest(content);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Streams attendance reports into a single ZIP archive, followed by a manifest of its contents.
+ * The archive is only created once the first report is added, and is only kept if {@link #finish()} is called
+ * before the writer is closed, so that a failed download never leaves a partial bundle behind.
+ */
+public class AttendanceBundleWriter implements AutoCloseable {
+
+    public static final String MANIFEST_FILE_NAME = "manifest.txt";
+
+    private static final DateTimeFormatter MANIFEST_TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+
+    private final Path bundlePath;
+    private final LocalDateTime createdAt;
+    private final Map<String, Integer> reportRows = new LinkedHashMap<>();
+
+    private ZipOutputStream zipOutputStream;
+    private boolean isFinished;
+
+    /**
+     * Creates a writer for a bundle at {@code bundlePath}.
+     *
+     * @param bundlePath Where the ZIP archive will be written.
+     * @param createdAt The time recorded in the manifest.
+     */
+    public AttendanceBundleWriter(Path bundlePath, LocalDateTime createdAt) {
+        requireNonNull(bundlePath);
+        requireNonNull(createdAt);
+        this.bundlePath = bundlePath;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Writes one CSV report into the bundle.
+     *
+     * @param fileCsv A CSV formatted attendance content.
+     * @param fileName The name of the report inside the bundle.
+     * @return A String of path where the bundle is saved.
+     * @throws IOException If an error occurs during writing.
+     */
+    public String addReport(String fileCsv, String fileName) throws IOException {
+        requireNonNull(fileCsv);
+        requireNonNull(fileName);
+        assert !isFinished : "Bundle is already finished";
+
+        if (zipOutputStream == null) {
+            FileUtil.createParentDirsOfFile(bundlePath);
+            zipOutputStream = new ZipOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(bundlePath, StandardOpenOption.CREATE_NEW)));
+        }
+
+        // Names are unique inside one bundle, so no probing of the disk is needed
+        String entryName = fileName;
+        int counter = 2;
+        while (reportRows.containsKey(entryName)) {
+            entryName = fileName.replaceFirst("([.][^.]+)?$", "(" + counter++ + ")$1");
+        }
+
+        zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        zipOutputStream.write(fileCsv.getBytes(StandardCharsets.UTF_8));
+        zipOutputStream.closeEntry();
+
+        reportRows.put(entryName, countDataRows(fileCsv));
+        return bundlePath.toAbsolutePath().toString();
+    }
+
+    /**
+     * Returns true if at least one report has been written.
+     */
+    public boolean hasReports() {
+        return !reportRows.isEmpty();
+    }
+
+    public Path getBundlePath() {
+        return bundlePath;
+    }
+
+    /**
+     * Writes the manifest and closes the archive, once every report has been added.
+     * Does nothing if no report was added.
+     *
+     * @throws IOException If an error occurs during writing.
+     */
+    public void finish() throws IOException {
+        if (zipOutputStream != null) {
+            zipOutputStream.putNextEntry(new ZipEntry(MANIFEST_FILE_NAME));
+            zipOutputStream.write(generateManifest().getBytes(StandardCharsets.UTF_8));
+            zipOutputStream.closeEntry();
+            zipOutputStream.close();
+            zipOutputStream = null;
+        }
+        isFinished = true;
+    }
+
+    /**
+     * Closes the archive. If {@link #finish()} has not completed, the partial archive is deleted instead.
+     */
+    @Override
+    public void close() throws IOException {
+        if (zipOutputStream == null) {
+            return;
+        }
+
+        try {
+            zipOutputStream.close();
+        } finally {
+            zipOutputStream = null;
+            Files.deleteIfExists(bundlePath);
+        }
+    }
+
+    private String generateManifest() {
+        StringBuilder manifest = new StringBuilder("LittleLogBook attendance bundle\n")
+                .append("Generated: ").append(createdAt.format(MANIFEST_TIME_FORMATTER)).append("\n")
+                .append("Reports: ").append(reportRows.size()).append("\n");
+
+        reportRows.forEach((fileName, rows) -> manifest.append(fileName)
+                .append(" (").append(rows).append(rows == 1 ? " row" : " rows").append(")\n"));
+
+        return manifest.toString();
+    }
+
+    /**
+     * Returns the number of rows in {@code fileCsv} after its header.
+     */
+    private static int countDataRows(String fileCsv) {
+        int lines = 0;
+        for (String line : fileCsv.split("\n")) {
+            if (!line.isBlank()) {
+                lines++;
+            }
+        }
+        return Math.max(0, lines - 1);
+    }
+}
@@ -4,6 +4,8 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 import seedu.address.commons.util.FileUtil;
 
@@ -12,6 +14,9 @@ import seedu.address.commons.util.FileUtil;
  */
 public class AttendanceCsvStorage {
 
+    private static final DateTimeFormatter BUNDLE_TIMESTAMP_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss_SSS");
+
     private static Path dataDir = Paths.get("data");
 
     /**
@@ -34,6 +39,28 @@ public class AttendanceCsvStorage {
         return dataDir.toAbsolutePath().toString();
     }
 
+    /**
+     * Creates a writer that bundles attendance reports into one ZIP archive in /data.
+     * The archive is named after the current time, so no existing file needs to be checked.
+     *
+     * @return A writer for the new bundle. The caller must close it.
+     */
+    public static AttendanceBundleWriter createAttendanceBundle() {
+        LocalDateTime now = LocalDateTime.now();
+        String bundleName = "attendance_bundle_" + now.format(BUNDLE_TIMESTAMP_FORMATTER) + ".zip";
+        return new AttendanceBundleWriter(dataDir.resolve(bundleName), now);
+    }
+
+    /**
+     * Creates a writer that saves attendance reports into one Excel workbook in /data.
+     *
+     * @param fileName The name of the workbook to be saved.
+     * @return A writer for the new workbook. The caller must close it.
+     */
+    public static AttendanceXlsxWriter createAttendanceWorkbook(String fileName) {
+        return new AttendanceXlsxWriter(dataDir.resolve(getUniqueFileName(dataDir, fileName)));
+    }
+
     /**
      * Changes where attendance reports are being saved.
      *
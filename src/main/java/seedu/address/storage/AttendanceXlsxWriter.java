@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.util.AttendanceReport;
+
+/**
+ * Streams attendance reports into an Excel workbook (.xlsx), one sheet per report.
+ * Each sheet is written row by row straight into the archive as its report generates the rows,
+ * so no report is ever held in memory as a whole.
+ * Status cells are coloured like the attendance panel, and the header rows and name column are frozen.
+ * The workbook is only created once the first sheet is added, and is only kept if {@link #finish()} is called
+ * before the writer is closed, so that a failed download never leaves a partial workbook behind.
+ */
+public class AttendanceXlsxWriter implements AutoCloseable {
+
+    public static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    // Same colours as the attendance panel
+    private static final Map<AttendanceStatus, String> STATUS_COLORS = Map.of(
+            AttendanceStatus.PRESENT, "4CAF50",
+            AttendanceStatus.LATE, "FF9800",
+            AttendanceStatus.SICK, "2196F3",
+            AttendanceStatus.ABSENT, "F44336");
+    private static final List<AttendanceStatus> COLORED_STATUSES = List.of(
+            AttendanceStatus.PRESENT, AttendanceStatus.LATE, AttendanceStatus.SICK, AttendanceStatus.ABSENT);
+
+    // Indexes into cellXfs of the style sheet
+    private static final int STYLE_HEADER = 1;
+    private static final int STYLE_FIRST_STATUS = 2;
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String SPREADSHEET_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String RELATIONSHIPS_NS =
+            "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+    private static final String PACKAGE_RELATIONSHIPS_NS =
+            "http://schemas.openxmlformats.org/package/2006/relationships";
+
+    private final Path workbookPath;
+    private final List<String> sheetNames = new ArrayList<>();
+
+    private ZipOutputStream zipOutputStream;
+    private Writer writer;
+    private int lastRowNumber;
+    private boolean isFinished;
+
+    /**
+     * Creates a writer for a workbook at {@code workbookPath}.
+     */
+    public AttendanceXlsxWriter(Path workbookPath) {
+        requireNonNull(workbookPath);
+        this.workbookPath = workbookPath;
+    }
+
+    /**
+     * Writes one report into the workbook as a new sheet, one row at a time as the report generates it.
+     *
+     * @param report An attendance report.
+     * @param sheetName The name of the new sheet.
+     * @return A String of path where the workbook is saved.
+     * @throws IOException If an error occurs during writing.
+     */
+    public String addSheet(AttendanceReport report, String sheetName) throws IOException {
+        requireNonNull(report);
+        requireNonNull(sheetName);
+        assert !isFinished : "Workbook is already finished";
+
+        if (zipOutputStream == null) {
+            FileUtil.createParentDirsOfFile(workbookPath);
+            zipOutputStream = new ZipOutputStream(new BufferedOutputStream(
+                    Files.newOutputStream(workbookPath, StandardOpenOption.CREATE_NEW)));
+            writer = new OutputStreamWriter(zipOutputStream, StandardCharsets.UTF_8);
+        }
+
+        sheetNames.add(toUniqueSheetName(sheetName));
+        int headerRows = report.getHeaderRowCount();
+
+        zipOutputStream.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetNames.size() + ".xml"));
+        writer.write(XML_DECLARATION);
+        writer.write("<worksheet xmlns=\"" + SPREADSHEET_NS + "\">");
+        writer.write("<sheetViews><sheetView workbookViewId=\"0\">"
+                + "<pane xSplit=\"1\" ySplit=\"" + headerRows + "\" topLeftCell=\"B" + (headerRows + 1)
+                + "\" activePane=\"bottomRight\" state=\"frozen\"/>"
+                + "</sheetView></sheetViews>");
+        writer.write("<cols><col min=\"1\" max=\"1\" width=\"28\" customWidth=\"1\"/>"
+                + "<col min=\"2\" max=\"40\" width=\"12\" customWidth=\"1\"/></cols>");
+        writer.write("<sheetData>");
+
+        lastRowNumber = 0;
+        report.writeRows(cells -> {
+            lastRowNumber++;
+            writeRow(cells, lastRowNumber, lastRowNumber <= headerRows);
+        });
+
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zipOutputStream.closeEntry();
+
+        return workbookPath.toAbsolutePath().toString();
+    }
+
+    /**
+     * Returns true if at least one sheet has been written.
+     */
+    public boolean hasSheets() {
+        return !sheetNames.isEmpty();
+    }
+
+    public Path getWorkbookPath() {
+        return workbookPath;
+    }
+
+    /**
+     * Writes the workbook parts that list the sheets and closes the archive, once every sheet has been added.
+     * Does nothing if no sheet was added.
+     *
+     * @throws IOException If an error occurs during writing.
+     */
+    public void finish() throws IOException {
+        if (zipOutputStream != null) {
+            writeEntry("[Content_Types].xml", generateContentTypes());
+            writeEntry("_rels/.rels", XML_DECLARATION
+                    + "<Relationships xmlns=\"" + PACKAGE_RELATIONSHIPS_NS + "\">"
+                    + "<Relationship Id=\"rId1\" Type=\"" + RELATIONSHIPS_NS + "/officeDocument\""
+                    + " Target=\"xl/workbook.xml\"/>"
+                    + "</Relationships>");
+            writeEntry("xl/workbook.xml", generateWorkbook());
+            writeEntry("xl/_rels/workbook.xml.rels", generateWorkbookRelationships());
+            writeEntry("xl/styles.xml", generateStyles());
+            zipOutputStream.close();
+            zipOutputStream = null;
+            writer = null;
+        }
+        isFinished = true;
+    }
+
+    /**
+     * Closes the archive. If {@link #finish()} has not completed, the partial workbook is deleted instead.
+     */
+    @Override
+    public void close() throws IOException {
+        if (zipOutputStream == null) {
+            return;
+        }
+
+        try {
+            zipOutputStream.close();
+        } finally {
+            zipOutputStream = null;
+            writer = null;
+            Files.deleteIfExists(workbookPath);
+        }
+    }
+
+    private void writeRow(List<String> cells, int rowNumber, boolean isHeader) throws IOException {
+        writer.write("<row r=\"" + rowNumber + "\">");
+
+        for (int column = 0; column < cells.size(); column++) {
+            String value = cells.get(column);
+            if (value.isEmpty()) {
+                continue;
+            }
+
+            int style = isHeader ? STYLE_HEADER : getStatusStyle(value);
+            writer.write("<c r=\"" + toColumnName(column) + rowNumber + "\"");
+            if (style != 0) {
+                writer.write(" s=\"" + style + "\"");
+            }
+            writer.write(" t=\"inlineStr\"><is><t>" + escapeXml(value) + "</t></is></c>");
+        }
+
+        writer.write("</row>");
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zipOutputStream.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zipOutputStream.closeEntry();
+    }
+
+    private String generateContentTypes() {
+        StringBuilder contentTypes = new StringBuilder(XML_DECLARATION)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package")
+                .append(".relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-")
+                .append("officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-")
+                .append("officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            contentTypes.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-")
+                    .append("officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return contentTypes.append("</Types>").toString();
+    }
+
+    private String generateWorkbook() {
+        StringBuilder workbook = new StringBuilder(XML_DECLARATION)
+                .append("<workbook xmlns=\"").append(SPREADSHEET_NS)
+                .append("\" xmlns:r=\"").append(RELATIONSHIPS_NS).append("\"><sheets>");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            workbook.append("<sheet name=\"").append(escapeXml(sheetNames.get(i - 1)))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return workbook.append("</sheets></workbook>").toString();
+    }
+
+    private String generateWorkbookRelationships() {
+        StringBuilder relationships = new StringBuilder(XML_DECLARATION)
+                .append("<Relationships xmlns=\"").append(PACKAGE_RELATIONSHIPS_NS).append("\">");
+        for (int i = 1; i <= sheetNames.size(); i++) {
+            relationships.append("<Relationship Id=\"rId").append(i)
+                    .append("\" Type=\"").append(RELATIONSHIPS_NS).append("/worksheet\" Target=\"worksheets/sheet")
+                    .append(i).append(".xml\"/>");
+        }
+        return relationships.append("<Relationship Id=\"rId").append(sheetNames.size() + 1)
+                .append("\" Type=\"").append(RELATIONSHIPS_NS).append("/styles\" Target=\"styles.xml\"/>")
+                .append("</Relationships>").toString();
+    }
+
+    private static String generateStyles() {
+        StringBuilder fills = new StringBuilder("<fill><patternFill patternType=\"none\"/></fill>"
+                + "<fill><patternFill patternType=\"gray125\"/></fill>"
+                + "<fill><patternFill patternType=\"solid\"><fgColor rgb=\"FFF5F5F5\"/></patternFill></fill>");
+        StringBuilder statusStyles = new StringBuilder();
+        for (int i = 0; i < COLORED_STATUSES.size(); i++) {
+            fills.append("<fill><patternFill patternType=\"solid\"><fgColor rgb=\"FF")
+                    .append(STATUS_COLORS.get(COLORED_STATUSES.get(i))).append("\"/></patternFill></fill>");
+            statusStyles.append("<xf numFmtId=\"0\" fontId=\"2\" fillId=\"").append(i + 3)
+                    .append("\" borderId=\"0\" xfId=\"0\" applyFont=\"1\" applyFill=\"1\" applyAlignment=\"1\">")
+                    .append("<alignment horizontal=\"center\"/></xf>");
+        }
+
+        return XML_DECLARATION
+                + "<styleSheet xmlns=\"" + SPREADSHEET_NS + "\">"
+                + "<fonts count=\"3\">"
+                + "<font><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+                + "<font><b/><sz val=\"11\"/><name val=\"Calibri\"/></font>"
+                + "<font><sz val=\"11\"/><color rgb=\"FFFFFFFF\"/><name val=\"Calibri\"/></font>"
+                + "</fonts>"
+                + "<fills count=\"" + (COLORED_STATUSES.size() + 3) + "\">" + fills + "</fills>"
+                + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+                + "<cellStyleXfs count=\"1\">"
+                + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/>"
+                + "</cellStyleXfs>"
+                + "<cellXfs count=\"" + (COLORED_STATUSES.size() + STYLE_FIRST_STATUS) + "\">"
+                + "<xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+                + "<xf numFmtId=\"0\" fontId=\"1\" fillId=\"2\" borderId=\"0\" xfId=\"0\" applyFont=\"1\""
+                + " applyFill=\"1\"/>"
+                + statusStyles
+                + "</cellXfs>"
+                + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+                + "</styleSheet>";
+    }
+
+    /**
+     * Returns the style of a cell holding {@code value}, or 0 if it is not a coloured status.
+     */
+    private static int getStatusStyle(String value) {
+        for (int i = 0; i < COLORED_STATUSES.size(); i++) {
+            if (COLORED_STATUSES.get(i).name().equals(value)) {
+                return STYLE_FIRST_STATUS + i;
+            }
+        }
+        return 0;
+    }
+
+    private String toUniqueSheetName(String sheetName) {
+        String baseName = sheetName.replaceAll("[\\[\\]:*?/\\\\]", "_");
+        if (baseName.isEmpty()) {
+            baseName = "Sheet";
+        }
+        baseName = truncate(baseName, MAX_SHEET_NAME_LENGTH);
+
+        String uniqueName = baseName;
+        int counter = 2;
+        while (containsIgnoreCase(sheetNames, uniqueName)) {
+            String suffix = "(" + counter++ + ")";
+            uniqueName = truncate(baseName, MAX_SHEET_NAME_LENGTH - suffix.length()) + suffix;
+        }
+        return uniqueName;
+    }
+
+    private static boolean containsIgnoreCase(List<String> names, String name) {
+        return names.stream().anyMatch(name::equalsIgnoreCase);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value.length() <= maxLength ? value : value.substring(0, maxLength);
+    }
+
+    /**
+     * Returns the spreadsheet column name of the zero-based {@code column}, e.g. 0 is A and 26 is AA.
+     */
+    static String toColumnName(int column) {
+        StringBuilder name = new StringBuilder();
+        for (int i = column + 1; i > 0; i = (i - 1) / 26) {
+            name.insert(0, (char) ('A' + (i - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    private static String escapeXml(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            switch (c) {
+            case '&' -> escaped.append("&amp;");
+            case '<' -> escaped.append("&lt;");
+            case '>' -> escaped.append("&gt;");
+            case '"' -> escaped.append("&quot;");
+            default -> escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+}
@@ -1,9 +1,8 @@
 package seedu.address.storage;
 
-import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -13,7 +12,6 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Attendance;
 import seedu.address.model.person.Birthday;
@@ -28,6 +26,8 @@ import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Person}.
+ * Attendance records are handed to the model in their serialized form and keep their order,
+ * so records that are never touched are saved back exactly as they were loaded.
  */
 class JsonAdaptedPerson {
 
@@ -41,7 +41,7 @@ class JsonAdaptedPerson {
     private final String birthday;
     private final String note;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
-    private final Map<String, String> attendance = new HashMap<>();
+    private final Map<String, String> attendance = new LinkedHashMap<>();
     private final Boolean favourite;
 
     /**
@@ -90,9 +90,8 @@ class JsonAdaptedPerson {
                 .map(JsonAdaptedTag::new)
                 .collect(Collectors.toList()));
 
-        if (source.getAttendance() != null && !source.getAttendanceRecords().isEmpty()) {
-            source.getAttendanceRecords().forEach((date, status) ->
-                    attendance.put(date.toString(), status.toString()));
+        if (source.getAttendance() != null) {
+            attendance.putAll(source.getAttendance().getSerializedRecords());
         }
 
         favourite = source.getIsFavBoolean();
@@ -109,12 +108,8 @@ class JsonAdaptedPerson {
             personTags.add(tag.toModelType());
         }
 
-        final Attendance modelAttendance = new Attendance();
-        for (Map.Entry<String, String> entry : attendance.entrySet()) {
-            LocalDate date = LocalDate.parse(entry.getKey());
-            AttendanceStatus status = AttendanceStatus.valueOf(entry.getValue());
-            modelAttendance.markAttendance(date, status);
-        }
+        // Records are parsed by the model when first needed
+        final Attendance modelAttendance = new Attendance(attendance);
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
@@ -1,7 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -12,6 +15,7 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -21,6 +25,9 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    // Number of persons below which a conversion task is not split further
+    private static final int CONVERSION_BATCH_SIZE = 256;
+
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
 
     /**
@@ -42,19 +49,65 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Persons are converted in parallel, and checked for duplicates once all of them are converted.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        Person[] converted = new Person[persons.size()];
+        IllegalValueException[] errors = new IllegalValueException[persons.size()];
+        ForkJoinPool.commonPool().invoke(new ConversionTask(converted, errors, 0, persons.size()));
+
+        // Report the first invalid person, as converting them one after another would
+        for (IllegalValueException error : errors) {
+            if (error != null) {
+                throw error;
             }
-            addressBook.addPerson(person);
+        }
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(Arrays.asList(converted));
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
         return addressBook;
     }
 
+    /**
+     * Converts the persons in {@code [start, end)}, splitting the range in half until it is small enough.
+     * Each person is written to its own slot of {@code converted}, or of {@code errors} if it is invalid.
+     */
+    private class ConversionTask extends RecursiveAction {
+        private final Person[] converted;
+        private final IllegalValueException[] errors;
+        private final int start;
+        private final int end;
+
+        ConversionTask(Person[] converted, IllegalValueException[] errors, int start, int end) {
+            this.converted = converted;
+            this.errors = errors;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= CONVERSION_BATCH_SIZE) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        converted[i] = persons.get(i).toModelType();
+                    } catch (IllegalValueException e) {
+                        errors[i] = e;
+                    }
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(new ConversionTask(converted, errors, start, middle),
+                    new ConversionTask(converted, errors, middle, end));
+        }
+    }
+
 }
@@ -0,0 +1,291 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.logging.Logger;
+
+import javafx.beans.InvalidationListener;
+import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.control.ScrollBar;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import javafx.stage.Stage;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+import seedu.address.model.person.Person;
+
+/**
+ * Window showing the attendance of one or more classes during a month, with a row per student and a column per day.
+ * The grid is drawn on a single canvas straight from the class attendance blocks, and only the rows that fit in the
+ * window are drawn, so that a whole grade takes no longer to show than a single class.
+ */
+public class AttendanceHeatmapWindow extends UiPart<Stage> {
+
+    private static final Logger logger = LogsCenter.getLogger(AttendanceHeatmapWindow.class);
+    private static final String FXML = "AttendanceHeatmapWindow.fxml";
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private static final double ROW_HEIGHT = 22;
+    private static final double HEADER_HEIGHT = 26;
+    private static final double NAME_COLUMN_WIDTH = 200;
+    private static final double CELL_GAP = 2;
+    private static final double TEXT_PADDING = 6;
+    private static final Font FONT = Font.font("Segoe UI", 12);
+
+    private static final Color PRESENT_COLOR = Color.web("#4caf50");
+    private static final Color LATE_COLOR = Color.web("#ff9800");
+    private static final Color SICK_COLOR = Color.web("#2196f3");
+    private static final Color ABSENT_COLOR = Color.web("#f44336");
+    private static final Color NO_RECORD_COLOR = Color.web("#f5f5f5");
+    private static final Color TEXT_COLOR = Color.web("#005074");
+    private static final Color HEADER_TEXT_COLOR = Color.web("#666666");
+    private static final Color CLASS_SEPARATOR_COLOR = Color.web("#dddddd");
+
+    private final Canvas canvas = new Canvas();
+
+    private List<MonthBlock> blocks = List.of();
+    // The first row of each block, with the total number of rows at the end
+    private int[] blockStartRows = {0};
+    private YearMonth month;
+
+    @FXML
+    private Label titleLabel;
+    @FXML
+    private Pane canvasContainer;
+    @FXML
+    private ScrollBar rowScrollBar;
+
+    /**
+     * Creates a new AttendanceHeatmapWindow.
+     *
+     * @param root Stage to use as the root of the AttendanceHeatmapWindow.
+     */
+    public AttendanceHeatmapWindow(Stage root) {
+        super(FXML, root);
+
+        // The canvas follows the size of its container, instead of the container growing to fit the canvas
+        canvas.setManaged(false);
+        canvas.widthProperty().bind(canvasContainer.widthProperty());
+        canvas.heightProperty().bind(canvasContainer.heightProperty());
+        canvasContainer.getChildren().add(canvas);
+
+        InvalidationListener redrawListener = observable -> redraw();
+        canvas.widthProperty().addListener(redrawListener);
+        canvas.heightProperty().addListener(observable -> {
+            updateScrollBar();
+            redraw();
+        });
+        rowScrollBar.valueProperty().addListener(redrawListener);
+
+        canvasContainer.setOnScroll(event -> scrollBy(-event.getDeltaY() / ROW_HEIGHT));
+        root.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.ESCAPE) {
+                hide();
+                event.consume();
+            }
+        });
+    }
+
+    /**
+     * Creates a new AttendanceHeatmapWindow.
+     */
+    public AttendanceHeatmapWindow() {
+        this(new Stage());
+    }
+
+    /**
+     * Shows the attendance in {@code blocks}, which must all be of the same month, one class after another.
+     */
+    public void show(List<MonthBlock> blocks) {
+        setBlocks(blocks);
+        titleLabel.setText("Attendance for " + month.format(MONTH_FORMATTER));
+        rowScrollBar.setValue(0);
+        updateScrollBar();
+        redraw();
+
+        logger.fine("Showing attendance heatmap of " + getRowCount() + " students.");
+        if (!isShowing()) {
+            getRoot().show();
+            getRoot().centerOnScreen();
+        }
+        focus();
+    }
+
+    /**
+     * Shows {@code blocks} in place of the blocks being shown, keeping the scroll position.
+     * The blocks must be of the same classes and month as those being shown, fetched again after a command
+     * may have added, edited or removed students, as the earlier blocks then no longer follow the class.
+     */
+    public void update(List<MonthBlock> blocks) {
+        setBlocks(blocks);
+        updateScrollBar();
+        redraw();
+    }
+
+    /**
+     * Returns the classes being shown, one per block.
+     */
+    public List<Class> getClasses() {
+        return blocks.stream().map(MonthBlock::getStudentClass).toList();
+    }
+
+    /**
+     * Returns the month being shown.
+     */
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    /**
+     * Returns true if the heatmap window is currently being shown.
+     */
+    public boolean isShowing() {
+        return getRoot().isShowing();
+    }
+
+    /**
+     * Hides the heatmap window.
+     */
+    public void hide() {
+        getRoot().hide();
+    }
+
+    /**
+     * Focuses on the heatmap window.
+     */
+    public void focus() {
+        getRoot().requestFocus();
+    }
+
+    private void setBlocks(List<MonthBlock> blocks) {
+        requireNonNull(blocks);
+        assert !blocks.isEmpty();
+
+        this.blocks = blocks;
+        this.month = blocks.get(0).getMonth();
+        blockStartRows = new int[blocks.size() + 1];
+        for (int i = 0; i < blocks.size(); i++) {
+            blockStartRows[i + 1] = blockStartRows[i] + blocks.get(i).size();
+        }
+    }
+
+    private int getRowCount() {
+        return blockStartRows[blockStartRows.length - 1];
+    }
+
+    /**
+     * Returns the number of rows that fit below the header.
+     */
+    private int getVisibleRowCount() {
+        return Math.max(0, (int) ((canvas.getHeight() - HEADER_HEIGHT) / ROW_HEIGHT));
+    }
+
+    private void updateScrollBar() {
+        int visibleRows = getVisibleRowCount();
+        int maxFirstRow = Math.max(0, getRowCount() - visibleRows);
+        rowScrollBar.setMin(0);
+        rowScrollBar.setMax(maxFirstRow);
+        rowScrollBar.setVisibleAmount(Math.min(visibleRows, getRowCount()));
+        rowScrollBar.setUnitIncrement(1);
+        rowScrollBar.setBlockIncrement(Math.max(1, visibleRows));
+        rowScrollBar.setValue(Math.min(rowScrollBar.getValue(), maxFirstRow));
+    }
+
+    private void scrollBy(double rows) {
+        double value = rowScrollBar.getValue() + rows;
+        rowScrollBar.setValue(Math.max(rowScrollBar.getMin(), Math.min(rowScrollBar.getMax(), value)));
+    }
+
+    /**
+     * Draws the day header and the rows that are currently scrolled into view.
+     */
+    private void redraw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (month == null) {
+            return;
+        }
+
+        int daysInMonth = month.lengthOfMonth();
+        double cellWidth = Math.max(1, (canvas.getWidth() - NAME_COLUMN_WIDTH) / daysInMonth);
+        gc.setFont(FONT);
+        gc.setTextBaseline(VPos.CENTER);
+
+        gc.setFill(HEADER_TEXT_COLOR);
+        gc.setTextAlign(TextAlignment.CENTER);
+        for (int day = 1; day <= daysInMonth; day++) {
+            gc.fillText(String.valueOf(day), NAME_COLUMN_WIDTH + (day - 0.5) * cellWidth, HEADER_HEIGHT / 2);
+        }
+
+        int firstRow = (int) Math.round(rowScrollBar.getValue());
+        int endRow = Math.min(getRowCount(), firstRow + getVisibleRowCount() + 1);
+        int block = findBlock(firstRow);
+        for (int row = firstRow; row < endRow; row++) {
+            while (row >= blockStartRows[block + 1]) {
+                block++;
+            }
+            double y = HEADER_HEIGHT + (row - firstRow) * ROW_HEIGHT;
+            if (row == blockStartRows[block] && block > 0) {
+                gc.setStroke(CLASS_SEPARATOR_COLOR);
+                gc.strokeLine(0, y - CELL_GAP / 2, canvas.getWidth(), y - CELL_GAP / 2);
+            }
+            drawRow(gc, blocks.get(block), row - blockStartRows[block], y, cellWidth);
+        }
+    }
+
+    private void drawRow(GraphicsContext gc, MonthBlock block, int blockRow, double y, double cellWidth) {
+        gc.setFill(TEXT_COLOR);
+        gc.setTextAlign(TextAlignment.LEFT);
+        Person student = block.getStudent(blockRow);
+        // The class is only needed to tell the classes apart when more than one is shown
+        String label = blocks.size() > 1
+                ? student.getStudentClass() + "  " + student.getName().fullName
+                : student.getName().fullName;
+        gc.fillText(label, TEXT_PADDING, y + ROW_HEIGHT / 2, NAME_COLUMN_WIDTH - 2 * TEXT_PADDING);
+
+        int daysInMonth = month.lengthOfMonth();
+        for (int day = 1; day <= daysInMonth; day++) {
+            gc.setFill(getStatusColor(block.getStatus(blockRow, day)));
+            gc.fillRect(NAME_COLUMN_WIDTH + (day - 1) * cellWidth, y,
+                    Math.max(1, cellWidth - CELL_GAP), ROW_HEIGHT - CELL_GAP);
+        }
+    }
+
+    /**
+     * Returns the block holding {@code row}.
+     */
+    private int findBlock(int row) {
+        int block = 0;
+        while (block < blocks.size() - 1 && row >= blockStartRows[block + 1]) {
+            block++;
+        }
+        return block;
+    }
+
+    private static Color getStatusColor(AttendanceStatus status) {
+        if (status == null) {
+            return NO_RECORD_COLOR;
+        }
+
+        return switch (status) {
+        case PRESENT -> PRESENT_COLOR;
+        case LATE -> LATE_COLOR;
+        case SICK -> SICK_COLOR;
+        case ABSENT -> ABSENT_COLOR;
+        default -> NO_RECORD_COLOR;
+        };
+    }
+}
@@ -2,13 +2,17 @@ package seedu.address.ui;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import javafx.fxml.FXML;
+import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
@@ -16,14 +20,43 @@ import seedu.address.model.person.Attendance;
 
 /**
  * Panel containing the attendance of a person.
+ * The month is shown on a fixed grid of day cells that is created once and restyled for each month.
+ * The records of the months around the one shown are kept, so that flipping between months does not
+ * look up the same records again.
  */
 public class AttendancePanel extends UiPart<VBox> {
 
     private static final String FXML = "AttendancePanel.fxml";
-    private static final String PRESENT_COLOR = "#4caf50";
-    private static final String LATE_COLOR = "#ff9800";
-    private static final String SICK_COLOR = "#2196f3";
-    private static final String ABSENT_COLOR = "#f44336";
+    private static final int WEEKS_PER_GRID = 6;
+    private static final int DAYS_PER_WEEK = 7;
+    private static final int MAX_DAYS_PER_MONTH = 31;
+    private static final int CACHED_MONTHS = 12;
+    private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy");
+
+    private static final String DAY_STYLE_CLASS = "attendance-day";
+    private static final String EMPTY_DAY_STYLE_CLASS = "attendance-day-empty";
+    private static final String NO_RECORD_STYLE_CLASS = "attendance-none";
+    private static final String LEGEND_STYLE_CLASS = "attendance-legend";
+    private static final String[] DAY_TEXTS = new String[MAX_DAYS_PER_MONTH + 1];
+
+    static {
+        for (int day = 1; day <= MAX_DAYS_PER_MONTH; day++) {
+            DAY_TEXTS[day] = String.valueOf(day);
+        }
+    }
+
+    // Statuses by day of month (index 0 is the 1st), for the months looked up most recently
+    private final Map<YearMonth, AttendanceStatus[]> monthCache =
+            new LinkedHashMap<>(CACHED_MONTHS, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<YearMonth, AttendanceStatus[]> eldest) {
+                    return size() > CACHED_MONTHS;
+                }
+            };
+    // Attendance is marked on the command thread, so the grid is updated on the JavaFX application thread
+    private final Attendance.AttendanceListener attendanceListener =
+            (date, status) -> FxThread.run(() -> onAttendanceChanged(date));
+    private final Label[] dayCells = new Label[WEEKS_PER_GRID * DAYS_PER_WEEK];
 
     private YearMonth currentDisplayMonth;
     private Attendance attendance;
@@ -61,6 +94,7 @@ public class AttendancePanel extends UiPart<VBox> {
      */
     private void initialise() {
         setLegends();
+        createDayCells();
         updateMonthLabel();
 
         prevMonthButton.setOnAction(e -> navigatePreviousMonth());
@@ -71,27 +105,35 @@ public class AttendancePanel extends UiPart<VBox> {
      * Sets the legends of attendance labels.
      */
     private void setLegends() {
-        Label[] labels = {legendPresent, legendLate, legendSick, legendAbsent};
-
-        for (int i = 0; i < labels.length; i++) {
-            Label currLegend = labels[i];
-
-            currLegend.setPrefSize(Region.USE_COMPUTED_SIZE, 25);
-            currLegend.setMaxWidth(Double.MAX_VALUE);
-
-            if (currLegend == legendPresent) {
-                currLegend.setStyle(getDayCellStyle("present") + "-fx-padding: 5px; -fx-font-size: 10px");
-                currLegend.setText("PRESENT");
-            } else if (currLegend == legendLate) {
-                currLegend.setStyle(getDayCellStyle("late") + "-fx-padding: 5px; -fx-font-size: 10px");
-                currLegend.setText("LATE");
-            } else if (currLegend == legendSick) {
-                currLegend.setStyle(getDayCellStyle("sick") + "-fx-padding: 5px; -fx-font-size: 10px");
-                currLegend.setText("SICK");
-            } else if (currLegend == legendAbsent) {
-                currLegend.setStyle(getDayCellStyle("absent") + "-fx-padding: 5px; -fx-font-size: 10px");
-                currLegend.setText("ABSENT");
-            }
+        setLegend(legendPresent, AttendanceStatus.PRESENT);
+        setLegend(legendLate, AttendanceStatus.LATE);
+        setLegend(legendSick, AttendanceStatus.SICK);
+        setLegend(legendAbsent, AttendanceStatus.ABSENT);
+    }
+
+    private void setLegend(Label legend, AttendanceStatus status) {
+        legend.setPrefSize(Region.USE_COMPUTED_SIZE, 25);
+        legend.setMaxWidth(Double.MAX_VALUE);
+        legend.getStyleClass().addAll(LEGEND_STYLE_CLASS, getStatusStyleClass(status));
+        legend.setText(status.name());
+    }
+
+    /**
+     * Creates the day cells of the grid, below the row of weekday headers.
+     */
+    private void createDayCells() {
+        for (int i = 0; i < dayCells.length; i++) {
+            Label cell = new Label();
+            cell.setMaxWidth(Double.MAX_VALUE);
+            cell.setPrefSize(40, 40);
+            cell.setAlignment(Pos.CENTER);
+            cell.getStyleClass().addAll(DAY_STYLE_CLASS, EMPTY_DAY_STYLE_CLASS);
+
+            // Make the label fill the available space in the grid cell
+            GridPane.setHgrow(cell, Priority.ALWAYS);
+            GridPane.setVgrow(cell, Priority.ALWAYS);
+            attendanceGrid.add(cell, i % DAYS_PER_WEEK, i / DAYS_PER_WEEK + 1);
+            dayCells[i] = cell;
         }
     }
 
@@ -100,7 +142,16 @@ public class AttendancePanel extends UiPart<VBox> {
      * @param attendance attendance of the person being viewed.
      */
     public void setAttendance(Attendance attendance) {
-        this.attendance = attendance;
+        if (this.attendance != attendance) {
+            if (this.attendance != null) {
+                this.attendance.removeListener(attendanceListener);
+            }
+            if (attendance != null) {
+                attendance.addListener(attendanceListener);
+            }
+            this.attendance = attendance;
+            monthCache.clear();
+        }
         updateAttendanceDisplay();
     }
 
@@ -108,7 +159,7 @@ public class AttendancePanel extends UiPart<VBox> {
      * Updates the month label with current display month.
      */
     private void updateMonthLabel() {
-        monthLabel.setText(currentDisplayMonth.format(java.time.format.DateTimeFormatter.ofPattern("MMMM yyyy")));
+        monthLabel.setText(currentDisplayMonth.format(MONTH_FORMATTER));
     }
 
     /**
@@ -142,98 +193,80 @@ public class AttendancePanel extends UiPart<VBox> {
     }
 
     /**
-     * Displays attendance as a grid of colored day cells.
+     * Displays attendance as a grid of colored day cells, then looks up the months on either side in advance.
      */
     private void displayAttendanceAsGrid() {
-        // Clear existing day cells (keep header row)
-        attendanceGrid.getChildren().removeIf(node ->
-                GridPane.getRowIndex(node) != null && GridPane.getRowIndex(node) > 0);
-
-        Map<LocalDate, AttendanceStatus> monthlyRecords = attendance.getAttendanceRecordsForMonth(currentDisplayMonth);
-
-        LocalDate firstDay = currentDisplayMonth.atDay(1);
+        AttendanceStatus[] monthlyStatuses = getMonthStatuses(currentDisplayMonth);
         int daysInMonth = currentDisplayMonth.lengthOfMonth();
 
         // Calculate the day of week for the first day (0 = Sunday, 1 = Monday, ..., 6 = Saturday)
-        int firstDayOfWeek = firstDay.getDayOfWeek().getValue() % 7; // Convert to Sunday-start week
-
-        // Start from row 1 (after headers)
-        int row = 1;
-        int col = 0;
-
-        // Add empty cells for days before the first day of the month
-        for (int i = 0; i < firstDayOfWeek; i++) {
-            Label emptyLabel = createEmptyDayLabel();
-            attendanceGrid.add(emptyLabel, col, row);
-            col++;
-        }
-
-        // Add cells for each day of the month
-        for (int day = 1; day <= daysInMonth; day++) {
-            LocalDate currentDate = currentDisplayMonth.atDay(day);
-            AttendanceStatus status = monthlyRecords.get(currentDate);
-            String statusString = (status != null) ? status.toString().toLowerCase() : "";
-
-            Label dayLabel = createDayLabel(day, statusString);
-            attendanceGrid.add(dayLabel, col, row);
-
-            // Move to next column, next row if needed
-            col++;
-            if (col > 6) {
-                col = 0;
-                row++;
+        int firstDayOfWeek = currentDisplayMonth.atDay(1).getDayOfWeek().getValue() % 7;
+        int weeksShown = (firstDayOfWeek + daysInMonth + DAYS_PER_WEEK - 1) / DAYS_PER_WEEK;
+
+        for (int i = 0; i < dayCells.length; i++) {
+            Label cell = dayCells[i];
+            int day = i - firstDayOfWeek + 1;
+
+            // Rows after the last week are taken out of the layout, so that the grid is only as tall as needed
+            boolean isInShownWeek = i / DAYS_PER_WEEK < weeksShown;
+            cell.setVisible(isInShownWeek);
+            cell.setManaged(isInShownWeek);
+
+            if (day < 1 || day > daysInMonth) {
+                cell.setText("");
+                cell.getStyleClass().set(cell.getStyleClass().size() - 1, EMPTY_DAY_STYLE_CLASS);
+            } else {
+                cell.setText(DAY_TEXTS[day]);
+                cell.getStyleClass().set(cell.getStyleClass().size() - 1,
+                        getStatusStyleClass(monthlyStatuses[day - 1]));
             }
         }
 
-        attendanceGrid.setVisible(true);
+        getMonthStatuses(currentDisplayMonth.minusMonths(1));
+        getMonthStatuses(currentDisplayMonth.plusMonths(1));
     }
 
     /**
-     * Creates an empty label for padding before the first day of the month.
+     * Returns the statuses recorded in {@code month}, by day of month, looking them up if they are not cached.
      */
-    private Label createEmptyDayLabel() {
-        Label emptyLabel = new Label("");
-        emptyLabel.setMaxWidth(Double.MAX_VALUE);
-        emptyLabel.setPrefSize(40, 40);
-        emptyLabel.setStyle("-fx-background-color: transparent; -fx-border-color: transparent;");
-        GridPane.setHgrow(emptyLabel, javafx.scene.layout.Priority.ALWAYS);
-        GridPane.setVgrow(emptyLabel, javafx.scene.layout.Priority.ALWAYS);
-        return emptyLabel;
+    private AttendanceStatus[] getMonthStatuses(YearMonth month) {
+        AttendanceStatus[] statuses = monthCache.get(month);
+        if (statuses == null) {
+            statuses = new AttendanceStatus[month.lengthOfMonth()];
+            for (Map.Entry<LocalDate, AttendanceStatus> record
+                    : attendance.getAttendanceRecordsForMonth(month).entrySet()) {
+                statuses[record.getKey().getDayOfMonth() - 1] = record.getValue();
+            }
+            monthCache.put(month, statuses);
+        }
+        return statuses;
     }
 
     /**
-     * Creates a styled label for a day cell.
+     * Updates the cached month of {@code date}, and the grid if that month is shown.
      */
-    private Label createDayLabel(int day, String status) {
-        Label label = new Label(String.valueOf(day));
-        label.setMaxWidth(Double.MAX_VALUE);
-        label.setPrefSize(40, 40);
-        label.setAlignment(javafx.geometry.Pos.CENTER);
-        label.setStyle(getDayCellStyle(status));
-
-        // Make the label fill the available space in the grid cell
-        GridPane.setHgrow(label, javafx.scene.layout.Priority.ALWAYS);
-        GridPane.setVgrow(label, javafx.scene.layout.Priority.ALWAYS);
-
-        return label;
+    private void onAttendanceChanged(LocalDate date) {
+        YearMonth month = YearMonth.from(date);
+        monthCache.remove(month);
+        if (month.equals(currentDisplayMonth)) {
+            updateAttendanceDisplay();
+        }
     }
 
     /**
-     * Returns the CSS style for a day cell based on attendance status.
+     * Returns the style class for a day cell based on attendance status.
      */
-    private String getDayCellStyle(String status) {
-        String baseStyle = "-fx-border-color: #ddd; -fx-border-radius: 3; -fx-background-radius: 3; ";
-
-        return switch (status.toLowerCase()) {
-        case "present" -> baseStyle + String.format(
-                "-fx-background-color: %s; -fx-text-fill: white;", PRESENT_COLOR);
-        case "late" -> baseStyle + String.format(
-                "-fx-background-color: %s; -fx-text-fill: white;", LATE_COLOR);
-        case "sick" -> baseStyle + String.format(
-                "-fx-background-color: %s; -fx-text-fill: white;", SICK_COLOR);
-        case "absent" -> baseStyle + String.format(
-                "-fx-background-color: %s; -fx-text-fill: white;", ABSENT_COLOR);
-        default -> baseStyle + "-fx-background-color: #f5f5f5; -fx-text-fill: #666;";
+    private static String getStatusStyleClass(AttendanceStatus status) {
+        if (status == null) {
+            return NO_RECORD_STYLE_CLASS;
+        }
+
+        return switch (status) {
+        case PRESENT -> "attendance-present";
+        case LATE -> "attendance-late";
+        case SICK -> "attendance-sick";
+        case ABSENT -> "attendance-absent";
+        default -> NO_RECORD_STYLE_CLASS;
         };
     }
 
@@ -1,12 +1,12 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletionStage;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -41,12 +41,25 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        // Cleared straight away, so that the next command can be typed while this one runs
+        commandTextField.setText("");
+        commandExecutor.execute(commandText).whenComplete((result, error) -> {
+            if (error != null) {
+                showFailedCommand(commandText);
+            }
+        });
+    }
+
+    /**
+     * Puts {@code commandText} back for the user to correct, unless another command has been typed since.
+     */
+    private void showFailedCommand(String commandText) {
+        if (!commandTextField.getText().isEmpty()) {
+            return;
         }
+        commandTextField.setText(commandText);
+        commandTextField.positionCaret(commandText.length());
+        setStyleToIndicateCommandFailure();
     }
 
     /**
@@ -75,11 +88,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command, and returns the result once it has finished.
+         * The result is completed exceptionally if the command fails.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.CommandRunner#submit(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletionStage<CommandResult> execute(String commandText);
     }
 
 }
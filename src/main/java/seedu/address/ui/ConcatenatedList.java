@@ -0,0 +1,79 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable view of two observable lists, one after the other.
+ * Each change to either list is passed on as the same change, moved past the first list if it is to the second,
+ * so a {@code ListView} of the view only updates the rows that changed.
+ * Both lists must only be changed on the thread that observes the view.
+ */
+public class ConcatenatedList<E> extends ObservableListBase<E> {
+
+    private final ObservableList<? extends E> first;
+    private final ObservableList<? extends E> second;
+
+    /**
+     * Creates a view of {@code first} followed by {@code second}.
+     */
+    public ConcatenatedList(ObservableList<? extends E> first, ObservableList<? extends E> second) {
+        requireAllNonNull(first, second);
+        this.first = first;
+        this.second = second;
+        first.addListener((ListChangeListener<E>) change -> passOn(change, 0));
+        second.addListener((ListChangeListener<E>) change -> passOn(change, this.first.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        int firstSize = first.size();
+        return index < firstSize ? first.get(index) : second.get(index - firstSize);
+    }
+
+    @Override
+    public int size() {
+        return first.size() + second.size();
+    }
+
+    /**
+     * Returns the number of rows taken up by the first list.
+     */
+    public int getFirstSize() {
+        return first.size();
+    }
+
+    /**
+     * Passes on {@code change}, moving it by {@code offset} rows.
+     */
+    private void passOn(ListChangeListener.Change<? extends E> change, int offset) {
+        beginChange();
+        while (change.next()) {
+            int from = change.getFrom() + offset;
+            int to = change.getTo() + offset;
+            if (change.wasPermutated()) {
+                int[] permutation = new int[to - from];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i) + offset;
+                }
+                nextPermutation(from, to, permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = from; i < to; i++) {
+                    nextUpdate(i);
+                }
+            } else if (change.wasReplaced()) {
+                nextReplace(from, to, new ArrayList<>(change.getRemoved()));
+            } else if (change.wasRemoved()) {
+                nextRemove(from, new ArrayList<>(change.getRemoved()));
+            } else {
+                nextAdd(from, to);
+            }
+        }
+        endChange();
+    }
+}
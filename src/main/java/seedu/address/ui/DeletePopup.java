@@ -79,18 +79,7 @@ public class DeletePopup extends UiPart<Stage> {
         headerLabel.setText(headerMessage);
 
         personListView.setItems(FXCollections.observableArrayList(matchingResults));
-        personListView.setCellFactory(lv -> new javafx.scene.control.ListCell<>() {
-            protected void updateItem(Person person, boolean isEmpty) {
-                super.updateItem(person, isEmpty);
-                if (isEmpty || person == null) {
-                    setGraphic(null);
-                    setText(null);
-                } else {
-                    int index = matchingResults.indexOf(person) + 1;
-                    setGraphic(new PersonCard(person, index).getRoot());
-                }
-            }
-        });
+        personListView.setCellFactory(lv -> new PersonListPanel.PersonListViewCell());
 
         inputField.clear();
         inputField.requestFocus();
@@ -25,6 +25,7 @@ public interface DeletePopupHandler {
      *
      * @param person the {@code Person} selected by the user for deletion.
      * @return {@code true} if the user confirms deletion, {@code false} if the user cancels.
+     * @throws CommandException if the command stops waiting for the user's answer.
      */
-    boolean confirmDeletion(Person person);
+    boolean confirmDeletion(Person person) throws CommandException;
 }
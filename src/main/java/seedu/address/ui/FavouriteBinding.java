@@ -0,0 +1,93 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+import javafx.beans.WeakListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+
+/**
+ * Follows the favourite status of one person at a time, e.g. to show or hide the star on a {@code PersonCard}.
+ * Binding to another person first unbinds from the previous one, so a recycled card only ever has one listener.
+ * The person only holds a weak listener, so a card that is thrown away without being unbound can still be
+ * garbage collected, and its listener is dropped the next time the person's favourite status is used.
+ * Changes can be passed on through an executor, e.g. to show a change made on the command thread on the
+ * JavaFX application thread. The status shown is then whatever it is by the time the executor runs.
+ */
+public class FavouriteBinding {
+
+    private final Consumer<Boolean> onFavouriteChanged;
+    // Must stay strongly reachable from this binding for as long as the binding is in use
+    private final ChangeListener<Boolean> listener;
+    private final WeakChangeListener<Boolean> weakListener;
+
+    private BooleanProperty boundProperty;
+
+    /**
+     * Creates a {@code FavouriteBinding} that passes the favourite status to {@code onFavouriteChanged}
+     * whenever it is bound or the status changes.
+     */
+    public FavouriteBinding(Consumer<Boolean> onFavouriteChanged) {
+        this(onFavouriteChanged, Runnable::run);
+    }
+
+    /**
+     * Creates a {@code FavouriteBinding} that passes the favourite status to {@code onFavouriteChanged}
+     * when it is bound, and through {@code changeExecutor} whenever the status changes.
+     */
+    public FavouriteBinding(Consumer<Boolean> onFavouriteChanged, Executor changeExecutor) {
+        requireNonNull(onFavouriteChanged);
+        requireNonNull(changeExecutor);
+        this.onFavouriteChanged = onFavouriteChanged;
+        this.listener = (observable, oldValue, newValue) -> changeExecutor.execute(this::showBoundValue);
+        this.weakListener = new WeakChangeListener<>(listener);
+    }
+
+    /**
+     * Follows {@code favouriteProperty} instead of the property followed before, if any.
+     */
+    public void bind(BooleanProperty favouriteProperty) {
+        requireNonNull(favouriteProperty);
+        if (favouriteProperty != boundProperty) {
+            unbind();
+            boundProperty = favouriteProperty;
+            favouriteProperty.addListener(weakListener);
+        }
+        onFavouriteChanged.accept(favouriteProperty.get());
+    }
+
+    /**
+     * Stops following the property followed before, if any.
+     */
+    public void unbind() {
+        if (boundProperty != null) {
+            boundProperty.removeListener(weakListener);
+            boundProperty = null;
+        }
+    }
+
+    public boolean isBound() {
+        return boundProperty != null;
+    }
+
+    /**
+     * Returns the listener added to the property followed, which only refers to this binding weakly.
+     */
+    WeakListener getPropertyListener() {
+        return weakListener;
+    }
+
+    /**
+     * Passes on the status of the property followed now, which may not be the one that changed
+     * if the binding has been rebound in the meantime.
+     */
+    private void showBoundValue() {
+        if (boundProperty != null) {
+            onFavouriteChanged.accept(boundProperty.get());
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.ui;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs code on the JavaFX application thread on behalf of commands, which run on the command thread.
+ */
+public class FxThread {
+
+    public static final String MESSAGE_INTERRUPTED = "Command is cancelled.";
+
+    /** Runs each task on the JavaFX application thread, straight away if already on it. */
+    public static final Executor EXECUTOR = FxThread::run;
+
+    // The calls that commands are waiting on, so that they can be cancelled when the application closes
+    private static final Set<FutureTask<?>> waitingCalls = ConcurrentHashMap.newKeySet();
+    private static volatile boolean isClosed;
+
+    private FxThread() {}
+
+    /**
+     * Runs {@code task} on the JavaFX application thread, straight away if already on it.
+     */
+    public static void run(Runnable task) {
+        if (Platform.isFxApplicationThread()) {
+            task.run();
+        } else {
+            Platform.runLater(task);
+        }
+    }
+
+    /**
+     * Runs {@code task} on the JavaFX application thread and waits for its result, e.g. to show a popup
+     * and wait for the user's answer while a command is running.
+     *
+     * @throws CommandException if {@code task} throws one, if the wait is interrupted,
+     *     or if the call is cancelled by {@link #close()}.
+     */
+    public static <T> T callAndWait(Callable<T> task) throws CommandException {
+        FutureTask<T> future = new FutureTask<>(task);
+        waitingCalls.add(future);
+        try {
+            // Checked after adding the call, so that a concurrent close either cancels the call or is seen here
+            if (isClosed) {
+                throw new CommandException(MESSAGE_INTERRUPTED);
+            }
+            run(future);
+            return future.get();
+        } catch (CancellationException e) {
+            throw new CommandException(MESSAGE_INTERRUPTED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(MESSAGE_INTERRUPTED);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            waitingCalls.remove(future);
+        }
+    }
+
+    /**
+     * Cancels the calls that commands are waiting on, and makes every later call fail straight away,
+     * e.g. once the application is closing. A popup that has not been shown yet is then never shown,
+     * and the answer to one that is showing is ignored.
+     */
+    public static void close() {
+        isClosed = true;
+        waitingCalls.forEach(call -> call.cancel(false));
+    }
+}
@@ -0,0 +1,227 @@
+package seedu.address.ui;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of an observable list that only ever changes on the JavaFX application thread,
+ * for showing a model list that commands change on the command thread.
+ * Each change to the source list is recorded on the thread that made it, holding only the rows it added, and
+ * made to the copy on the JavaFX application thread, so that e.g. favouriting one person only replaces that
+ * person's row in a list view of the copy.
+ * If the JavaFX application thread falls so far behind that the recorded changes would hold more rows than the
+ * source list, the source list is copied once instead, and the copy is changed to match it.
+ */
+public class FxThreadList<E> {
+
+    private final ObservableList<E> source;
+    private final ObservableList<E> copy = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiableCopy = FXCollections.unmodifiableObservableList(copy);
+    private final BooleanSupplier isOnFxThread;
+    private final Executor fxThreadExecutor;
+
+    // The changes that have not been made to the copy yet, oldest first, guarded by this
+    private List<Edit<E>> pendingEdits = new ArrayList<>();
+    private int pendingRowCount;
+    // The source list as it is now, kept instead of the pending changes once they grow too large
+    private List<E> pendingCopy;
+    private boolean isUpdateScheduled;
+
+    /**
+     * Creates a copy of {@code source}. Must be called on the JavaFX application thread,
+     * before the source list is changed from any other thread.
+     */
+    public FxThreadList(ObservableList<E> source) {
+        this(source, Platform::isFxApplicationThread, Platform::runLater);
+    }
+
+    /**
+     * Creates a copy of {@code source} that treats the threads for which {@code isOnFxThread} is true as the
+     * JavaFX application thread, and makes changes from other threads through {@code fxThreadExecutor}.
+     */
+    FxThreadList(ObservableList<E> source, BooleanSupplier isOnFxThread, Executor fxThreadExecutor) {
+        requireAllNonNull(source, isOnFxThread, fxThreadExecutor);
+        this.source = source;
+        this.isOnFxThread = isOnFxThread;
+        this.fxThreadExecutor = fxThreadExecutor;
+        copy.setAll(source);
+        source.addListener((ListChangeListener<E>) this::onSourceChanged);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, e.g. for a {@code ListView}.
+     */
+    public ObservableList<E> getList() {
+        return unmodifiableCopy;
+    }
+
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        List<Edit<E>> edits = Edit.of(change);
+        if (edits.isEmpty()) {
+            return;
+        }
+
+        boolean isShownNow = false;
+        boolean shouldSchedule = false;
+        synchronized (this) {
+            if (isOnFxThread.getAsBoolean() && !isUpdateScheduled) {
+                isShownNow = true;
+            } else {
+                addPending(edits);
+                // Only the first change since the last update needs to schedule one
+                shouldSchedule = !isUpdateScheduled;
+                isUpdateScheduled = true;
+            }
+        }
+
+        if (isShownNow) {
+            edits.forEach(edit -> edit.applyTo(copy));
+        } else if (shouldSchedule) {
+            fxThreadExecutor.execute(this::showPendingChanges);
+        }
+    }
+
+    /**
+     * Keeps {@code edits} until the copy is updated. Must be called while holding the lock on this list.
+     */
+    private void addPending(List<Edit<E>> edits) {
+        if (pendingCopy != null) {
+            edits.forEach(edit -> edit.applyTo(pendingCopy));
+            return;
+        }
+
+        pendingEdits.addAll(edits);
+        for (Edit<E> edit : edits) {
+            pendingRowCount += edit.getRowCount();
+        }
+        if (pendingRowCount > source.size()) {
+            pendingCopy = new ArrayList<>(source);
+            pendingEdits = new ArrayList<>();
+            pendingRowCount = 0;
+        }
+    }
+
+    private void showPendingChanges() {
+        List<Edit<E>> edits;
+        List<E> latestCopy;
+        synchronized (this) {
+            edits = pendingEdits;
+            latestCopy = pendingCopy;
+            pendingEdits = new ArrayList<>();
+            pendingRowCount = 0;
+            pendingCopy = null;
+            isUpdateScheduled = false;
+        }
+
+        if (latestCopy != null) {
+            show(latestCopy);
+        } else {
+            edits.forEach(edit -> edit.applyTo(copy));
+        }
+    }
+
+    /**
+     * Changes the copy to {@code latestCopy}, replacing only the rows between the first and the last that differ.
+     * Rows are compared by reference, as an edited element is a different object.
+     */
+    void show(List<E> latestCopy) {
+        int start = 0;
+        int end = copy.size();
+        int latestEnd = latestCopy.size();
+        while (start < end && start < latestEnd && copy.get(start) == latestCopy.get(start)) {
+            start++;
+        }
+        while (end > start && latestEnd > start && copy.get(end - 1) == latestCopy.get(latestEnd - 1)) {
+            end--;
+            latestEnd--;
+        }
+
+        List<E> changedRows = latestCopy.subList(start, latestEnd);
+        if (end - start == 1 && changedRows.size() == 1) {
+            copy.set(start, changedRows.get(0));
+            return;
+        }
+        if (end > start) {
+            copy.remove(start, end);
+        }
+        if (!changedRows.isEmpty()) {
+            copy.addAll(start, changedRows);
+        }
+    }
+
+    /**
+     * One change to the source list: {@code removedCount} rows from {@code from} were replaced by {@code rows}.
+     */
+    private static class Edit<E> {
+        private final int from;
+        private final int removedCount;
+        private final List<E> rows;
+
+        private Edit(int from, int removedCount, List<E> rows) {
+            this.from = from;
+            this.removedCount = removedCount;
+            this.rows = rows;
+        }
+
+        /**
+         * Returns the edits that make the same change as {@code change}, in the order they must be made.
+         * A reordering is recorded as replacing the reordered rows, and rows that were only updated are left out,
+         * as the copy holds the same objects.
+         */
+        static <E> List<Edit<E>> of(ListChangeListener.Change<? extends E> change) {
+            List<Edit<E>> edits = new ArrayList<>();
+            while (change.next()) {
+                int from = change.getFrom();
+                if (change.wasPermutated()) {
+                    edits.add(new Edit<>(from, change.getTo() - from,
+                            new ArrayList<>(change.getList().subList(from, change.getTo()))));
+                } else if (!change.wasUpdated()) {
+                    edits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+                }
+            }
+            return edits;
+        }
+
+        /**
+         * Returns the number of rows this edit counts as while it is waiting to be made.
+         */
+        int getRowCount() {
+            return rows.size() + 1;
+        }
+
+        void applyTo(List<E> list) {
+            if (removedCount == 1 && rows.size() == 1) {
+                list.set(from, rows.get(0));
+                return;
+            }
+            if (removedCount > 0) {
+                list.subList(from, from + removedCount).clear();
+            }
+            if (!rows.isEmpty()) {
+                list.addAll(from, rows);
+            }
+        }
+
+        void applyTo(ObservableList<E> list) {
+            if (removedCount == 1 && rows.size() == 1) {
+                list.set(from, rows.get(0));
+                return;
+            }
+            if (removedCount > 0) {
+                list.remove(from, from + removedCount);
+            }
+            if (!rows.isEmpty()) {
+                list.addAll(from, rows);
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * A class handles popups when commands are run from a script, where there is no one to answer them.
+ * Typing a command into a script counts as confirming it, but a choice between several contacts cannot be made.
+ */
+public class HeadlessPopupHandler implements InfoPopupHandler, DeletePopupHandler {
+
+    public static final String MESSAGE_AMBIGUOUS_NAME =
+            "%1$d contacts match this name. Delete the intended contact by its index instead.";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessPopupHandler.class);
+
+    @Override
+    public void showMessage(String message, String instruction) {
+        logger.info("Confirmed without a popup: " + message);
+    }
+
+    @Override
+    public Person showPossibleMatches(String message, List<Person> options) throws CommandException {
+        throw new CommandException(String.format(MESSAGE_AMBIGUOUS_NAME, options.size()));
+    }
+
+    @Override
+    public boolean confirmDeletion(Person person) {
+        return true;
+    }
+}
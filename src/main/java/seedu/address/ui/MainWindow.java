@@ -1,5 +1,13 @@
 package seedu.address.ui;
 
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.logging.Logger;
 
 import javafx.event.ActionEvent;
@@ -12,10 +20,12 @@ import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
 import seedu.address.model.person.Person;
 
 /**
@@ -24,18 +34,28 @@ import seedu.address.model.person.Person;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_COMMAND_QUEUED = "Still loading contacts. \"%1$s\" will run once loaded.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred: %1$s";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private CommandRunner commandRunner;
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
     private ViewWindow viewWindow;
+    private AttendanceHeatmapWindow attendanceHeatmapWindow;
+    private StatusBarFooter statusBarFooter;
+
+    // Commands entered while the address book is loading, in the order they were entered
+    private final Queue<String> queuedCommands = new ArrayDeque<>();
+    private boolean isLoading;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -53,14 +73,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic},
+     * which runs commands through {@code commandRunner}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, CommandRunner commandRunner) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandRunner = commandRunner;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -69,6 +91,7 @@ public class MainWindow extends UiPart<Stage> {
 
         helpWindow = new HelpWindow();
         viewWindow = new ViewWindow();
+        attendanceHeatmapWindow = new AttendanceHeatmapWindow();
     }
 
     public Stage getPrimaryStage() {
@@ -113,33 +136,73 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        // Commands change the person list on the command thread, so the panel shows a copy kept on this thread
+        personListPanel = new PersonListPanel(new FxThreadList<>(logic.getFilteredPersonList()).getList(),
+                new FxThreadList<>(logic.getFavouritePersonList()).getList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+    }
+
+    /**
+     * Shows that the address book is still loading. Commands entered from now on are queued.
+     */
+    void showLoadingProgress(int loadedCount) {
+        isLoading = true;
+        statusBarFooter.showLoading(loadedCount);
+    }
 
+    /**
+     * Shows the reminders now that the address book has loaded, then runs the queued commands in order.
+     */
+    void showLoadingFinished() {
+        isLoading = false;
+        statusBarFooter.hideLoading();
         autoShowReminders();
+        showAttendanceAlerts();
+
+        // The runner runs them one after another
+        while (!queuedCommands.isEmpty()) {
+            executeCommand(queuedCommands.remove());
+        }
     }
 
     /**
-     * Automatically shows reminders by executing the Remind command.
+     * Automatically shows the birthday reminders worked out at startup.
+     * No commands have run yet, so the model can be read on this thread.
      */
     private void autoShowReminders() {
-        try {
-            // Execute Remind Command and display result in result display
-            CommandResult commandResult = logic.execute("remind");
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-        } catch (CommandException | ParseException e) {
-            // Silently fail - don't show error if remind command fails on startup
-            logger.info("No reminders to show on startup: " + e.getMessage());
-        }
+        CommandResult reminders = logic.getStartupReminders();
+        resultDisplay.setFeedbackToUser(reminders.getSummary(), reminders.getResultRows());
+    }
+
+    /**
+     * Works out the attendance alerts on the command thread, ahead of the queued commands, rather than while the
+     * address book is loading, as that reads every student.
+     * Any alerts are then shown below the reminders.
+     */
+    private void showAttendanceAlerts() {
+        commandRunner.read(Logic::getAttendanceAlerts).thenAccept(alerts -> {
+            if (!alerts.hasResultRows()) {
+                return;
+            }
+            logger.info("Attendance alerts on startup: " + alerts.getFeedbackToUser());
+
+            // The reminders are still showing, as the alerts are read before any command has run
+            CommandResult reminders = logic.getStartupReminders();
+            List<String> rows = new ArrayList<>(reminders.getResultRows());
+            rows.add("");
+            rows.add(alerts.getSummary());
+            rows.addAll(alerts.getResultRows());
+            resultDisplay.setFeedbackToUser(reminders.getSummary(), rows);
+        });
     }
 
     /**
@@ -200,8 +263,12 @@ public class MainWindow extends UiPart<Stage> {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
         logic.setGuiSettings(guiSettings);
+        // Commands typed after exit must not run, and one waiting for a popup must not show it
+        commandRunner.close();
+        FxThread.close();
         helpWindow.hide();
         viewWindow.hide();
+        attendanceHeatmapWindow.hide();
         primaryStage.hide();
     }
 
@@ -210,44 +277,98 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Queues the command to run after the commands entered before it, and returns its result once it has run.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see CommandRunner#submit(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            resultDisplay.clear();
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
-            }
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        if (isLoading) {
+            // Commands must not run, or save, before the whole address book is in the model
+            queuedCommands.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return CompletableFuture.completedFuture(new CommandResult(feedback));
+        }
 
-            if (commandResult.isShowView()) {
-                handleView();
+        CompletableFuture<CommandResult> result = commandRunner.submit(commandText);
+        statusBarFooter.showBusy(commandRunner.getPendingCount());
+        return result.whenComplete((commandResult, error) -> {
+            statusBarFooter.showBusy(commandRunner.getPendingCount());
+            if (error == null) {
+                handleCommandResult(commandResult);
             } else {
-                handleCloseView();
+                handleCommandError(commandText, error);
             }
+        });
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a command that has run successfully.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getSummary());
+        resultDisplay.setFeedbackToUser(commandResult.getSummary(), commandResult.getResultRows());
+
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
+
+        if (commandResult.isShowView()) {
+            handleView();
+        } else {
+            handleCloseView();
+        }
+
+        if (commandResult.isExit()) {
+            handleExit();
+        }
 
-            // Handle view command - show detailed dialog
-            if (commandResult.isShowPerson()) {
-                Person personToView = commandResult.getPersonToView();
-                if (personToView != null) {
-                    viewWindow.show(personToView); // Update the existing window
-                }
+        // Handle view command - show detailed dialog
+        if (commandResult.isShowPerson()) {
+            Person personToView = commandResult.getPersonToView();
+            if (personToView != null) {
+                viewWindow.show(personToView); // Update the existing window
             }
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isShowClassAttendance()) {
+            attendanceHeatmapWindow.show(commandResult.getClassAttendanceToShow());
+        } else if (attendanceHeatmapWindow.isShowing()) {
+            refreshAttendanceHeatmap();
+        }
+    }
+
+    /**
+     * Fetches the classes in the heatmap again once the commands before now have run, as any of them may have
+     * added, edited or removed students, or marked their attendance.
+     */
+    private void refreshAttendanceHeatmap() {
+        List<Class> studentClasses = attendanceHeatmapWindow.getClasses();
+        YearMonth month = attendanceHeatmapWindow.getMonth();
+        commandRunner.read(readLogic -> readLogic.getClassMonthAttendance(studentClasses, month))
+                .whenComplete((blocks, error) -> {
+                    if (error == null && attendanceHeatmapWindow.isShowing()) {
+                        attendanceHeatmapWindow.update(blocks);
+                    }
+                });
+    }
+
+    /**
+     * Shows why a command has failed.
+     */
+    private void handleCommandError(String commandText, Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (cause instanceof CancellationException) {
+            // Only happens once the application is closing
+            logger.info(cause.getMessage());
+            return;
+        }
+
+        logger.info("An error occurred while executing command: " + commandText);
+        if (cause instanceof CommandException || cause instanceof ParseException) {
+            resultDisplay.setFeedbackToUser(cause.getMessage());
+        } else {
+            resultDisplay.setFeedbackToUser(String.format(MESSAGE_UNEXPECTED_ERROR, cause));
         }
     }
 }
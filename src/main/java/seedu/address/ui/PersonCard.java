@@ -1,9 +1,13 @@
 package seedu.address.ui;
 
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.logging.Logger;
 
-import javafx.beans.property.BooleanProperty;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.image.Image;
@@ -14,6 +18,7 @@ import javafx.scene.layout.Region;
 import seedu.address.Main;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 
 
 /**
@@ -22,7 +27,12 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String STAR_IMAGE_PATH = "/images/star.png";
+    private static final String LABEL_STYLE_CLASS = "label";
+    private static final String STUDENT_TAG_STYLE_CLASS = "student-tag";
+    private static final String COLLEAGUE_TAG_STYLE_CLASS = "colleague-tag";
     private static Logger logger = LogsCenter.getLogger(Main.class);
+    private static final Image STAR_IMAGE = loadStarImage();
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -32,7 +42,10 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final List<Label> tagLabelPool = new ArrayList<>();
+    private final FavouriteBinding favouriteBinding;
+
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -57,13 +70,52 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private ImageView icon;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson(Person, int)}.
+     */
+    public PersonCard() {
+        super(FXML);
+        icon.setImage(STAR_IMAGE);
+        icon.setVisible(false);
+        favouriteBinding = new FavouriteBinding(icon::setVisible, FxThread.EXECUTOR);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    /**
+     * Shows {@code person} with the given index on this card, in place of the person shown before.
+     * The card's nodes, including its tag labels, are reused, so that a list cell can keep a single card.
+     */
+    public void setPerson(Person person, int displayedIndex) {
+        showPerson(person, displayedIndex + ". ");
+    }
+
+    /**
+     * Shows {@code person} on this card without an index, as one of the favourites pinned above the list.
+     */
+    public void setPinnedPerson(Person person) {
+        showPerson(person, "");
+    }
+
+    private void showPerson(Person person, String idText) {
+        requireNonNull(person);
+        id.setText(idText);
+        if (person == this.person) {
+            return;
+        }
+
         this.person = person;
-        id.setText(displayedIndex + ". ");
+
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
@@ -71,46 +123,55 @@ public class PersonCard extends UiPart<Region> {
         studentClass.setText(person.getStudentClass().value);
         birthday.setText(person.getBirthday().value);
         note.setText(person.getNote().value);
+        setTags(person);
+
+        // To trigger icon visibility setting when any changes to favourite property
+        favouriteBinding.bind(person.getFavBooleanProperty());
+    }
+
+    /**
+     * Stops showing the current person, so that the card no longer follows changes to the person.
+     */
+    public void clearPerson() {
+        favouriteBinding.unbind();
+        person = null;
+    }
+
+    /**
+     * Shows the tags of {@code person} in name order, reusing the tag labels created for earlier persons.
+     */
+    private void setTags(Person person) {
         boolean isStudent = person.getTags().stream()
                 .anyMatch(tag -> tag.tagName.equalsIgnoreCase("student"));
-        person.getTags().stream()
+        String tagStyleClass = isStudent ? STUDENT_TAG_STYLE_CLASS : COLLEAGUE_TAG_STYLE_CLASS;
+        List<Tag> sortedTags = person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> {
-                    Label tagLabel = new Label(tag.tagName);
-                    if (isStudent) {
-                        tagLabel.getStyleClass().add("student-tag");
-                    } else {
-                        tagLabel.getStyleClass().add("colleague-tag");
-                    }
-                    tags.getChildren().add(tagLabel);
-                });
-        Image imageIcon = new Image(this.getClass().getResourceAsStream("/images/star.png"));
-        BooleanProperty favProperty = person.getFavBooleanProperty();
-
-        if (this.getClass().getResourceAsStream("/images/star.png") == null) {
-            logger.warning("Image path was not found for star icon");
-        } else {
-            logger.info("Image path for star icon is valid!");
-        }
+                .toList();
 
-        icon.setImage(imageIcon);
-        boolean currFavStatus = favProperty.get();
-        icon.setVisible(currFavStatus);
-        logger.info("Initial favourite value is " + currFavStatus + ". So visibility set.");
+        while (tagLabelPool.size() < sortedTags.size()) {
+            tagLabelPool.add(new Label());
+        }
+        for (int i = 0; i < sortedTags.size(); i++) {
+            Label tagLabel = tagLabelPool.get(i);
+            tagLabel.setText(sortedTags.get(i).tagName);
+            tagLabel.getStyleClass().setAll(LABEL_STYLE_CLASS, tagStyleClass);
+        }
 
-        // To trigger icon visibility setting when any changes to favourite property
-        favProperty.addListener((observable, oldValue, newValue) -> {
-            // Check if newValue is true meaning property became true
-            if (newValue) {
-                icon.setVisible(true);
-                logger.info("Manged to get favourite boolean true for " + person.getName()
-                        + " and set icon visibility");
-            } else {
-                icon.setVisible(false);
-                logger.info("Favourite boolean was false for " + person.getName() + " so icon visibility is false");
-            }
-
-        });
+        List<Label> shownLabels = tagLabelPool.subList(0, sortedTags.size());
+        if (!tags.getChildren().equals(shownLabels)) {
+            tags.getChildren().setAll(shownLabels);
+        }
+    }
 
+    /**
+     * Returns the star icon shown on favourite contacts, which is shared by all cards.
+     */
+    private static Image loadStarImage() {
+        URL imageUrl = PersonCard.class.getResource(STAR_IMAGE_PATH);
+        if (imageUrl == null) {
+            logger.warning("Image path was not found for star icon");
+            return null;
+        }
+        return new Image(imageUrl.toExternalForm());
     }
 }
@@ -1,8 +1,13 @@
 package seedu.address.ui;
 
+import java.util.Comparator;
+import java.util.function.IntSupplier;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.css.PseudoClass;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
@@ -11,39 +16,89 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Person;
 
 /**
- * Panel containing the list of persons.
+ * Panel containing the list of persons, below the favourites pinned in name order.
+ * The pinned favourites and the list are shown as one concatenated view, so that favouriting a person only adds
+ * or removes that person's row, without sorting or filtering the list again.
  */
 public class PersonListPanel extends UiPart<Region> {
     private static final String FXML = "PersonListPanel.fxml";
+    private static final PseudoClass PINNED_PSEUDO_CLASS = PseudoClass.getPseudoClass("pinned");
+    private static final Comparator<Person> PINNED_ORDER =
+            Comparator.comparing(person -> person.getName().fullName, String.CASE_INSENSITIVE_ORDER);
+
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
     private ListView<Person> personListView;
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList} and no pinned favourites.
      */
     public PersonListPanel(ObservableList<Person> personList) {
+        this(personList, FXCollections.emptyObservableList());
+    }
+
+    /**
+     * Creates a {@code PersonListPanel} showing {@code favouriteList} pinned above {@code personList}.
+     */
+    public PersonListPanel(ObservableList<Person> personList, ObservableList<Person> favouriteList) {
         super(FXML);
-        personListView.setItems(personList);
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        // The sorted list places each new favourite by binary search, rather than sorting all of them again
+        ConcatenatedList<Person> items = new ConcatenatedList<>(new SortedList<>(favouriteList, PINNED_ORDER),
+                personList);
+        personListView.setItems(items);
+        personListView.setCellFactory(listView -> new PersonListViewCell(items::getFirstSize));
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a single, reused {@code PersonCard}.
+     * The rows before the list's first index show pinned favourites, which are not numbered.
      */
-    class PersonListViewCell extends ListCell<Person> {
+    static class PersonListViewCell extends ListCell<Person> {
+        // The number of pinned rows above the numbered persons
+        private final IntSupplier pinnedCount;
+        // Created on first use, then rebound to whichever person the cell shows as the list scrolls
+        private PersonCard personCard;
+
+        /**
+         * Creates a cell for a list without pinned rows.
+         */
+        PersonListViewCell() {
+            this(() -> 0);
+        }
+
+        /**
+         * Creates a cell for a list with {@code pinnedCount} pinned rows at the top.
+         */
+        PersonListViewCell(IntSupplier pinnedCount) {
+            this.pinnedCount = pinnedCount;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
 
             if (empty || person == null) {
+                if (personCard != null) {
+                    personCard.clearPerson();
+                }
+                pseudoClassStateChanged(PINNED_PSEUDO_CLASS, false);
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                int pinnedRows = pinnedCount.getAsInt();
+                boolean isPinned = getIndex() < pinnedRows;
+                if (isPinned) {
+                    personCard.setPinnedPerson(person);
+                } else {
+                    personCard.setPerson(person, getIndex() - pinnedRows + 1);
+                }
+                pseudoClassStateChanged(PINNED_PSEUDO_CLASS, isPinned);
+                setGraphic(personCard.getRoot());
             }
         }
     }
-
 }
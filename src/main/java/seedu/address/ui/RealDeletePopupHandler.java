@@ -8,24 +8,29 @@ import seedu.address.model.person.Person;
 
 /**
  * A class handles showing delete confirmation popup windows in the application.
+ * The popups are shown on the JavaFX application thread while the command waits for the answer.
  */
 public class RealDeletePopupHandler implements DeletePopupHandler {
 
     @Override
     public Person showPossibleMatches(String message, List<Person> matches) throws CommandException {
-        DeletePopup popup = new DeletePopup();
-        popup.show(message, matches);
-        if (popup.isConfirmed()) {
-            return popup.getSelectedPerson();
-        } else {
-            throw new CommandException(Messages.MESSAGE_DELETION_CANCELLED);
-        }
+        return FxThread.callAndWait(() -> {
+            DeletePopup popup = new DeletePopup();
+            popup.show(message, matches);
+            if (popup.isConfirmed()) {
+                return popup.getSelectedPerson();
+            } else {
+                throw new CommandException(Messages.MESSAGE_DELETION_CANCELLED);
+            }
+        });
     }
 
     @Override
-    public boolean confirmDeletion(Person person) {
-        DeletePopup popup = new DeletePopup();
-        popup.show(String.format(Messages.MESSAGE_DELETE_CONFIRMATION, person.getName()), List.of(person));
-        return popup.isConfirmed();
+    public boolean confirmDeletion(Person person) throws CommandException {
+        return FxThread.callAndWait(() -> {
+            DeletePopup popup = new DeletePopup();
+            popup.show(String.format(Messages.MESSAGE_DELETE_CONFIRMATION, person.getName()), List.of(person));
+            return popup.isConfirmed();
+        });
     }
 }
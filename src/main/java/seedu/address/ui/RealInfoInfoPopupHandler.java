@@ -4,14 +4,18 @@ import seedu.address.logic.commands.exceptions.CommandException;
 
 /**
  * A class handles showing message error popup windows in the application.
+ * The popups are shown on the JavaFX application thread while the command waits for the answer.
  */
 public class RealInfoInfoPopupHandler implements InfoPopupHandler {
 
     @Override
     public void showMessage(String message, String instruction) throws CommandException {
-        InfoPopup popup = new InfoPopup();
-        popup.show(message, instruction);
-        if (!popup.isConfirmed()) {
+        boolean isConfirmed = FxThread.callAndWait(() -> {
+            InfoPopup popup = new InfoPopup();
+            popup.show(message, instruction);
+            return popup.isConfirmed();
+        });
+        if (!isConfirmed) {
             throw new CommandException("Command is cancelled.");
         }
     }
@@ -1,32 +1,145 @@
 package seedu.address.ui;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import javafx.collections.FXCollections;
 import javafx.fxml.FXML;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.control.SelectionMode;
 import javafx.scene.control.TextArea;
+import javafx.scene.input.Clipboard;
+import javafx.scene.input.ClipboardContent;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 
 /**
  * An ui for the status bar that is displayed at the header of the application.
+ * Results with rows are shown in a list instead of a text area, so that only the rows in view are laid out,
+ * however many rows there are.
  */
 public class ResultDisplay extends UiPart<Region> {
 
     private static final String FXML = "ResultDisplay.fxml";
+    private static final KeyCombination COPY_KEY = new KeyCodeCombination(KeyCode.C, KeyCombination.SHORTCUT_DOWN);
 
     @FXML
     private TextArea resultDisplay;
 
+    @FXML
+    private ListView<String> resultRows;
+
+    /**
+     * Creates a {@code ResultDisplay} showing nothing.
+     */
     public ResultDisplay() {
         super(FXML);
+        resultRows.setCellFactory(listView -> new ResultRowCell());
+        resultRows.getSelectionModel().setSelectionMode(SelectionMode.MULTIPLE);
+        resultRows.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (COPY_KEY.match(event)) {
+                copySelectedRows();
+                event.consume();
+            }
+        });
+        showRows(false);
     }
 
     public void setFeedbackToUser(String feedbackToUser) {
         requireNonNull(feedbackToUser);
+        showRows(false);
         resultDisplay.setText(feedbackToUser);
     }
 
+    /**
+     * Shows {@code summary} followed by {@code rows}, one line each.
+     */
+    public void setFeedbackToUser(String summary, List<String> rows) {
+        requireAllNonNull(summary, rows);
+        if (rows.isEmpty()) {
+            setFeedbackToUser(summary);
+            return;
+        }
+
+        resultDisplay.clear();
+        // Wraps the rows without copying them, so that showing a result takes the same time however large it is
+        resultRows.setItems(FXCollections.observableList(new SummaryAndRows(List.of(summary.split("\n")), rows)));
+        resultRows.scrollTo(0);
+        showRows(true);
+    }
+
+    /**
+     * Clears the result display.
+     */
     public void clear() {
         resultDisplay.clear();
+        showRows(false);
+    }
+
+    private void showRows(boolean isShowingRows) {
+        if (!isShowingRows) {
+            resultRows.setItems(FXCollections.emptyObservableList());
+        }
+        resultRows.setVisible(isShowingRows);
+        resultDisplay.setVisible(!isShowingRows);
     }
 
+    private void copySelectedRows() {
+        List<String> selectedRows = resultRows.getSelectionModel().getSelectedItems();
+        if (selectedRows.isEmpty()) {
+            return;
+        }
+        final Clipboard clipboard = Clipboard.getSystemClipboard();
+        final ClipboardContent content = new ClipboardContent();
+        content.putString(String.join("\n", selectedRows));
+        clipboard.setContent(content);
+    }
+
+    /**
+     * The lines of a summary followed by the result rows, as one read-only list.
+     */
+    private static class SummaryAndRows extends AbstractList<String> implements RandomAccess {
+        private final List<String> summaryLines;
+        private final List<String> rows;
+
+        SummaryAndRows(List<String> summaryLines, List<String> rows) {
+            this.summaryLines = summaryLines;
+            this.rows = rows;
+        }
+
+        @Override
+        public String get(int index) {
+            return index < summaryLines.size() ? summaryLines.get(index) : rows.get(index - summaryLines.size());
+        }
+
+        @Override
+        public int size() {
+            return summaryLines.size() + rows.size();
+        }
+    }
+
+    /**
+     * A line of the result, wrapped to the width of the list.
+     */
+    private static class ResultRowCell extends ListCell<String> {
+        ResultRowCell() {
+            setWrapText(true);
+            // Lets the cell be narrower than its text, so that long rows wrap instead of scrolling sideways
+            setPrefWidth(0);
+        }
+
+        @Override
+        protected void updateItem(String row, boolean empty) {
+            super.updateItem(row, empty);
+            setText(empty || row == null ? null : row);
+        }
+    }
 }
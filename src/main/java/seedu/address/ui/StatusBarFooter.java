@@ -14,9 +14,19 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    public static final String MESSAGE_LOADING = "Loading contacts... (%1$d loaded)";
+    public static final String MESSAGE_BUSY = "Running command...";
+    public static final String MESSAGE_BUSY_WITH_QUEUE = "Running command... (%1$d more queued)";
+
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadingStatus;
+
+    @FXML
+    private Label busyStatus;
+
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
      */
@@ -25,4 +35,37 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows that the address book is still loading, with {@code loadedCount} contacts loaded so far.
+     */
+    public void showLoading(int loadedCount) {
+        loadingStatus.setText(String.format(MESSAGE_LOADING, loadedCount));
+        loadingStatus.setManaged(true);
+        loadingStatus.setVisible(true);
+    }
+
+    /**
+     * Hides the loading indicator.
+     */
+    public void hideLoading() {
+        loadingStatus.setVisible(false);
+        loadingStatus.setManaged(false);
+    }
+
+    /**
+     * Shows that a command is running, with {@code pendingCount} commands not finished yet, including that one.
+     * Hides the busy indicator if {@code pendingCount} is 0.
+     */
+    public void showBusy(int pendingCount) {
+        if (pendingCount == 0) {
+            busyStatus.setVisible(false);
+            busyStatus.setManaged(false);
+            return;
+        }
+
+        busyStatus.setText(pendingCount == 1 ? MESSAGE_BUSY : String.format(MESSAGE_BUSY_WITH_QUEUE, pendingCount - 1));
+        busyStatus.setManaged(true);
+        busyStatus.setVisible(true);
+    }
+
 }
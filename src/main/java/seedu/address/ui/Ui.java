@@ -10,4 +10,19 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows that the address book is still loading, with {@code loadedCount} persons loaded so far.
+     * Commands entered while loading are queued.
+     */
+    void showLoadingProgress(int loadedCount);
+
+    /** Shows that the address book has finished loading, and runs any queued commands. */
+    void showLoadingFinished();
+
+    /**
+     * Shows that the address book could not be loaded because of {@code e}, then shuts the application down.
+     * The queued commands are never run.
+     */
+    void showLoadingFailed(Throwable e);
+
 }
@@ -10,6 +10,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandRunner;
 import seedu.address.logic.Logic;
 
 /**
@@ -23,13 +24,15 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private CommandRunner commandRunner;
     private MainWindow mainWindow;
 
     /**
-     * Creates a {@code UiManager} with the given {@code Logic}.
+     * Creates a {@code UiManager} with the given {@code Logic}, which runs commands through {@code commandRunner}.
      */
-    public UiManager(Logic logic) {
+    public UiManager(Logic logic, CommandRunner commandRunner) {
         this.logic = logic;
+        this.commandRunner = commandRunner;
     }
 
     @Override
@@ -40,7 +43,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, commandRunner);
             mainWindow.show(); //This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
@@ -50,6 +53,25 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showLoadingProgress(int loadedCount) {
+        if (mainWindow != null) {
+            mainWindow.showLoadingProgress(loadedCount);
+        }
+    }
+
+    @Override
+    public void showLoadingFinished() {
+        if (mainWindow != null) {
+            mainWindow.showLoadingFinished();
+        }
+    }
+
+    @Override
+    public void showLoadingFailed(Throwable e) {
+        showFatalErrorDialogAndShutdown("Fatal error while loading the address book", e);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
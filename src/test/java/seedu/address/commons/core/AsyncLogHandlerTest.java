@@ -0,0 +1,135 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void flush_publishesWaitingRecordsInOrder() {
+        CollectingHandler delegate = new CollectingHandler(null, null);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(delegate), 100);
+
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(50, delegate.messages.size());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("message " + i, delegate.messages.get(i));
+        }
+        assertTrue(delegate.isFlushed);
+        handler.close();
+        assertTrue(delegate.isClosed);
+    }
+
+    @Test
+    public void flush_whileBackgroundThreadPublishes_recordsStayInOrder() throws Exception {
+        CollectingHandler delegate = new CollectingHandler(null, null);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(delegate), 20000);
+
+        Thread flusher = new Thread(() -> {
+            for (int i = 0; i < 2000; i++) {
+                handler.flush();
+            }
+        });
+        flusher.start();
+        for (int i = 0; i < 20000; i++) {
+            handler.publish(new LogRecord(Level.INFO, String.valueOf(i)));
+        }
+        flusher.join();
+        handler.close();
+
+        assertEquals(20000, delegate.messages.size());
+        for (int i = 0; i < 20000; i++) {
+            assertEquals(String.valueOf(i), delegate.messages.get(i));
+        }
+    }
+
+    @Test
+    public void publish_levelNotLoggable_recordIgnored() {
+        CollectingHandler delegate = new CollectingHandler(null, null);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(delegate), 100);
+        handler.setLevel(Level.INFO);
+
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.WARNING, "warning"));
+        handler.close();
+
+        assertEquals(List.of("warning"), delegate.messages);
+    }
+
+    @Test
+    public void publish_queueFull_dropsAndReportsRecords() throws Exception {
+        CountDownLatch isPublishing = new CountDownLatch(1);
+        CountDownLatch canFinish = new CountDownLatch(1);
+        CollectingHandler delegate = new CollectingHandler(isPublishing, canFinish);
+        AsyncLogHandler handler = new AsyncLogHandler(List.of(delegate), 1);
+
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        assertTrue(isPublishing.await(5, TimeUnit.SECONDS)); // the background thread is now busy with "first"
+
+        handler.publish(new LogRecord(Level.INFO, "second")); // waits in the queue
+        handler.publish(new LogRecord(Level.INFO, "third")); // queue is full
+        assertEquals(1, handler.getDroppedCount());
+
+        canFinish.countDown();
+        handler.close();
+
+        assertEquals("first", delegate.messages.get(0));
+        assertTrue(delegate.messages.contains("second"));
+        assertTrue(delegate.messages.contains("1 log record(s) were dropped because the log queue was full."));
+        assertEquals(3, delegate.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    /**
+     * A handler that keeps the messages it receives, optionally pausing on its first record.
+     */
+    private static class CollectingHandler extends Handler {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isPublishing;
+        private final CountDownLatch canFinish;
+        private boolean isFlushed;
+        private boolean isClosed;
+
+        CollectingHandler(CountDownLatch isPublishing, CountDownLatch canFinish) {
+            this.isPublishing = isPublishing;
+            this.canFinish = canFinish;
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            if (isPublishing != null && isPublishing.getCount() > 0) {
+                isPublishing.countDown();
+                try {
+                    canFinish.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
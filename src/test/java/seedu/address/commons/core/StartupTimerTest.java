@@ -0,0 +1,93 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StartupTimerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private long nowNanos = 0;
+
+    @Test
+    public void mark_phasesTimedFromPreviousMark() {
+        StartupTimer timer = new StartupTimer(List.of("config", "prefs"), () -> nowNanos, 300);
+
+        advanceMillis(12);
+        timer.mark("config");
+        advanceMillis(5);
+        timer.mark("prefs");
+
+        assertEquals(Map.of("launch", 300L, "config", 12L, "prefs", 5L), timer.getPhaseMillis());
+        assertEquals(List.of("launch", "config", "prefs"), List.copyOf(timer.getPhaseMillis().keySet()));
+        assertEquals(317, timer.getTotalMillis());
+        assertEquals("launch 300 ms, config 12 ms, prefs 5 ms (total 317 ms)", timer.getSummary());
+    }
+
+    @Test
+    public void mark_samePhaseTwice_timesAdded() {
+        StartupTimer timer = new StartupTimer(List.of("model", "ui"), () -> nowNanos, 0);
+
+        advanceMillis(4);
+        timer.mark("model");
+        advanceMillis(6);
+        timer.mark("ui");
+        advanceMillis(3);
+        timer.mark("model");
+
+        assertEquals(7, (long) timer.getPhaseMillis().get("model"));
+        assertEquals(6, (long) timer.getPhaseMillis().get("ui"));
+    }
+
+    @Test
+    public void appendTo_writesHeaderOnce() throws Exception {
+        Path csvFile = testFolder.resolve("startup").resolve("timings.csv");
+        StartupTimer timer = new StartupTimer(List.of("config"), () -> nowNanos, 100);
+        advanceMillis(20);
+        timer.mark("config");
+
+        timer.appendTo(csvFile);
+        timer.appendTo(csvFile);
+
+        assertEquals(List.of("launch,config,total", "100,20,120", "100,20,120"), Files.readAllLines(csvFile));
+    }
+
+    @Test
+    public void appendTo_phasesMarkedInDifferentOrders_sameColumns() throws Exception {
+        Path csvFile = testFolder.resolve("timings.csv");
+        List<String> phases = List.of("ui", "first frame", "address book");
+
+        StartupTimer firstRun = new StartupTimer(phases, () -> nowNanos, 100);
+        advanceMillis(10);
+        firstRun.mark("ui");
+        advanceMillis(30);
+        firstRun.mark("address book");
+        advanceMillis(5);
+        firstRun.mark("first frame");
+        firstRun.appendTo(csvFile);
+
+        // The first frame has not been drawn yet on this run, so its column is left blank
+        StartupTimer secondRun = new StartupTimer(phases, () -> nowNanos, 200);
+        advanceMillis(20);
+        secondRun.mark("ui");
+        advanceMillis(40);
+        secondRun.mark("address book");
+        secondRun.appendTo(csvFile);
+
+        assertEquals(List.of("launch,ui,first frame,address book,total", "100,10,5,30,145", "200,20,,40,260"),
+                Files.readAllLines(csvFile));
+    }
+
+    private void advanceMillis(long millis) {
+        nowNanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
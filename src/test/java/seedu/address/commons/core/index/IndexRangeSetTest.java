@@ -0,0 +1,115 @@
+package seedu.address.commons.core.index;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class IndexRangeSetTest {
+
+    @Test
+    public void build_unsortedOverlappingAndAdjacentRanges_merged() {
+        IndexRangeSet set = new IndexRangeSet.Builder()
+                .addRange(10, 12).add(3).addRange(1, 2).addRange(11, 15).add(20).build();
+
+        assertEquals(3, set.getRangeCount()); // 1-3, 10-15, 20
+        assertEquals(10, set.size());
+        assertEquals(List.of(1, 2, 3, 10, 11, 12, 13, 14, 15, 20), toOneBased(set));
+    }
+
+    @Test
+    public void builder_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new IndexRangeSet.Builder().add(0));
+        assertThrows(IllegalArgumentException.class, () -> new IndexRangeSet.Builder().addRange(5, 4));
+    }
+
+    @Test
+    public void ofRange_hugeRange_compact() {
+        IndexRangeSet set = IndexRangeSet.ofRange(1, Integer.MAX_VALUE);
+
+        assertEquals(Integer.MAX_VALUE, set.size());
+        assertEquals(1, set.getRangeCount());
+        assertEquals(Index.fromOneBased(Integer.MAX_VALUE), set.last());
+        assertTrue(set.contains(Index.fromOneBased(123456789)));
+    }
+
+    @Test
+    public void size_largeDisjointRanges_noOverflow() {
+        IndexRangeSet set = new IndexRangeSet.Builder()
+                .addRange(1, 2000000000).addRange(2000000002, Integer.MAX_VALUE).build();
+
+        assertEquals(2, set.getRangeCount());
+        assertEquals(Integer.MAX_VALUE - 1, set.size());
+        assertFalse(set.contains(Index.fromOneBased(2000000001)));
+    }
+
+    @Test
+    public void contains() {
+        IndexRangeSet set = new IndexRangeSet.Builder().addRange(2, 4).add(8).build();
+
+        assertFalse(set.contains(Index.fromOneBased(1)));
+        assertTrue(set.contains(Index.fromOneBased(2)));
+        assertTrue(set.contains(Index.fromOneBased(4)));
+        assertFalse(set.contains(Index.fromOneBased(5)));
+        assertTrue(set.contains(Index.fromOneBased(8)));
+        assertFalse(set.contains(Index.fromOneBased(9)));
+        assertFalse(set.contains("2"));
+    }
+
+    @Test
+    public void firstOutOfBounds() {
+        IndexRangeSet set = new IndexRangeSet.Builder().addRange(2, 4).addRange(8, 100).build();
+
+        assertNull(set.firstOutOfBounds(100));
+        assertEquals(Index.fromOneBased(8), set.firstOutOfBounds(5));
+        assertEquals(Index.fromOneBased(4), set.firstOutOfBounds(3));
+        assertEquals(Index.fromOneBased(2), set.firstOutOfBounds(0));
+    }
+
+    @Test
+    public void firstAndLast_emptySet_throwsNoSuchElementException() {
+        assertThrows(NoSuchElementException.class, () -> IndexRangeSet.empty().first());
+        assertThrows(NoSuchElementException.class, () -> IndexRangeSet.empty().last());
+        assertTrue(IndexRangeSet.empty().isEmpty());
+        assertFalse(IndexRangeSet.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void equals_sameIndexesAsOtherSet_equalWithSameHashCode() {
+        Set<Index> indexes = Set.of(Index.fromOneBased(1), Index.fromOneBased(2), Index.fromOneBased(5));
+        IndexRangeSet set = IndexRangeSet.of(indexes);
+
+        assertEquals(indexes, set);
+        assertEquals(set, indexes);
+        assertEquals(indexes.hashCode(), set.hashCode());
+        assertEquals(set, new IndexRangeSet.Builder().addRange(1, 2).add(5).build());
+        assertFalse(set.equals(IndexRangeSet.ofRange(1, 5)));
+    }
+
+    @Test
+    public void hashCode_largeRange_matchesElementSum() {
+        IndexRangeSet set = IndexRangeSet.ofRange(Integer.MAX_VALUE - 100000, Integer.MAX_VALUE);
+
+        int expected = 0;
+        for (Index index : set) {
+            expected += index.hashCode();
+        }
+        assertEquals(expected, set.hashCode());
+    }
+
+    private static List<Integer> toOneBased(IndexRangeSet set) {
+        List<Integer> oneBased = new ArrayList<>();
+        for (Index index : set) {
+            oneBased.add(index.getOneBased());
+        }
+        return oneBased;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -140,4 +141,30 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.getDetails(null));
     }
 
+    //---------------- Tests for character helpers --------------------------------------
+
+    @Test
+    public void isRegexWhitespace() {
+        for (char c = 0; c < 256; c++) {
+            assertEquals(String.valueOf(c).matches("\\s"), StringUtil.isRegexWhitespace(c));
+        }
+        assertFalse(StringUtil.isRegexWhitespace('\u00A0')); // no-break space is not matched by \s
+    }
+
+    @Test
+    public void isAsciiAlphanumeric() {
+        for (char c = 0; c < 256; c++) {
+            assertEquals(String.valueOf(c).matches("[a-zA-Z0-9]"), StringUtil.isAsciiAlphanumeric(c));
+        }
+        assertFalse(StringUtil.isAsciiAlphanumeric('\u00E9'));
+    }
+
+    @Test
+    public void collapseWhitespace() {
+        assertEquals("", StringUtil.collapseWhitespace(""));
+        assertEquals("a b c", StringUtil.collapseWhitespace("a  b\t\n c"));
+        assertEquals(" a ", StringUtil.collapseWhitespace("\t\ta\r\n"));
+        assertThrows(NullPointerException.class, () -> StringUtil.collapseWhitespace(null));
+    }
+
 }
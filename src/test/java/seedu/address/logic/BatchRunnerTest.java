@@ -0,0 +1,169 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.HeadlessPopupHandler;
+
+public class BatchRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private Model model;
+    private StorageManager storage;
+    private int saveCount;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createRunner(-1));
+    }
+
+    @Test
+    public void run_validScript_savesOnceAtEnd() throws Exception {
+        int failedCount = run(0, "# set up the class", "", PersonUtil.getAddCommand(ALICE),
+                "   " + PersonUtil.getAddCommand(BENSON), "list");
+
+        assertEquals(0, failedCount);
+        assertEquals(1, saveCount);
+        assertEquals(List.of(ALICE, BENSON), model.getAddressBook().getPersonList());
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains("Ran 3 command(s)"));
+    }
+
+    @Test
+    public void run_failedCommand_reportedAndScriptContinues() throws Exception {
+        int failedCount = run(0, PersonUtil.getAddCommand(ALICE), "unknowncommand",
+                PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON));
+
+        assertEquals(2, failedCount);
+        assertEquals(List.of(ALICE, BENSON), model.getAddressBook().getPersonList());
+        assertTrue(output.toString(StandardCharsets.UTF_8).contains(MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void run_commandThrowsRuntimeException_reportedAndScriptContinues() throws Exception {
+        HeadlessPopupHandler popupHandler = new HeadlessPopupHandler();
+        AddressBookParser parser = new AddressBookParser(popupHandler, popupHandler) {
+            @Override
+            public Command parseCommand(String userInput) throws ParseException {
+                if (!userInput.equals("crash")) {
+                    return super.parseCommand(userInput);
+                }
+                return new Command() {
+                    @Override
+                    public CommandResult execute(Model model) {
+                        throw new IllegalStateException("broken command");
+                    }
+                };
+            }
+        };
+        BatchRunner runner = new BatchRunner(model, storage, parser, 0,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+
+        int failedCount = runner.run(new BufferedReader(new StringReader(String.join("\n",
+                PersonUtil.getAddCommand(ALICE), "crash", PersonUtil.getAddCommand(BENSON)))));
+
+        assertEquals(1, failedCount);
+        assertEquals(List.of(ALICE, BENSON), storage.readAddressBook().get().getPersonList());
+        String printed = output.toString(StandardCharsets.UTF_8);
+        String crashLine = printed.lines().filter(line -> line.endsWith("crash")).findFirst().orElseThrow();
+        assertTrue(crashLine.trim().startsWith("2  FAIL"));
+        assertTrue(printed.contains(String.format(BatchRunner.MESSAGE_UNEXPECTED_ERROR,
+                new IllegalStateException("broken command"))));
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryNCommands() throws Exception {
+        run(2, PersonUtil.getAddCommand(ALICE), PersonUtil.getAddCommand(BENSON), PersonUtil.getAddCommand(CARL));
+
+        // After the second command, then for the remaining command at the end
+        assertEquals(2, saveCount);
+        assertEquals(3, storage.readAddressBook().get().getPersonList().size());
+    }
+
+    @Test
+    public void run_onlyFailedCommands_notSaved() throws Exception {
+        run(0, "unknowncommand", "delete 1");
+
+        assertEquals(0, saveCount);
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void run_exitCommand_stopsScript() throws Exception {
+        int failedCount = run(0, PersonUtil.getAddCommand(ALICE), "exit", PersonUtil.getAddCommand(BENSON));
+
+        assertEquals(0, failedCount);
+        assertEquals(List.of(ALICE), model.getAddressBook().getPersonList());
+        assertEquals(1, saveCount);
+    }
+
+    @Test
+    public void run_clearCommand_confirmedWithoutPopup() throws Exception {
+        model.setAddressBook(new AddressBook());
+        model.addPerson(ALICE);
+
+        int failedCount = run(0, "clear");
+
+        assertEquals(0, failedCount);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    private BatchRunner createRunner(int saveInterval) {
+        HeadlessPopupHandler popupHandler = new HeadlessPopupHandler();
+        return new BatchRunner(model, storage, new AddressBookParser(popupHandler, popupHandler), saveInterval,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private int run(int saveInterval, String... lines) throws IOException {
+        return createRunner(saveInterval).run(new BufferedReader(new StringReader(String.join("\n", lines))));
+    }
+}
@@ -0,0 +1,228 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+import seedu.address.model.person.Person;
+
+public class CommandRunnerTest {
+
+    private static final String BLOCKING_COMMAND = "block";
+    private static final String FAILING_COMMAND = "fail";
+    private static final String UNKNOWN_COMMAND = "unknown";
+
+    private final LogicStub logic = new LogicStub();
+    private final List<String> callbackThreads = new CopyOnWriteArrayList<>();
+    private final CommandRunner runner = new CommandRunner(logic, runnable -> {
+        callbackThreads.add(Thread.currentThread().getName());
+        runnable.run();
+    });
+
+    @AfterEach
+    public void tearDown() {
+        logic.canFinish.countDown();
+        runner.close();
+        runner.awaitTermination();
+    }
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new CommandRunner(null, Runnable::run));
+        assertThrows(NullPointerException.class, () -> new CommandRunner(logic, null));
+    }
+
+    @Test
+    public void submit_manyCommands_runInOrderOnOneBackgroundThread() throws Exception {
+        List<CompletableFuture<CommandResult>> futures = new ArrayList<>();
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            commands.add("command " + i);
+            futures.add(runner.submit("command " + i));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertEquals(new CommandResult(commands.get(i)), futures.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(commands, logic.executed);
+        assertEquals(1, logic.threads.stream().distinct().count());
+        assertNotEquals(Thread.currentThread().getName(), logic.threads.get(0));
+        assertEquals(50, callbackThreads.size());
+        assertEquals(0, runner.getPendingCount());
+    }
+
+    @Test
+    public void submit_failingCommands_completedExceptionally() throws Exception {
+        assertTrue(getFailure(runner.submit(FAILING_COMMAND)) instanceof CommandException);
+        assertTrue(getFailure(runner.submit(UNKNOWN_COMMAND)) instanceof ParseException);
+    }
+
+    @Test
+    public void read_afterCommands_runsOnCommandThreadAfterThem() throws Exception {
+        runner.submit("first");
+        runner.submit("second");
+        CompletableFuture<List<String>> read = runner.read(readLogic -> {
+            List<String> seen = new ArrayList<>(logic.executed);
+            seen.add(Thread.currentThread().getName());
+            return seen;
+        });
+
+        List<String> seen = read.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("first", "second", logic.threads.get(0)), seen);
+        assertEquals(3, callbackThreads.size());
+        assertEquals(0, runner.getPendingCount());
+    }
+
+    @Test
+    public void read_failingQuery_completedExceptionally() throws Exception {
+        CompletableFuture<Object> read = runner.read(readLogic -> {
+            throw new IllegalStateException();
+        });
+        try {
+            read.get(5, TimeUnit.SECONDS);
+            throw new AssertionError("The read should have failed.");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void getPendingCount_commandsWaiting_countsRunningAndWaiting() throws Exception {
+        CompletableFuture<CommandResult> blocking = runner.submit(BLOCKING_COMMAND);
+        CompletableFuture<CommandResult> waiting = runner.submit("after");
+        assertTrue(logic.isRunning.await(5, TimeUnit.SECONDS));
+
+        assertEquals(2, runner.getPendingCount());
+        assertFalse(waiting.isDone());
+
+        logic.canFinish.countDown();
+        waiting.get(5, TimeUnit.SECONDS);
+        assertTrue(blocking.isDone());
+        assertEquals(0, runner.getPendingCount());
+    }
+
+    @Test
+    public void close_commandsWaiting_runningCommandFinishesAndWaitingCommandsCancelled() throws Exception {
+        CompletableFuture<CommandResult> blocking = runner.submit(BLOCKING_COMMAND);
+        CompletableFuture<CommandResult> waiting = runner.submit("after");
+        assertTrue(logic.isRunning.await(5, TimeUnit.SECONDS));
+
+        // Closing does not wait for the running command
+        runner.close();
+        assertFalse(blocking.isDone());
+
+        logic.canFinish.countDown();
+        runner.awaitTermination();
+
+        assertEquals(new CommandResult(BLOCKING_COMMAND), blocking.get());
+        assertTrue(waiting.isCompletedExceptionally());
+        assertEquals(List.of(BLOCKING_COMMAND), logic.executed);
+        assertTrue(runner.submit("later").isCompletedExceptionally());
+    }
+
+    private static Throwable getFailure(CompletableFuture<CommandResult> future) throws Exception {
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+        throw new AssertionError("The command should have failed.");
+    }
+
+    /**
+     * A Logic stub that echoes each command back, keeping the commands and the threads they ran on.
+     */
+    private static class LogicStub implements Logic {
+        private final List<String> executed = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isRunning = new CountDownLatch(1);
+        private final CountDownLatch canFinish = new CountDownLatch(1);
+
+        @Override
+        public CommandResult execute(String commandText) throws CommandException, ParseException {
+            executed.add(commandText);
+            threads.add(Thread.currentThread().getName());
+            if (commandText.equals(BLOCKING_COMMAND)) {
+                isRunning.countDown();
+                try {
+                    canFinish.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else if (commandText.equals(FAILING_COMMAND)) {
+                throw new CommandException(FAILING_COMMAND);
+            } else if (commandText.equals(UNKNOWN_COMMAND)) {
+                throw new ParseException(UNKNOWN_COMMAND);
+            }
+            return new CommandResult(commandText);
+        }
+
+        @Override
+        public ReadOnlyAddressBook getAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFilteredPersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFavouritePersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<MonthBlock> getClassMonthAttendance(List<Class> studentClasses, YearMonth month) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Path getAddressBookFilePath() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public GuiSettings getGuiSettings() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void setGuiSettings(GuiSettings guiSettings) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandResult getStartupReminders() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public CommandResult getAttendanceAlerts() {
+            throw new AssertionError("This method should not be called.");
+        }
+    }
+}
@@ -1,21 +1,25 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import seedu.address.logic.commands.AlertsCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RemindCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -83,6 +87,11 @@ public class LogicManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
     }
 
+    @Test
+    public void getFavouritePersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> logic.getFavouritePersonList().remove(0));
+    }
+
     /**
      * Executes the command and confirms that
      * - no exceptions are thrown <br>
@@ -169,15 +178,21 @@ public class LogicManagerTest {
     }
 
     @Test
-    public void getBirthdayReminders_success() {
-        String reminders = logic.getBirthdayReminders();
-        assertNotNull(reminders);
+    public void getStartupReminders_calledTwice_sameResultAndNothingSaved() {
+        CommandResult reminders = logic.getStartupReminders();
+        assertEquals(new CommandResult(RemindCommand.MESSAGE_NO_PERSONS), reminders);
+
+        // Computed once, even if the address book changes afterwards
+        model.addPerson(new PersonBuilder().build());
+        assertSame(reminders, logic.getStartupReminders());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
     }
 
     @Test
-    public void getBirthdayReminders_verifyRemindCommandIsCalled() {
-        String reminders = logic.getBirthdayReminders();
+    public void getAttendanceAlerts_noStudents_noAlertRows() {
+        CommandResult alerts = logic.getAttendanceAlerts();
 
-        assertNotNull(reminders);
+        assertEquals(new CommandResult(AlertsCommand.MESSAGE_NO_ALERTS), alerts);
+        assertFalse(alerts.hasResultRows());
     }
 }
@@ -8,22 +8,27 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.AttendanceAlert;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -315,6 +320,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -371,7 +381,42 @@ public class AddCommandTest {
         }
 
         @Override
-        public ArrayList<Index> retrieveInitialFavList() {
+        public void setFavourite(Person person, boolean isFavourite) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void toggleFavourites(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isFavourite(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ObservableList<Person> getFavouritePersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showFavouritePersonList() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public MonthBlock getClassMonthAttendance(Class studentClass, YearMonth month) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Person> getBirthdaysOn(LocalDate date) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<AttendanceAlert> getAttendanceAlerts() {
             throw new AssertionError("This method should not be called.");
         }
     }
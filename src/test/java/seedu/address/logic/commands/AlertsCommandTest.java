@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AlertsCommandTest {
+
+    @Test
+    public void execute_noRecords_showsNoAlertsMessage() {
+        Model model = new ModelManager();
+        model.addPerson(new PersonBuilder().withTags("student").build());
+
+        CommandResult result = new AlertsCommand().execute(model);
+
+        assertEquals(AlertsCommand.MESSAGE_NO_ALERTS, result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_absenceStreak_showsAlert() {
+        Model model = new ModelManager();
+        Person student = new PersonBuilder().withName("Alice Tan").withClass("K1A").withTags("student").build();
+        for (int i = 0; i < 5; i++) {
+            student.getAttendance().markAttendance(LocalDate.of(2024, 3, 1).plusDays(i), AttendanceStatus.ABSENT);
+        }
+        model.addPerson(student);
+
+        String feedback = new AlertsCommand().execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(AlertsCommand.MESSAGE_ALERTS_HEADER, 1)));
+        assertTrue(feedback.contains("Alice Tan (K1A): 5 consecutive absences"));
+        assertTrue(feedback.endsWith(AlertsCommand.MESSAGE_ALERTS_LEGEND));
+    }
+}
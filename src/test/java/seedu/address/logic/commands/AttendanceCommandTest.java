@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
@@ -19,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.commands.exceptions.NoAttendanceRecordException;
@@ -104,6 +106,30 @@ public class AttendanceCommandTest {
         assertTrue(result.getFeedbackToUser().contains("01-01-2024"));
     }
 
+    @Test
+    public void execute_multipleStudents_rowPerContact() throws Exception {
+        Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
+        Person colleague = new PersonBuilder().withName("ColOne").withTags("colleague").build();
+        model.addPerson(student1);
+        model.addPerson(colleague);
+
+        AttendanceCommand command = new AttendanceCommand(Set.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON),
+                LocalDate.of(2024, 1, 1), AttendanceStatus.PRESENT);
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(AttendanceCommand.MESSAGE_SUCCESS, 1, 2, AttendanceStatus.PRESENT, "01-01-2024"),
+                result.getSummary());
+        assertEquals(List.of("", AttendanceCommand.MESSAGE_STUDENTS_MODIFIED, "1. StuOne",
+                "", AttendanceCommand.MESSAGE_CONTACTS_NOT_MODIFIED, "2. ColOne [Not a student]"),
+                result.getResultRows());
+
+        // Executing the same command again starts from fresh rows
+        CommandResult secondResult = command.execute(model);
+        assertEquals(List.of("", AttendanceCommand.MESSAGE_CONTACTS_NOT_MODIFIED,
+                "1. StuOne [Status unchanged - same as previous record]", "2. ColOne [Not a student]"),
+                secondResult.getResultRows());
+    }
+
     @Test
     public void execute_tomorrowDate_failure() throws Exception {
         Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
@@ -355,6 +381,19 @@ public class AttendanceCommandTest {
         assertThrows(CommandException.class, () -> command.execute(model));
     }
 
+    @Test
+    public void execute_hugeRangeBeyondList_throwsBeforeMarking() {
+        Person student1 = new PersonBuilder().withName("StuOne").withTags("student").withBirthday("01-01-2024").build();
+        model.addPerson(student1);
+
+        AttendanceCommand command = new AttendanceCommand(IndexRangeSet.ofRange(1, Integer.MAX_VALUE),
+                LocalDate.now(), AttendanceStatus.PRESENT);
+
+        assertThrows(CommandException.class, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX + ": 2", () ->
+                command.execute(model));
+        assertTrue(student1.getAttendance().isEmpty());
+    }
+
     @Test
     public void execute_nullModel_throwsNullPointerException() {
         Set<Index> indexes = Set.of(INDEX_FIRST_PERSON);
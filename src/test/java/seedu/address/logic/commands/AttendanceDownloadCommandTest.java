@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -12,12 +13,14 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.AttendanceDownloadCommand.ReportFormat;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -372,4 +375,83 @@ public class AttendanceDownloadCommandTest {
         assertTrue(result.contains("userProvideDate"));
         assertTrue(result.contains("userProvideMonth"));
     }
+
+    @Test
+    void execute_classMonthlyReportBundle_savesOneZip() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"), new Class("K2B"));
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.ZIP);
+
+        model.addPerson(new PersonBuilder().withName("Amy").withTags("student").withClass("K1A").build());
+        model.addPerson(new PersonBuilder().withName("Ben").withTags("student").withClass("K2B").build());
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        List<Path> savedFiles;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            savedFiles = files.toList();
+        }
+        assertEquals(1, savedFiles.size());
+        assertTrue(savedFiles.get(0).getFileName().toString().endsWith(".zip"));
+        assertTrue(feedback.endsWith(savedFiles.get(0).toAbsolutePath().toString()));
+    }
+
+    @Test
+    void execute_classMonthlyReportBundleNoStudent_noZipSaved() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"));
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.ZIP);
+
+        model.addPerson(new PersonBuilder().withTags("student").withClass("K1B").build());
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void execute_classMonthlyReportXlsx_savesOneWorkbook() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"), new Class("K2B"));
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.XLSX);
+
+        model.addPerson(new PersonBuilder().withName("Amy").withTags("student").withClass("K1A").build());
+        model.addPerson(new PersonBuilder().withName("Ben").withTags("student").withClass("K2B").build());
+
+        String feedback = command.execute(model).getFeedbackToUser();
+
+        List<Path> savedFiles;
+        try (Stream<Path> files = Files.list(tempDir)) {
+            savedFiles = files.toList();
+        }
+        assertEquals(1, savedFiles.size());
+        assertEquals("class_attendance_01-2025.xlsx", savedFiles.get(0).getFileName().toString());
+        assertTrue(feedback.endsWith(savedFiles.get(0).toAbsolutePath().toString()));
+    }
+
+    @Test
+    void execute_classMonthlyReportXlsxNoStudent_noWorkbookSaved() throws Exception {
+        List<Class> classes = List.of(new Class("K1A"));
+        AttendanceDownloadCommand command = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.XLSX);
+
+        model.addPerson(new PersonBuilder().withTags("student").withClass("K1B").build());
+
+        assertThrows(CommandException.class, () -> command.execute(model));
+        try (Stream<Path> files = Files.list(tempDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void equals_differentFormat_returnsFalse() {
+        List<Class> classes = List.of(new Class("K1A"));
+        AttendanceDownloadCommand zipCommand = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.ZIP);
+        AttendanceDownloadCommand xlsxCommand = new AttendanceDownloadCommand(
+                null, classes, LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.XLSX);
+
+        assertFalse(zipCommand.equals(xlsxCommand));
+    }
 }
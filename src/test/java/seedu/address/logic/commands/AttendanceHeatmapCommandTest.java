@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Class;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+
+public class AttendanceHeatmapCommandTest {
+
+    private static final YearMonth MONTH = YearMonth.of(2025, 3);
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_classesWithStudents_showsOneBlockPerClass() throws Exception {
+        AttendanceHeatmapCommand command = new AttendanceHeatmapCommand(
+                List.of(new Class("K1A"), new Class("K1B")), MONTH);
+
+        CommandResult result = command.execute(model);
+
+        assertEquals(String.format(AttendanceHeatmapCommand.MESSAGE_SUCCESS, 2, "K1A, K1B", "03-2025"),
+                result.getFeedbackToUser());
+        assertTrue(result.isShowClassAttendance());
+        List<MonthBlock> blocks = result.getClassAttendanceToShow();
+        assertEquals(2, blocks.size());
+        assertEquals(ALICE, blocks.get(0).getStudent(0));
+        assertEquals(BENSON, blocks.get(1).getStudent(0));
+        assertEquals(MONTH, blocks.get(0).getMonth());
+    }
+
+    @Test
+    public void execute_duplicateClass_shownOnce() throws Exception {
+        AttendanceHeatmapCommand command = new AttendanceHeatmapCommand(
+                List.of(new Class("K1A"), new Class("K1A")), MONTH);
+
+        assertEquals(1, command.execute(model).getClassAttendanceToShow().size());
+    }
+
+    @Test
+    public void execute_classWithoutStudents_throwsCommandException() {
+        // The only person in K1C is a colleague
+        AttendanceHeatmapCommand command = new AttendanceHeatmapCommand(List.of(new Class("K1C")), MONTH);
+
+        assertCommandFailure(command, model, String.format(AttendanceHeatmapCommand.MESSAGE_NO_STUDENTS, "K1C"));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceHeatmapCommand command = new AttendanceHeatmapCommand(List.of(new Class("K1A")), MONTH);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new AttendanceHeatmapCommand(List.of(new Class("K1A")), MONTH)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(new AttendanceHeatmapCommand(List.of(new Class("K1B")), MONTH)));
+        assertFalse(command.equals(new AttendanceHeatmapCommand(List.of(new Class("K1A")), MONTH.plusMonths(1))));
+    }
+}
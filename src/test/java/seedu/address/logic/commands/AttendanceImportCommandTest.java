@@ -0,0 +1,146 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.commands.util.AttendanceCsvUtil;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceImportCommandTest {
+
+    private static final String HEADER = "Name,Class,01-03-2024,02-03-2024,03-03-2024";
+
+    @TempDir
+    Path tempDir;
+
+    private Model model;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        model = new ModelManager();
+        alice = new PersonBuilder().withName("Alice Tan").withPhone("91234567").withClass("K1A")
+                .withBirthday("01-01-2020").withTags("student").build();
+        bob = new PersonBuilder().withName("Bob Lim").withPhone("92345678").withClass("K1A")
+                .withBirthday("01-01-2020").withTags("student").build();
+        model.addPerson(alice);
+        model.addPerson(bob);
+    }
+
+    @Test
+    public void constructor_nullPath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttendanceImportCommand(null));
+    }
+
+    @Test
+    public void execute_validFile_allRecordsImported() throws Exception {
+        Path file = writeCsv(HEADER,
+                "Alice Tan,K1A,PRESENT,,late",
+                "bob lim,k1a,ABSENT,SICK,");
+
+        CommandResult result = new AttendanceImportCommand(file).execute(model);
+
+        assertEquals(String.format(AttendanceImportCommand.MESSAGE_SUCCESS, 4, 2, file),
+                result.getFeedbackToUser());
+        assertEquals(AttendanceStatus.PRESENT, alice.getAttendance().getStatus(LocalDate.of(2024, 3, 1)));
+        assertNull(alice.getAttendance().getStatus(LocalDate.of(2024, 3, 2)));
+        assertEquals(AttendanceStatus.LATE, alice.getAttendance().getStatus(LocalDate.of(2024, 3, 3)));
+        assertEquals(AttendanceStatus.SICK, bob.getAttendance().getStatus(LocalDate.of(2024, 3, 2)));
+    }
+
+    @Test
+    public void execute_invalidRows_validCellsImportedAndErrorsReported() throws Exception {
+        Path file = writeCsv("Name,Class,01-03-2024,01-03-2019",
+                "Alice Tan,K1A,PRESENT,PRESENT",
+                "Bob Lim,K1A,HERE,",
+                "Carl Kurz,K1A,PRESENT,",
+                "Alice Tan,K1A,PRESENT");
+
+        String feedback = new AttendanceImportCommand(file).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(AttendanceImportCommand.MESSAGE_SUCCESS, 1, 1, file)));
+        assertTrue(feedback.contains("Row 2 (Alice Tan): 01-03-2019 [Date not within six years"));
+        assertTrue(feedback.contains("Row 3 (Bob Lim): 01-03-2024 [Unknown status: HERE]"));
+        assertTrue(feedback.contains("Row 4 (Carl Kurz): No student with this name in class K1A"));
+        assertTrue(feedback.contains("Row 5 (Alice Tan): Expected 4 columns but found 3"));
+        assertEquals(AttendanceStatus.PRESENT, alice.getAttendance().getStatus(LocalDate.of(2024, 3, 1)));
+        assertTrue(bob.getAttendance().isEmpty());
+    }
+
+    @Test
+    public void execute_generatedReport_roundTrips() throws Exception {
+        alice.markAttendance(LocalDate.of(2024, 3, 5), AttendanceStatus.LATE);
+        String report = AttendanceCsvUtil.generateClassMonthlyAttendanceReport(model,
+                alice.getStudentClass(), YearMonth.of(2024, 3));
+        alice.unmarkAttendance(LocalDate.of(2024, 3, 5));
+
+        Path file = tempDir.resolve("report.csv");
+        Files.writeString(file, report);
+        new AttendanceImportCommand(file).execute(model);
+
+        assertEquals(AttendanceStatus.LATE, alice.getAttendance().getStatus(LocalDate.of(2024, 3, 5)));
+    }
+
+    @Test
+    public void execute_invalidHeader_throwsCommandException() throws Exception {
+        Path file = writeCsv("Name,Class,2024-03-01", "Alice Tan,K1A,PRESENT");
+
+        assertThrows(CommandException.class, () -> new AttendanceImportCommand(file).execute(model));
+        assertTrue(alice.getAttendance().isEmpty());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path file = tempDir.resolve("missing.csv");
+
+        assertThrows(CommandException.class, String.format(AttendanceImportCommand.MESSAGE_FILE_NOT_FOUND, file), ()
+                -> new AttendanceImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        Path file = writeCsv();
+
+        assertThrows(CommandException.class, String.format(AttendanceImportCommand.MESSAGE_EMPTY_FILE, file), ()
+                -> new AttendanceImportCommand(file).execute(model));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceImportCommand importFirst = new AttendanceImportCommand(Path.of("first.csv"));
+        AttendanceImportCommand importSecond = new AttendanceImportCommand(Path.of("second.csv"));
+
+        assertTrue(importFirst.equals(importFirst));
+        assertTrue(importFirst.equals(new AttendanceImportCommand(Path.of("first.csv"))));
+        assertFalse(importFirst.equals(1));
+        assertFalse(importFirst.equals(null));
+        assertFalse(importFirst.equals(importSecond));
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = tempDir.resolve("attendance.csv");
+        Files.write(file, List.of(lines), StandardCharsets.UTF_8);
+        return file;
+    }
+}
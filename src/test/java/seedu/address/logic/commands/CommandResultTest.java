@@ -5,6 +5,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.Person;
@@ -48,6 +50,17 @@ public class CommandResultTest {
         assertEquals(person, result.getPersonToView());
     }
 
+    @Test
+    public void withRows_setsSummaryAndRows() {
+        CommandResult result = CommandResult.withRows("summary", List.of("", "first", "second"));
+
+        assertEquals("summary", result.getSummary());
+        assertEquals(List.of("", "first", "second"), result.getResultRows());
+        assertTrue(result.hasResultRows());
+        assertEquals("summary\n\nfirst\nsecond", result.getFeedbackToUser());
+        assertFalse(new CommandResult("summary").hasResultRows());
+    }
+
     @Test
     public void equals() {
         CommandResult commandResult = new CommandResult("feedback");
@@ -76,6 +89,11 @@ public class CommandResultTest {
 
         // different exit value -> returns false
         assertFalse(commandResult.equals(new CommandResult("feedback", false, false, true, null)));
+
+        // different result rows -> returns false
+        assertFalse(commandResult.equals(CommandResult.withRows("feedback", List.of("row"))));
+        assertTrue(CommandResult.withRows("feedback", List.of("row"))
+                .equals(CommandResult.withRows("feedback", List.of("row"))));
     }
 
     @Test
@@ -98,10 +116,11 @@ public class CommandResultTest {
     @Test
     public void toStringMethod() {
         CommandResult commandResult = new CommandResult("feedback");
-        String expected = CommandResult.class.getCanonicalName() + "{feedbackToUser="
-                + commandResult.getFeedbackToUser() + ", showHelp=" + commandResult.isShowHelp()
+        String expected = CommandResult.class.getCanonicalName() + "{summary=" + commandResult.getSummary()
+                + ", resultRows=" + commandResult.getResultRows() + ", showHelp=" + commandResult.isShowHelp()
                 + ", showView=" + commandResult.isShowView() + ", exit=" + commandResult.isExit()
-                + ", personToView=" + commandResult.getPersonToView() + "}";
+                + ", personToView=" + commandResult.getPersonToView()
+                + ", classAttendanceToShow=" + commandResult.getClassAttendanceToShow() + "}";
         assertEquals(expected, commandResult.toString());
     }
 }
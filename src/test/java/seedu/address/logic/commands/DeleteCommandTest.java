@@ -209,6 +209,14 @@ public class DeleteCommandTest {
         });
     }
 
+    @Test
+    public void execute_noMatchingName_throwsCommandException() {
+        DeleteCommand deleteCommand = new DeleteCommand(INVALID_NAME, new TestInfoInfoPopupHandler(),
+                new TestDeletePopupHandler());
+
+        assertCommandFailure(deleteCommand, model, Messages.MESSAGE_NO_MATCHES_FOUND);
+    }
+
     /**
      * Updates {@code model}'s filtered list to show no one.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
@@ -168,4 +169,17 @@ public class FavouriteCommandTest {
 
         assertCommandSuccess(favouriteCommand, model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_toggledTwice_favouritesFollow() throws CommandException {
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person secondPerson = model.getFilteredPersonList().get(INDEX_SECOND_PERSON.getZeroBased());
+
+        new FavouriteCommand(List.of(INDEX_SECOND_PERSON, INDEX_FIRST_PERSON)).execute(model);
+        assertEquals(List.of(firstPerson, secondPerson), model.getFavouritePersonList());
+
+        new FavouriteCommand(List.of(INDEX_FIRST_PERSON)).execute(model);
+        assertEquals(List.of(secondPerson), model.getFavouritePersonList());
+        assertFalse(firstPerson.getIsFavBoolean());
+    }
 }
@@ -1,13 +1,21 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
 import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
@@ -46,4 +54,56 @@ public class ListCommandTest {
 
         assertCommandSuccess(new ListCommand(), model, ListCommand.MESSAGE_SUCCESS, expectedModel);
     }
+
+    @Test
+    public void execute_favouritesOnly_showsOnlyFavourites() {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        Person thirdPerson = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        Person editedPerson = new PersonBuilder(thirdPerson).withFavourite(true).build();
+        model.setPerson(thirdPerson, editedPerson);
+        expectedModel.setPerson(thirdPerson, editedPerson);
+        expectedModel.updateFilteredPersonList(person -> person == editedPerson);
+
+        assertCommandSuccess(new ListCommand(true), model, ListCommand.MESSAGE_SUCCESS_FAVOURITES, expectedModel);
+        assertEquals(List.of(editedPerson), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_favouritesOnlyThenFavourite_removedFromList() throws Exception {
+        // Favourites are marked on the persons themselves, so the shared typical persons are copied
+        // with favourites of their own
+        AddressBook addressBook = new AddressBook();
+        getTypicalPersons().forEach(person ->
+                addressBook.addPerson(new PersonBuilder(person).withFavourite(false).build()));
+        model = new ModelManager(addressBook, new UserPrefs());
+        Person firstPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
+        Person thirdPerson = model.getFilteredPersonList().get(INDEX_THIRD_PERSON.getZeroBased());
+        model.setFavourite(firstPerson, true);
+        model.setFavourite(thirdPerson, true);
+
+        new ListCommand(true).execute(model);
+        assertEquals(List.of(firstPerson, thirdPerson), model.getFilteredPersonList());
+
+        // Unfavouriting a person in the favourites-only list takes them out of it
+        new FavouriteCommand(List.of(INDEX_SECOND_PERSON)).execute(model);
+        assertEquals(List.of(firstPerson), model.getFilteredPersonList());
+
+        // Listing everyone again shows the unfavourited person too
+        new ListCommand().execute(model);
+        assertEquals(getTypicalPersons().size(), model.getFilteredPersonList().size());
+        assertTrue(model.getFilteredPersonList().contains(thirdPerson));
+    }
+
+    @Test
+    public void equals() {
+        ListCommand listAll = new ListCommand();
+
+        assertTrue(listAll.equals(listAll));
+        assertTrue(listAll.equals(new ListCommand(false)));
+        assertFalse(listAll.equals(new ListCommand(true)));
+        assertFalse(listAll.equals(null));
+        assertFalse(listAll.equals(1));
+    }
 }
@@ -20,6 +20,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Birthday;
 import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class RemindCommandTest {
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
@@ -490,6 +491,39 @@ public class RemindCommandTest {
         assertTrue(result.getFeedbackToUser().contains("No birthdays today"));
     }
 
+    @Test
+    public void execute_longerWindow_showsBirthdaysInWindowSoonestFirst() {
+        // Birthdays in 20 and 10 days, added in that order
+        LocalDate today = LocalDate.now();
+        Person inTwentyDays = new PersonBuilder().withName("Twenty")
+                .withBirthday(today.plusDays(20).minusYears(1).format(DATE_FORMATTER)).build();
+        Person inTenDays = new PersonBuilder().withName("Ten")
+                .withBirthday(today.plusDays(10).minusYears(1).format(DATE_FORMATTER)).build();
+        Model testModel = new ModelManager();
+        testModel.addPerson(inTwentyDays);
+        testModel.addPerson(inTenDays);
+
+        assertEquals(RemindCommand.MESSAGE_NO_UPCOMING_BIRTHDAYS,
+                new RemindCommand().execute(testModel).getFeedbackToUser());
+
+        List<String> rows = new RemindCommand(30).execute(testModel).getResultRows();
+        assertTrue(rows.contains("Upcoming birthdays in the next 30 days:"));
+        int tenIndex = rows.indexOf(rows.stream().filter(row -> row.contains("Ten")).findFirst().get());
+        int twentyIndex = rows.indexOf(rows.stream().filter(row -> row.contains("Twenty")).findFirst().get());
+        assertTrue(tenIndex < twentyIndex);
+        assertTrue(rows.get(tenIndex).endsWith("(in 10 days)"));
+    }
+
+    @Test
+    public void execute_wholeYear_eachBirthdayOnce() {
+        Model testModel = new ModelManager();
+        testModel.addPerson(new PersonBuilder().withBirthday("01-01-2000").build());
+
+        List<String> rows = new RemindCommand(RemindCommand.MAX_UPCOMING_DAYS).execute(testModel).getResultRows();
+        assertEquals(1, rows.stream().filter(row -> row.startsWith("1) ")).count());
+        assertFalse(rows.stream().anyMatch(row -> row.startsWith("2) ")));
+    }
+
     // The rest of your test methods (calculateDaysUntilBirthday tests and equals) remain the same
     // since they don't create Birthday objects with future dates
 
@@ -634,5 +668,11 @@ public class RemindCommandTest {
 
         // null -> returns false
         assertFalse(remindCommand.equals(null));
+
+        // same number of days -> returns true
+        assertTrue(remindCommand.equals(new RemindCommand(RemindCommand.DEFAULT_UPCOMING_DAYS)));
+
+        // different number of days -> returns false
+        assertFalse(remindCommand.equals(new RemindCommand(30)));
     }
 }
@@ -8,6 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_FIELD;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Arrays;
@@ -22,9 +23,12 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AlertsCommand;
 import seedu.address.logic.commands.AttendanceCommand;
 import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
+import seedu.address.logic.commands.AttendanceHeatmapCommand;
+import seedu.address.logic.commands.AttendanceImportCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -42,6 +46,7 @@ import seedu.address.logic.commands.SortCommand.SortField;
 import seedu.address.logic.commands.SortCommand.SortOrder;
 import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Class;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Person;
@@ -194,6 +199,20 @@ public class AddressBookParserTest {
         assertEquals(expectedCommand, command);
     }
 
+    @Test
+    public void parseCommand_attendanceHeatmap() throws Exception {
+        AttendanceHeatmapCommand command = (AttendanceHeatmapCommand) parser.parseCommand(
+                AttendanceHeatmapCommand.COMMAND_WORD + " c/K1A m/12-2025");
+        assertEquals(new AttendanceHeatmapCommand(List.of(new Class("K1A")), YearMonth.of(2025, 12)), command);
+    }
+
+    @Test
+    public void parseCommand_attendanceImport() throws Exception {
+        AttendanceImportCommand command = (AttendanceImportCommand) parser.parseCommand(
+                AttendanceImportCommand.COMMAND_WORD + " data/attendance.csv");
+        assertEquals(new AttendanceImportCommand(Paths.get("data/attendance.csv")), command);
+    }
+
     @Test
     public void parseCommand_note() throws Exception {
         NoteCommand command = (NoteCommand) parser.parseCommand(
@@ -215,6 +234,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(RemindCommand.COMMAND_WORD + " 3") instanceof RemindCommand);
     }
 
+    @Test
+    public void parseCommand_alerts() throws Exception {
+        assertTrue(parser.parseCommand(AlertsCommand.COMMAND_WORD) instanceof AlertsCommand);
+        assertTrue(parser.parseCommand(AlertsCommand.COMMAND_WORD + " 3") instanceof AlertsCommand);
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
@@ -136,6 +136,24 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter_longestPrefixMatched() {
+        Prefix dashTx = new Prefix("-tx");
+        String argsString = "preamble -tx long value -t short value -txjoined";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT, dashTx);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, dashTx, "long value", "joined");
+        assertArgumentPresent(argMultimap, dashT, "short value");
+    }
+
+    @Test
+    public void tokenize_prefixAtStartOrAfterOtherWhitespace_notMatched() {
+        String argsString = "p/start\tp/tab\np/newline p/ spaced\t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlash);
+        assertPreamblePresent(argMultimap, "p/start\tp/tab\np/newline");
+        assertArgumentPresent(argMultimap, pSlash, "spaced");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.AttendanceDownloadCommand;
+import seedu.address.logic.commands.AttendanceDownloadCommand.ReportFormat;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Class;
 
@@ -123,4 +124,23 @@ public class AttendanceDownloadCommandParserTest {
                         + "with no spaces, and must be between 1 and 20 characters long.");
     }
 
+
+    @Test
+    public void parse_bundleFlag_returnsBundleCommand() {
+        assertParseSuccess(parser, " c/K1A c/K2B m/01-2025 zip/",
+                new AttendanceDownloadCommand(null, List.of(new Class("K1A"), new Class("K2B")),
+                        LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.ZIP));
+
+        assertParseFailure(parser, " c/K1A zip/yes", "zip/ does not take a value.");
+    }
+
+    @Test
+    public void parse_xlsxFlag_returnsXlsxCommand() {
+        assertParseSuccess(parser, " c/K1A c/K2B m/01-2025 xlsx/",
+                new AttendanceDownloadCommand(null, List.of(new Class("K1A"), new Class("K2B")),
+                        LocalDate.now(), YearMonth.of(2025, 1), false, true, ReportFormat.XLSX));
+
+        assertParseFailure(parser, " c/K1A xlsx/yes", "xlsx/ does not take a value.");
+        assertParseFailure(parser, " c/K1A zip/ xlsx/", "Cannot specify both zip/ and xlsx/. Choose one.");
+    }
 }
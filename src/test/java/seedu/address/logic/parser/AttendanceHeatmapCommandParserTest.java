@@ -0,0 +1,55 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceHeatmapCommand;
+import seedu.address.model.person.Class;
+
+public class AttendanceHeatmapCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceHeatmapCommand.MESSAGE_USAGE);
+
+    private final AttendanceHeatmapCommandParser parser = new AttendanceHeatmapCommandParser();
+
+    @Test
+    public void parse_classAndMonth_success() {
+        assertParseSuccess(parser, " c/K1A c/K1B m/12-2025",
+                new AttendanceHeatmapCommand(List.of(new Class("K1A"), new Class("K1B")), YearMonth.of(2025, 12)));
+    }
+
+    @Test
+    public void parse_noMonth_defaultsToCurrentMonth() {
+        assertParseSuccess(parser, " c/K1A",
+                new AttendanceHeatmapCommand(List.of(new Class("K1A")), YearMonth.now()));
+    }
+
+    @Test
+    public void parse_noClass_throwsParseException() {
+        assertParseFailure(parser, " m/12-2025", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_preamble_throwsParseException() {
+        assertParseFailure(parser, " 1 c/K1A", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidMonth_throwsParseException() {
+        assertParseFailure(parser, " c/K1A m/13-2025", ParserUtil.MESSAGE_INVALID_MONTH);
+    }
+
+    @Test
+    public void parse_duplicateMonth_throwsParseException() {
+        assertParseFailure(parser, " c/K1A m/11-2025 m/12-2025",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_MONTH));
+    }
+}
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceImportCommand;
+
+/**
+ * Contains unit tests for AttendanceImportCommandParser.
+ */
+public class AttendanceImportCommandParserTest {
+
+    private AttendanceImportCommandParser parser = new AttendanceImportCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceImportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsAttendanceImportCommand() {
+        assertParseSuccess(parser, "  data/K1A_attendance_12-2025.csv  ",
+                new AttendanceImportCommand(Paths.get("data/K1A_attendance_12-2025.csv")));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "data/\0.csv", "Invalid file path: data/\0.csv");
+    }
+}
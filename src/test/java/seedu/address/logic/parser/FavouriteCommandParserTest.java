@@ -43,4 +43,12 @@ public class FavouriteCommandParserTest {
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
+
+    @Test
+    public void parse_rangeArgs_returnsFavouriteCommand() {
+        FavouriteCommand expectedCommand = new FavouriteCommand(List.of(INDEX_FIRST_PERSON, INDEX_SECOND_PERSON,
+                Index.fromOneBased(3), Index.fromOneBased(5)));
+
+        assertParseSuccess(parser, "1-3, 5", expectedCommand);
+    }
 }
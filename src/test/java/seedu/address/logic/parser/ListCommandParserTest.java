@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ListCommand;
+
+public class ListCommandParserTest {
+
+    private final ListCommandParser parser = new ListCommandParser();
+
+    @Test
+    public void parse_noFavouritePrefix_listsAll() {
+        assertParseSuccess(parser, "", new ListCommand());
+        assertParseSuccess(parser, " 3", new ListCommand(false));
+    }
+
+    @Test
+    public void parse_favouritePrefix_listsFavourites() {
+        assertParseSuccess(parser, " fav/", new ListCommand(true));
+    }
+
+    @Test
+    public void parse_duplicateFavouritePrefix_throwsParseException() {
+        assertParseFailure(parser, " fav/ fav/",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_FAVOURITE));
+    }
+}
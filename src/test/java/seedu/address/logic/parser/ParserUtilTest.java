@@ -6,6 +6,7 @@ import static seedu.address.logic.parser.ParserUtil.MESSAGE_INVALID_INDEX;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
@@ -193,4 +194,15 @@ public class ParserUtilTest {
 
         assertEquals(expectedTagSet, actualTagSet);
     }
+
+    @Test
+    public void parseMonth_validValueWithWhitespace_returnsYearMonth() throws Exception {
+        assertEquals(YearMonth.of(2025, 12), ParserUtil.parseMonth(" 12-2025 "));
+    }
+
+    @Test
+    public void parseMonth_invalidValue_throwsParseException() {
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("13-2025"));
+        assertThrows(ParseException.class, ParserUtil.MESSAGE_INVALID_MONTH, () -> ParserUtil.parseMonth("2025-12"));
+    }
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.RemindCommand;
+
+public class RemindCommandParserTest {
+
+    private final RemindCommandParser parser = new RemindCommandParser();
+
+    @Test
+    public void parse_noDays_defaultsToDefaultDays() {
+        assertParseSuccess(parser, "", new RemindCommand(RemindCommand.DEFAULT_UPCOMING_DAYS));
+        assertParseSuccess(parser, " 3", new RemindCommand());
+    }
+
+    @Test
+    public void parse_validDays_success() {
+        assertParseSuccess(parser, " d/30", new RemindCommand(30));
+        assertParseSuccess(parser, " d/ 365 ", new RemindCommand(RemindCommand.MAX_UPCOMING_DAYS));
+    }
+
+    @Test
+    public void parse_invalidDays_throwsParseException() {
+        assertParseFailure(parser, " d/0", RemindCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/366", RemindCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/-1", RemindCommand.MESSAGE_INVALID_DAYS);
+        assertParseFailure(parser, " d/week", RemindCommand.MESSAGE_INVALID_DAYS);
+    }
+
+    @Test
+    public void parse_duplicateDays_throwsParseException() {
+        assertParseFailure(parser, " d/30 d/7",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DATE));
+    }
+}
@@ -8,6 +8,7 @@ import java.util.Set;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.core.index.IndexRangeSet;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class IndexParserTest {
@@ -41,6 +42,26 @@ public class IndexParserTest {
         assertEquals(5, result.size());
     }
 
+    @Test
+    public void parseIndexes_overlappingRanges_merged() throws Exception {
+        IndexRangeSet result = IndexParser.parseIndexes("7, 1-3, 2-5, 6");
+        assertEquals(IndexRangeSet.ofRange(1, 7), result);
+        assertEquals(1, result.getRangeCount());
+    }
+
+    @Test
+    public void parseIndexes_hugeRange_keptAsSingleRange() throws Exception {
+        IndexRangeSet result = IndexParser.parseIndexes("1-2000000000");
+        assertEquals(2000000000, result.size());
+        assertEquals(1, result.getRangeCount());
+    }
+
+    @Test
+    public void parseRange_nonNumericOrTooLarge_throwsParseException() {
+        assertThrows(ParseException.class, () -> IndexParser.parseRange("a-3"));
+        assertThrows(ParseException.class, () -> IndexParser.parseRange("1-99999999999"));
+    }
+
     @Test
     public void parseRange_zeroOrNegative_throwsParseException() {
         assertThrows(ParseException.class, () -> IndexParser.parseRange("5-0"));
@@ -24,7 +24,6 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
-import seedu.address.commons.core.index.Index;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
@@ -100,6 +99,17 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPersons_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(person -> person.equals(ALICE));
+
+        modelManager.addPersons(List.of(BENSON));
+
+        assertTrue(modelManager.hasPerson(BENSON));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void setSelectedPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setSelectedPerson(null));
@@ -181,7 +191,7 @@ public class ModelManagerTest {
     }
 
     @Test
-    public void retrieveInitialFavList_returnsCorrectList() {
+    public void getFavouritePersonList_favouritesAdded_returnsFavourites() {
         ModelManager modelManager = new ModelManager();
         Person firstPerson = new PersonBuilder().withName("Alice").withFavourite(true).build();
         Person secondPerson = new PersonBuilder().withName("Bob").withFavourite(false).build();
@@ -192,13 +202,51 @@ public class ModelManagerTest {
         modelManager.addPerson(secondPerson);
         modelManager.addPerson(thirdPerson);
 
-        ArrayList<Index> actualList = modelManager.retrieveInitialFavList();
-        ArrayList<Index> expectedList = new ArrayList<>();
+        assertEquals(List.of(firstPerson, thirdPerson), modelManager.getFavouritePersonList());
+        assertTrue(modelManager.isFavourite(firstPerson));
+        assertFalse(modelManager.isFavourite(secondPerson));
+    }
 
-        // From zeroBased indexing, firstPerson will be index 1
-        expectedList.add(Index.fromZeroBased(0));
-        expectedList.add(Index.fromZeroBased(2));
-        assertEquals(actualList, expectedList);
+    @Test
+    public void setFavourite_toggled_updatesPersonAndFavourites() {
+        ModelManager modelManager = new ModelManager();
+        Person alice = new PersonBuilder().withName("Alice").withFavourite(false).build();
+        Person bob = new PersonBuilder().withName("Bob").withFavourite(true).build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+
+        modelManager.setFavourite(alice, true);
+        modelManager.setFavourite(bob, false);
+        assertTrue(alice.getIsFavBoolean());
+        assertFalse(bob.getIsFavBoolean());
+        assertEquals(List.of(alice), modelManager.getFavouritePersonList());
+
+        // Deleted and edited persons leave the favourites with them
+        Person editedAlice = new PersonBuilder(alice).withPhone("99999999").build();
+        modelManager.setPerson(alice, editedAlice);
+        assertEquals(List.of(editedAlice), modelManager.getFavouritePersonList());
+        modelManager.deletePerson(editedAlice);
+        assertTrue(modelManager.getFavouritePersonList().isEmpty());
+    }
+
+    @Test
+    public void showFavouritePersonList_favouritesChange_listFollowsFavourites() {
+        ModelManager modelManager = new ModelManager();
+        Person alice = new PersonBuilder().withName("Alice").withFavourite(true).build();
+        Person bob = new PersonBuilder().withName("Bob").withFavourite(false).build();
+        modelManager.addPerson(alice);
+        modelManager.addPerson(bob);
+
+        modelManager.showFavouritePersonList();
+        assertEquals(List.of(alice), modelManager.getFilteredPersonList());
+        modelManager.setFavourite(bob, true);
+        assertEquals(List.of(alice, bob), modelManager.getFilteredPersonList());
+        modelManager.setFavourite(alice, false);
+        assertEquals(List.of(bob), modelManager.getFilteredPersonList());
+
+        // Updating the filter shows everyone again
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(List.of(alice, bob), modelManager.getFilteredPersonList());
     }
 
     @Test
@@ -194,4 +194,17 @@ public class AddressTest {
         address = new Address("Blk 456, Den Road, #01-355");
         assertEquals("Blk 456, Den Road, #01-355", address.toString());
     }
+
+    @Test
+    public void isValidAddress_agreesWithValidationRegex() {
+        String[] addresses = {"123, Jurong West Ave 6", "Blk 456 (Den Road) #01-355/A", "  short address  ",
+            "12345678901234", "123456789012345", "Blk 456, Den Road; #01", "Blk 456\tDen Road #01",
+            "Blk 456 Den R\u00F6ad", "               "};
+        for (String address : addresses) {
+            String trimmed = address.trim();
+            assertEquals(trimmed.length() >= 15 && trimmed.matches(Address.VALIDATION_REGEX),
+                    Address.isValidAddress(address), address);
+        }
+    }
+
 }
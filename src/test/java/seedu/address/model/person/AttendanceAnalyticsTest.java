@@ -0,0 +1,160 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class AttendanceAnalyticsTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 3, 1);
+    private static final int CLASS_SIZE = 7;
+
+    private AddressBook addressBook;
+    private List<Person> students;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        students = new ArrayList<>();
+        for (int i = 0; i < CLASS_SIZE; i++) {
+            Person student = new PersonBuilder().withName("Student " + (char) ('A' + i))
+                    .withPhone("9000000" + i).withClass("K1A").withTags("student").build();
+            markDays(student, 0, 10, AttendanceStatus.PRESENT);
+            students.add(student);
+            addressBook.addPerson(student);
+        }
+    }
+
+    @Test
+    public void getClassStatistics_null_throwsNullPointerException() {
+        AttendanceAnalytics analytics = new AttendanceAnalytics(addressBook.getPersonList());
+        assertThrows(NullPointerException.class, () -> analytics.getClassStatistics(null));
+    }
+
+    @Test
+    public void getAlerts_regularAttendance_noAlerts() {
+        assertTrue(addressBook.getAttendanceAlerts().isEmpty());
+    }
+
+    @Test
+    public void getAlerts_absenceStreak_flaggedOnlyAboveThreshold() {
+        Person student = students.get(0);
+        markDays(student, 10, AttendanceAnalytics.ABSENCE_STREAK_THRESHOLD, AttendanceStatus.ABSENT);
+        assertTrue(addressBook.getAttendanceAlerts().stream()
+                .noneMatch(alert -> alert.getType() == AttendanceAlert.Type.ABSENCE_STREAK));
+
+        markDays(student, 10 + AttendanceAnalytics.ABSENCE_STREAK_THRESHOLD, 1, AttendanceStatus.ABSENT);
+        List<AttendanceAlert> alerts = addressBook.getAttendanceAlerts();
+        assertTrue(alerts.contains(new AttendanceAlert(student, AttendanceAlert.Type.ABSENCE_STREAK,
+                (AttendanceAnalytics.ABSENCE_STREAK_THRESHOLD + 1) + " consecutive absences")));
+    }
+
+    @Test
+    public void getAlerts_lateRateFarAboveClass_flagged() {
+        Person student = students.get(1);
+        markDays(student, 0, 10, AttendanceStatus.LATE);
+
+        List<AttendanceAlert> alerts = addressBook.getAttendanceAlerts();
+
+        assertEquals(1, alerts.size());
+        assertEquals(student, alerts.get(0).getStudent());
+        assertEquals(AttendanceAlert.Type.HIGH_LATE_RATE, alerts.get(0).getType());
+    }
+
+    @Test
+    public void getAlerts_recentAttendanceFarBelowClass_flagged() {
+        Person student = students.get(2);
+        markDays(student, 0, 10, AttendanceStatus.SICK);
+
+        List<AttendanceAlert> alerts = addressBook.getAttendanceAlerts();
+
+        assertEquals(1, alerts.size());
+        assertEquals(student, alerts.get(0).getStudent());
+        assertEquals(AttendanceAlert.Type.ATTENDANCE_DROP, alerts.get(0).getType());
+    }
+
+    @Test
+    public void getAlerts_smallClass_outlierFlaggedAgainstRestOfClass() {
+        // With the student counted in the statistics, no late rate in a class of 5 could be 2 deviations above
+        AddressBook smallClass = new AddressBook();
+        int[] lateDays = {1, 2, 1, 2, 9};
+        List<Person> smallClassStudents = new ArrayList<>();
+        for (int i = 0; i < lateDays.length; i++) {
+            Person student = new PersonBuilder().withName("Small " + (char) ('A' + i))
+                    .withPhone("9100000" + i).withClass("K2A").withTags("student").build();
+            markDays(student, 0, lateDays[i], AttendanceStatus.LATE);
+            markDays(student, lateDays[i], 10 - lateDays[i], AttendanceStatus.PRESENT);
+            smallClassStudents.add(student);
+            smallClass.addPerson(student);
+        }
+
+        List<AttendanceAlert> alerts = smallClass.getAttendanceAlerts();
+
+        assertEquals(List.of(new AttendanceAlert(smallClassStudents.get(4), AttendanceAlert.Type.HIGH_LATE_RATE,
+                "Late rate 90% is well above class average of 15%")), alerts);
+    }
+
+    @Test
+    public void getAlerts_twoStudents_flaggedOnlyFarFromOther() {
+        AddressBook pair = new AddressBook();
+        Person regular = new PersonBuilder().withName("Pair A").withPhone("92000000").withClass("K2B")
+                .withTags("student").build();
+        Person late = new PersonBuilder().withName("Pair B").withPhone("92000001").withClass("K2B")
+                .withTags("student").build();
+        markDays(regular, 0, 10, AttendanceStatus.PRESENT);
+        markDays(late, 0, 1, AttendanceStatus.LATE);
+        markDays(late, 1, 9, AttendanceStatus.PRESENT);
+        pair.addPerson(regular);
+        pair.addPerson(late);
+
+        // A late rate of 10% is not more than 2 of the smallest deviation counted above the other student's 0%
+        assertTrue(pair.getAttendanceAlerts().isEmpty());
+
+        markDays(late, 1, 9, AttendanceStatus.LATE);
+        assertEquals(1, pair.getAttendanceAlerts().size());
+        assertEquals(late, pair.getAttendanceAlerts().get(0).getStudent());
+    }
+
+    @Test
+    public void getAlerts_attendanceChangedAfterQuery_statisticsUpdated() {
+        AttendanceAnalytics analytics = new AttendanceAnalytics(addressBook.getPersonList());
+        AttendanceAnalytics.ClassStatistics statistics = analytics.getClassStatistics(new Class("K1A"));
+        assertEquals(0, statistics.getLateRateMean(), 1e-9);
+
+        markDays(students.get(3), 0, 10, AttendanceStatus.LATE);
+        assertEquals(1.0 / CLASS_SIZE, statistics.getLateRateMean(), 1e-9);
+        assertEquals(1, analytics.getAlerts().size());
+
+        markDays(students.get(3), 0, 10, AttendanceStatus.PRESENT);
+        assertEquals(0, statistics.getLateRateMean(), 1e-9);
+        assertEquals(0, statistics.getLateRateStandardDeviation(), 1e-9);
+        assertTrue(analytics.getAlerts().isEmpty());
+    }
+
+    @Test
+    public void getAlerts_studentRemoved_statisticsRebuilt() {
+        Person student = students.get(4);
+        markDays(student, 0, 10, AttendanceStatus.LATE);
+        assertEquals(1, addressBook.getAttendanceAlerts().size());
+
+        addressBook.removePerson(student);
+        assertTrue(addressBook.getAttendanceAlerts().isEmpty());
+    }
+
+    private static void markDays(Person student, int fromDay, int days, AttendanceStatus status) {
+        for (int i = fromDay; i < fromDay + days; i++) {
+            student.getAttendance().markAttendance(FIRST_DAY.plusDays(i), status);
+        }
+    }
+}
@@ -7,7 +7,12 @@ import static seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 
@@ -117,6 +122,20 @@ public class AttendanceTest {
         assertTrue(records.isEmpty());
     }
 
+    @Test
+    public void getAttendanceRecordsForMonth_recordsAroundMonthBoundaries_returnsOnlyMonthInOrder() {
+        attendance.markAttendance(LocalDate.of(2024, 3, 1), AttendanceStatus.LATE);
+        attendance.markAttendance(LocalDate.of(2024, 2, 29), AttendanceStatus.SICK);
+        attendance.markAttendance(LocalDate.of(2024, 1, 31), AttendanceStatus.ABSENT);
+        attendance.markAttendance(LocalDate.of(2024, 2, 1), AttendanceStatus.PRESENT);
+        attendance.markAttendance(LocalDate.of(2023, 2, 15), AttendanceStatus.PRESENT);
+
+        Map<LocalDate, AttendanceStatus> records = attendance.getAttendanceRecordsForMonth(YearMonth.of(2024, 2));
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 2, 29)), List.copyOf(records.keySet()));
+        assertEquals(AttendanceStatus.SICK, records.get(LocalDate.of(2024, 2, 29)));
+    }
+
     @Test
     public void formatAttendanceRecords_emptyAttendance_returnsNoRecordsMessage() {
         String expected = "No attendance records.";
@@ -256,4 +275,166 @@ public class AttendanceTest {
         String expected = "{" + date + "=PRESENT}";
         assertEquals(expected, attendance.toString());
     }
+
+    @Test
+    public void getStatus_markedAndUnmarkedDates_returnsStatusOrNull() {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.markAttendance(date, AttendanceStatus.SICK);
+
+        assertEquals(AttendanceStatus.SICK, attendance.getStatus(date));
+        assertEquals(null, attendance.getStatus(date.plusDays(1)));
+    }
+
+    @Test
+    public void addListener_markAndUnmark_notifiedOnlyOnChange() throws Exception {
+        List<AttendanceStatus> changes = new ArrayList<>();
+        Attendance.AttendanceListener listener = (date, status) -> changes.add(status);
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.addListener(listener);
+
+        attendance.markAttendance(date, AttendanceStatus.PRESENT);
+        attendance.markAttendance(date, AttendanceStatus.PRESENT);
+        attendance.unmarkAttendance(date);
+        attendance.removeListener(listener);
+        attendance.markAttendance(date, AttendanceStatus.LATE);
+
+        assertEquals(Arrays.asList(AttendanceStatus.PRESENT, null), changes);
+    }
+
+    @Test
+    public void getStatusCount_markOverwriteAndUnmark_countsUpdated() throws Exception {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.markAttendance(date, AttendanceStatus.LATE);
+        attendance.markAttendance(date.plusDays(1), AttendanceStatus.LATE);
+        attendance.markAttendance(date, AttendanceStatus.ABSENT);
+
+        assertEquals(1, attendance.getStatusCount(AttendanceStatus.LATE));
+        assertEquals(1, attendance.getStatusCount(AttendanceStatus.ABSENT));
+
+        attendance.unmarkAttendance(date);
+        assertEquals(0, attendance.getStatusCount(AttendanceStatus.ABSENT));
+    }
+
+    @Test
+    public void getTrailingStreak_mixedRecords_countsLatestRunOnly() {
+        LocalDate date = LocalDate.of(2024, 1, 15);
+        attendance.markAttendance(date, AttendanceStatus.ABSENT);
+        attendance.markAttendance(date.plusDays(1), AttendanceStatus.PRESENT);
+        attendance.markAttendance(date.plusDays(4), AttendanceStatus.ABSENT);
+        attendance.markAttendance(date.plusDays(5), AttendanceStatus.ABSENT);
+
+        assertEquals(2, attendance.getTrailingStreak(AttendanceStatus.ABSENT));
+        assertEquals(0, attendance.getTrailingStreak(AttendanceStatus.PRESENT));
+        assertEquals(1, attendance.countRecent(AttendanceStatus.PRESENT, 3));
+        assertEquals(0, attendance.countRecent(AttendanceStatus.PRESENT, 2));
+    }
+
+    @Test
+    public void serializedConstructor_summaries_countParsedRecords() {
+        Map<String, String> serialized = new LinkedHashMap<>();
+        serialized.put("2024-01-17", "ABSENT");
+        serialized.put("2024-01-15", "PRESENT");
+        serialized.put("2024-01-16", "ABSENT");
+        Attendance lazyAttendance = new Attendance(serialized);
+
+        assertEquals(serialized, lazyAttendance.getSerializedRecords());
+        assertEquals(List.copyOf(serialized.keySet()), List.copyOf(lazyAttendance.getSerializedRecords().keySet()));
+        assertFalse(lazyAttendance.isHydrated());
+
+        assertEquals(3, lazyAttendance.size());
+        assertFalse(lazyAttendance.isEmpty());
+        assertEquals(2, lazyAttendance.getStatusCount(AttendanceStatus.ABSENT));
+        assertEquals(2, lazyAttendance.getTrailingStreak(AttendanceStatus.ABSENT));
+        assertEquals(1, lazyAttendance.countRecent(AttendanceStatus.ABSENT, 1));
+        assertEquals(AttendanceStatus.PRESENT, lazyAttendance.getStatus(LocalDate.of(2024, 1, 15)));
+    }
+
+    @Test
+    public void serializedConstructor_noRecords_emptyWithoutParsing() {
+        Attendance lazyAttendance = new Attendance(Map.of());
+
+        assertTrue(lazyAttendance.isEmpty());
+        assertFalse(lazyAttendance.isHydrated());
+    }
+
+    @Test
+    public void serializedConstructor_invalidRecords_ignoredButSavedAgain() {
+        Map<String, String> serialized = new LinkedHashMap<>();
+        serialized.put("2024-01-15", "PRESENT");
+        serialized.put("2024-13-01", "PRESENT");
+        serialized.put("2024-01-16", "HOLIDAY");
+        Attendance lazyAttendance = new Attendance(serialized);
+
+        // Counted the same way before the records are parsed as after
+        assertEquals(1, lazyAttendance.size());
+        assertEquals(1, lazyAttendance.getStatusCount(AttendanceStatus.PRESENT));
+        assertEquals(Map.of(LocalDate.of(2024, 1, 15), AttendanceStatus.PRESENT),
+                lazyAttendance.getAttendanceRecords());
+        assertTrue(lazyAttendance.isHydrated());
+        assertEquals(serialized, lazyAttendance.getSerializedRecords());
+
+        // A record marked on the date of an invalid one replaces it
+        lazyAttendance.markAttendance(LocalDate.of(2024, 1, 16), AttendanceStatus.LATE);
+        assertEquals(Map.of("2024-01-15", "PRESENT", "2024-13-01", "PRESENT", "2024-01-16", "LATE"),
+                lazyAttendance.getSerializedRecords());
+        assertEquals(2, lazyAttendance.size());
+    }
+
+    @Test
+    public void markAttendance_serializedRecords_notifiesAndUpdatesCounts() {
+        Attendance lazyAttendance = new Attendance(Map.of("2024-01-15", "LATE"));
+        List<AttendanceStatus> changes = new ArrayList<>();
+        lazyAttendance.addListener((date, status) -> changes.add(status));
+
+        assertTrue(lazyAttendance.markAttendance(LocalDate.of(2024, 1, 15), AttendanceStatus.SICK));
+        assertEquals(List.of(AttendanceStatus.SICK), changes);
+        assertEquals(0, lazyAttendance.getStatusCount(AttendanceStatus.LATE));
+        assertEquals(1, lazyAttendance.getStatusCount(AttendanceStatus.SICK));
+        assertEquals(Map.of("2024-01-15", "SICK"), lazyAttendance.getSerializedRecords());
+    }
+
+    @Test
+    public void serializedConstructor_statisticsQueried_recordsNotParsed() {
+        Map<String, String> serialized = new LinkedHashMap<>();
+        serialized.put("2024-01-17", "ABSENT");
+        serialized.put("2024-02-30", "ABSENT");
+        serialized.put("2024-01-15", "LATE");
+        serialized.put("2024-01-16", "ABSENT");
+        Attendance lazyAttendance = new Attendance(serialized);
+
+        assertEquals(3, lazyAttendance.size());
+        assertEquals(2, lazyAttendance.getStatusCount(AttendanceStatus.ABSENT));
+        assertEquals(2, lazyAttendance.getTrailingStreak(AttendanceStatus.ABSENT));
+        assertEquals(1, lazyAttendance.countRecent(AttendanceStatus.LATE, 3));
+        assertFalse(lazyAttendance.isHydrated());
+    }
+
+    @Test
+    public void serializedConstructor_randomRecords_statisticsSameBeforeAndAfterParsing() {
+        Random random = new Random(2024);
+        AttendanceStatus[] statuses = AttendanceStatus.values();
+        for (int i = 0; i < 200; i++) {
+            Map<String, String> serialized = new LinkedHashMap<>();
+            int recordCount = random.nextInt(30);
+            for (int j = 0; j < recordCount; j++) {
+                String date = LocalDate.of(2024, 1, 1).plusDays(random.nextInt(60)).toString();
+                // Now and then an invalid record, which is ignored either way
+                String status = random.nextInt(20) == 0 ? "HOLIDAY" : statuses[random.nextInt(statuses.length)].name();
+                serialized.put(random.nextInt(40) == 0 ? "2024-02-31" : date, status);
+            }
+            Attendance lazyAttendance = new Attendance(serialized);
+            Attendance parsedAttendance = new Attendance(serialized);
+            parsedAttendance.getAttendanceRecords();
+
+            assertEquals(parsedAttendance.size(), lazyAttendance.size());
+            assertEquals(parsedAttendance.isEmpty(), lazyAttendance.isEmpty());
+            for (AttendanceStatus status : statuses) {
+                assertEquals(parsedAttendance.getStatusCount(status), lazyAttendance.getStatusCount(status));
+                assertEquals(parsedAttendance.getTrailingStreak(status), lazyAttendance.getTrailingStreak(status));
+                assertEquals(parsedAttendance.countRecent(status, 10), lazyAttendance.countRecent(status, 10));
+                assertEquals(parsedAttendance.countRecent(status, 4), lazyAttendance.countRecent(status, 4));
+            }
+            assertFalse(lazyAttendance.isHydrated());
+        }
+    }
 }
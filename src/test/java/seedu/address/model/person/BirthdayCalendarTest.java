@@ -0,0 +1,82 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.testutil.PersonBuilder;
+
+public class BirthdayCalendarTest {
+
+    private AddressBook addressBook;
+    private Person alice;
+    private Person bob;
+    private Person leapDay;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        alice = new PersonBuilder().withName("Alice").withBirthday("15-03-2020").build();
+        bob = new PersonBuilder().withName("Bob").withBirthday("15-03-1990").build();
+        leapDay = new PersonBuilder().withName("Leap").withBirthday("29-02-2020").build();
+        addressBook.addPerson(bob);
+        addressBook.addPerson(alice);
+        addressBook.addPerson(leapDay);
+    }
+
+    @Test
+    public void getBirthdaysOn_anyYear_personsBornOnThatDay() {
+        assertEquals(List.of(bob, alice), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+        assertTrue(addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 16)).isEmpty());
+    }
+
+    @Test
+    public void getBirthdaysOn_leapDay_onFeb28OfOtherYears() {
+        assertEquals(List.of(leapDay), addressBook.getBirthdaysOn(LocalDate.of(2024, 2, 29)));
+        assertTrue(addressBook.getBirthdaysOn(LocalDate.of(2024, 2, 28)).isEmpty());
+        assertEquals(List.of(leapDay), addressBook.getBirthdaysOn(LocalDate.of(2025, 2, 28)));
+    }
+
+    @Test
+    public void setPerson_birthdayChanged_movesToNewDay() {
+        Person editedAlice = new PersonBuilder(alice).withBirthday("16-03-2020").build();
+        addressBook.setPerson(alice, editedAlice);
+
+        assertEquals(List.of(bob), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+        assertEquals(List.of(editedAlice), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 16)));
+    }
+
+    @Test
+    public void setPerson_sameBirthday_keepsPlace() {
+        Person editedBob = new PersonBuilder(bob).withPhone("99999999").build();
+        addressBook.setPerson(bob, editedBob);
+
+        assertEquals(List.of(editedBob, alice), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+    }
+
+    @Test
+    public void removePerson_removedFromDay() {
+        addressBook.removePerson(bob);
+        assertEquals(List.of(alice), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+    }
+
+    @Test
+    public void sortPersons_sameDayInDisplayOrder() {
+        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        assertEquals(List.of(alice, bob), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+    }
+
+    @Test
+    public void setPersons_replacesEveryone() {
+        addressBook.setPersons(List.of(alice));
+        assertEquals(List.of(alice), addressBook.getBirthdaysOn(LocalDate.of(2031, 3, 15)));
+        assertTrue(addressBook.getBirthdaysOn(LocalDate.of(2025, 2, 28)).isEmpty());
+    }
+}
@@ -23,6 +23,13 @@ public class BirthdayTest {
         assertThrows(IllegalArgumentException.class, () -> new Birthday(invalidBirthday));
     }
 
+    @Test
+    public void fromTrusted_validBirthday_sameAsConstructed() {
+        Birthday birthday = Birthday.fromTrusted("15-03-2005");
+        assertEquals(new Birthday("15-03-2005"), birthday);
+        assertEquals(LocalDate.of(2005, 3, 15), birthday.date);
+    }
+
     @Test
     public void isValidBirthday() {
         // null birthday
@@ -489,4 +496,14 @@ public class BirthdayTest {
         assertTrue(birthday.date.getMonthValue() == 3);
         assertTrue(birthday.date.getYear() == 2018);
     }
+
+    @Test
+    public void isValidBirthday_shapeNotMatchingValidationRegex_returnsFalse() {
+        assertFalse(Birthday.isValidBirthday("1-01-2000"));
+        assertFalse(Birthday.isValidBirthday("01/01/2000"));
+        assertFalse(Birthday.isValidBirthday("01-01-2000 "));
+        assertFalse(Birthday.isValidBirthday("\u0660\u0661-01-2000")); // non-ASCII digits
+        assertTrue(Birthday.isValidBirthday("01-01-2000"));
+    }
+
 }
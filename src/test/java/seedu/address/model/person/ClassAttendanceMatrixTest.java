@@ -0,0 +1,101 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.AttendanceCommand.AttendanceStatus;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ClassAttendanceMatrix.MonthBlock;
+import seedu.address.testutil.PersonBuilder;
+
+public class ClassAttendanceMatrixTest {
+
+    private static final Class K1A = new Class("K1A");
+    private static final YearMonth MONTH = YearMonth.of(2024, 3);
+
+    private AddressBook addressBook;
+    private Person alice;
+    private Person bob;
+
+    @BeforeEach
+    public void setUp() {
+        addressBook = new AddressBook();
+        alice = new PersonBuilder().withName("Alice").withClass("K1A").withBirthday("01-01-2020")
+                .withTags("student").build();
+        bob = new PersonBuilder().withName("Bob").withClass("K1A").withBirthday("01-01-2020")
+                .withTags("student").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        addressBook.addPerson(new PersonBuilder().withName("Carl").withClass("K1B").withBirthday("01-01-2020")
+                .withTags("student").build());
+        addressBook.addPerson(new PersonBuilder().withName("Dana").withClass("K1A").withTags("colleague").build());
+    }
+
+    @Test
+    public void getMonth_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> addressBook.getClassMonthAttendance(null, MONTH));
+        assertThrows(NullPointerException.class, () -> addressBook.getClassMonthAttendance(K1A, null));
+    }
+
+    @Test
+    public void getMonth_existingRecords_onlyStudentsOfClass() throws Exception {
+        alice.markAttendance(MONTH.atDay(1), AttendanceStatus.PRESENT);
+        bob.markAttendance(MONTH.atDay(31), AttendanceStatus.LATE);
+        bob.markAttendance(LocalDate.of(2024, 4, 1), AttendanceStatus.SICK);
+
+        MonthBlock block = addressBook.getClassMonthAttendance(K1A, MONTH);
+
+        assertEquals(K1A, block.getStudentClass());
+        assertEquals(MONTH, block.getMonth());
+        assertEquals(2, block.size());
+        assertEquals(alice, block.getStudent(0));
+        assertEquals(bob, block.getStudent(1));
+        assertEquals(AttendanceStatus.PRESENT, block.getStatus(0, 1));
+        assertEquals(AttendanceStatus.LATE, block.getStatus(1, 31));
+        assertNull(block.getStatus(0, 2));
+        assertEquals(0, block.countStatus(AttendanceStatus.SICK));
+    }
+
+    @Test
+    public void getMonth_markAndUnmarkAfterQuery_blockUpdated() throws Exception {
+        MonthBlock block = addressBook.getClassMonthAttendance(K1A, MONTH);
+        assertEquals(0, block.countStatus(AttendanceStatus.ABSENT));
+
+        alice.markAttendance(MONTH.atDay(5), AttendanceStatus.ABSENT);
+        bob.markAttendance(MONTH.atDay(5), AttendanceStatus.ABSENT);
+        assertEquals(AttendanceStatus.ABSENT, block.getStatus(0, 5));
+        assertEquals(2, block.countStatus(AttendanceStatus.ABSENT));
+
+        alice.unmarkAttendance(MONTH.atDay(5));
+        assertNull(block.getStatus(0, 5));
+        assertEquals(1, block.countStatus(AttendanceStatus.ABSENT));
+    }
+
+    @Test
+    public void getMonth_studentAddedOrRemoved_rowsRebuilt() throws Exception {
+        Person ida = new PersonBuilder().withName("Ida").withClass("K1A").withBirthday("01-01-2020")
+                .withTags("student").build();
+        ida.markAttendance(MONTH.atDay(2), AttendanceStatus.SICK);
+        assertEquals(2, addressBook.getClassMonthAttendance(K1A, MONTH).size());
+
+        addressBook.addPerson(ida);
+        MonthBlock block = addressBook.getClassMonthAttendance(K1A, MONTH);
+        assertEquals(3, block.size());
+        assertEquals(1, block.countStatus(AttendanceStatus.SICK));
+
+        addressBook.removePerson(alice);
+        assertEquals(2, addressBook.getClassMonthAttendance(K1A, MONTH).size());
+
+        // removed student no longer updates the class
+        MonthBlock afterRemoval = addressBook.getClassMonthAttendance(K1A, MONTH);
+        alice.markAttendance(MONTH.atDay(3), AttendanceStatus.PRESENT);
+        assertEquals(0, afterRemoval.countStatus(AttendanceStatus.PRESENT));
+    }
+}
@@ -115,4 +115,15 @@ public class ClassTest {
         Class studentClass = new Class("K2C");
         assertEquals("K2C", studentClass.toString());
     }
+
+    @Test
+    public void isValidClass_agreesWithValidationRegex() {
+        String[] classes = {"K1A", "k", "12345678901234567890", "123456789012345678901", "", " ", "K1 A", " K1A ",
+            "K1-A", "K\u00E9", "\u0661"};
+        for (String studentClass : classes) {
+            assertEquals(studentClass.trim().matches(Class.VALIDATION_REGEX), Class.isValidClass(studentClass),
+                    studentClass);
+        }
+    }
+
 }
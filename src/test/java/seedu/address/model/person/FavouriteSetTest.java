@@ -0,0 +1,109 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.ListChangeMirror;
+import seedu.address.testutil.PersonBuilder;
+
+public class FavouriteSetTest {
+
+    private final FavouriteSet favouriteSet = new FavouriteSet();
+    private final Person alice = new PersonBuilder().withName("Alice").build();
+    private final Person bob = new PersonBuilder().withName("Bob").build();
+    private final Person carl = new PersonBuilder().withName("Carl").build();
+
+    @Test
+    public void setFavourite_addedAndRemoved_listKeepsOrderAdded() {
+        favouriteSet.setFavourite(carl, true);
+        favouriteSet.setFavourite(alice, true);
+        favouriteSet.setFavourite(bob, true);
+        favouriteSet.setFavourite(alice, false);
+        favouriteSet.setFavourite(alice, true);
+
+        assertEquals(List.of(carl, bob, alice), favouriteSet.asUnmodifiableObservableList());
+        assertTrue(alice.getIsFavBoolean());
+    }
+
+    @Test
+    public void remove_personWithSameDetails_onlyThatPersonRemoved() {
+        Person aliceCopy = new PersonBuilder().withName("Alice").build();
+        favouriteSet.setFavourite(alice, true);
+        favouriteSet.setFavourite(aliceCopy, true);
+
+        favouriteSet.remove(aliceCopy);
+
+        assertEquals(List.of(alice), favouriteSet.asUnmodifiableObservableList());
+        assertTrue(favouriteSet.contains(alice));
+        assertFalse(favouriteSet.contains(aliceCopy));
+    }
+
+    @Test
+    public void set_editedFavourite_keepsPlace() {
+        favouriteSet.setFavourite(alice, true);
+        favouriteSet.setFavourite(bob, true);
+        Person editedAlice = new PersonBuilder(alice).withFavourite(true).withNote("Edited").build();
+
+        favouriteSet.set(alice, editedAlice);
+
+        assertEquals(List.of(editedAlice, bob), favouriteSet.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void toggleAll_severalPersons_reportedAsOneChange() {
+        favouriteSet.setFavourite(alice, true);
+        ListChangeMirror<Person> mirror = new ListChangeMirror<>(favouriteSet.asUnmodifiableObservableList());
+
+        favouriteSet.toggleAll(List.of(alice, bob, carl));
+
+        assertEquals(List.of(bob, carl), favouriteSet.asUnmodifiableObservableList());
+        assertEquals(List.of(bob, carl), mirror.getItems());
+        assertEquals(1, mirror.getChangeCount());
+        assertFalse(alice.getIsFavBoolean());
+        assertTrue(carl.getIsFavBoolean());
+    }
+
+    @Test
+    public void toggleAll_randomPersons_listMatchesFavouritesInOrderAdded() {
+        Random random = new Random(2024);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (char) ('a' + i % 26)).build());
+        }
+        ListChangeMirror<Person> mirror = new ListChangeMirror<>(favouriteSet.asUnmodifiableObservableList());
+        List<Person> expected = new ArrayList<>();
+
+        for (int round = 0; round < 200; round++) {
+            List<Person> toToggle = new ArrayList<>();
+            for (Person person : persons) {
+                if (random.nextInt(10) == 0) {
+                    toToggle.add(person);
+                }
+            }
+            for (Person person : toToggle) {
+                if (!expected.removeIf(favourite -> favourite == person)) {
+                    expected.add(person);
+                }
+            }
+
+            favouriteSet.toggleAll(toToggle);
+
+            assertSameOrder(expected, favouriteSet.asUnmodifiableObservableList());
+            assertSameOrder(expected, mirror.getItems());
+        }
+    }
+
+    private static void assertSameOrder(List<Person> expected, List<Person> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i) == actual.get(i));
+        }
+    }
+}
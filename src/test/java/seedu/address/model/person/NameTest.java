@@ -14,6 +14,12 @@ public class NameTest {
         assertThrows(NullPointerException.class, () -> new Name(null));
     }
 
+    @Test
+    public void fromTrusted_normalizedName_sameAsConstructed() {
+        assertEquals(new Name("Peter Jack"), Name.fromTrusted("Peter Jack"));
+        assertEquals("Peter Jack", Name.fromTrusted("Peter Jack").fullName);
+    }
+
     @Test
     public void constructor_invalidName_throwsIllegalArgumentException() {
         String invalidName = "";
@@ -235,4 +241,30 @@ public class NameTest {
         // We just test that hashCode() doesn't throw exceptions
         name3.hashCode();
     }
+
+    @Test
+    public void isValidName_agreesWithRegexRules() {
+        String[] names = {"Al", "A", "a b", "Mary-Jane", "Mary--Jane", "O'Connor", "a'a'", "-Ann", "'Ann-'",
+            "Ann - Lee", "Ann -'Lee", "  Ann  ", "Ann\tLee", "Ann\u00A0Lee", "J\u00F6rg", "\u674E\u5C0F\u9F99",
+            "\uD835\uDC00\uD835\uDC01", "\uD835\uDC00ab", "Ann\uD800", "Ann2", "Ann_Lee", "Ann.Lee", "- -", " "};
+        for (String name : names) {
+            assertEquals(isValidNameByRegex(name), Name.isValidName(name), name);
+        }
+    }
+
+    /**
+     * Returns whether {@code test} is a valid name, using the regular expressions that
+     * {@link Name#isValidName(String)} replaced.
+     */
+    private static boolean isValidNameByRegex(String test) {
+        String trimmed = test.trim();
+        if (trimmed.isEmpty() || !trimmed.matches(Name.VALIDATION_REGEX)) {
+            return false;
+        }
+        long letterCount = trimmed.chars().filter(Character::isLetter).count();
+        long punctuationCount = trimmed.chars().filter(ch -> ch == '-' || ch == '\'').count();
+        return letterCount >= 2 && !trimmed.matches(".*[-']{2,}.*")
+                && !trimmed.replaceAll("[\\s\\-']+", "").isEmpty() && punctuationCount < letterCount;
+    }
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -57,4 +58,15 @@ public class NoteTest {
         // different values -> returns false
         assertFalse(note.equals(new Note("Other Valid Name")));
     }
+
+    @Test
+    public void isValidNote_agreesWithValidationRegex() {
+        String[] notes = {"", "Allergic to peanuts!", "Line\nbreak", "Tab\there", "Delete\u007F", "Caf\u00E9 \u2764",
+            "\u0080 is not a control character here", "a".repeat(500), "a".repeat(501)};
+        for (String note : notes) {
+            assertEquals(note.matches(Note.VALIDATION_REGEX) && note.length() <= Note.MAX_LENGTH,
+                    Note.isValidNote(note), note);
+        }
+    }
+
 }
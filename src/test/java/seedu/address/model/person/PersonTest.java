@@ -48,6 +48,28 @@ public class PersonTest {
         assertThrows(UnsupportedOperationException.class, () -> person.getTags().remove(0));
     }
 
+    @Test
+    public void getIdentityKeys_sharedKeyIffSamePerson() {
+        Person student = new PersonBuilder().withTags(VALID_TAG_STUDENT).build();
+        Person colleague = new PersonBuilder().withTags(VALID_TAG_COLLEAGUE).build();
+        Person[] persons = {
+            student,
+            new PersonBuilder(student).withName(VALID_NAME_AMY.toUpperCase()).withEmail(VALID_EMAIL_BOB).build(),
+            new PersonBuilder(student).withPhone(VALID_PHONE_BOB).build(),
+            colleague,
+            new PersonBuilder(colleague).withName(VALID_NAME_BOB).withPhone(VALID_PHONE_BOB).build(),
+            new PersonBuilder(colleague).withEmail(VALID_EMAIL_BOB).build(),
+            new PersonBuilder(colleague).withPhone(VALID_PHONE_BOB).withEmail(VALID_EMAIL_BOB).build()
+        };
+
+        for (Person first : persons) {
+            for (Person second : persons) {
+                boolean sharesKey = first.getIdentityKeys().stream().anyMatch(second.getIdentityKeys()::contains);
+                assertEquals(first.isSamePerson(second), sharesKey);
+            }
+        }
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
@@ -160,4 +160,15 @@ public class PhoneTest {
         // We just test that hashCode() doesn't throw exceptions
         phone3.hashCode();
     }
+
+    @Test
+    public void isValidPhone_agreesWithValidationRegex() {
+        String[] phones = {"61234567", "8123 4567", "9123-4567", "\t91234567\n", "71234567", "6123456",
+            "612345678", "6123456a", "\u0661\u0662\u0663\u0664\u0665\u0666\u0667\u0668", "", "- -"};
+        for (String phone : phones) {
+            assertEquals(phone.replaceAll("[\\s-]", "").matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(phone),
+                    phone);
+        }
+    }
+
 }
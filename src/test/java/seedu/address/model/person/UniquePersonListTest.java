@@ -60,6 +60,55 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_newPersons_appendedInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Arrays.asList(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertEquals(List.of(ALICE), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_duplicatesWithinList_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+    }
+
+    @Test
+    public void addAll_afterRemoveAndEdit_checkedAgainstCurrentPersons() {
+        uniquePersonList.addAll(List.of(ALICE));
+        uniquePersonList.setPerson(ALICE, BOB);
+
+        // Alice's identity is free again, while Bob's is taken
+        uniquePersonList.addAll(List.of(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB)));
+        uniquePersonList.remove(BOB);
+        uniquePersonList.addAll(List.of(BOB));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_personsWithoutIdentityKeys_onlySameObjectIsDuplicate() {
+        Person parent = new PersonBuilder().withTags().build();
+        Person sameDetails = new PersonBuilder().withTags().build();
+        uniquePersonList.addAll(List.of(parent));
+
+        uniquePersonList.addAll(List.of(sameDetails));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(parent)));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -111,6 +160,20 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(ALICE, BOB));
     }
 
+    @Test
+    public void setPerson_colleagueKeepsPhoneButTakesOthersEmail_throwsDuplicatePersonException() {
+        Person colleague = new PersonBuilder().withPhone("91234567").withEmail("first@example.com")
+                .withTags(VALID_TAG_COLLEAGUE).build();
+        Person otherColleague = new PersonBuilder().withName("Bob Choo").withPhone("98765432")
+                .withEmail("second@example.com").withTags(VALID_TAG_COLLEAGUE).build();
+        uniquePersonList.setPersons(List.of(colleague, otherColleague));
+
+        Person editedColleague = new PersonBuilder(colleague).withEmail("second@example.com").build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPerson(colleague, editedColleague));
+        assertEquals(List.of(colleague, otherColleague), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(colleague));
+    }
+
     @Test
     public void remove_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.remove(null));
@@ -158,12 +221,48 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setTrustedPersons_list_replacesOwnListAndDuplicatesStillFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setTrustedPersons(Collections.singletonList(BOB));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(new PersonBuilder(BOB).build()));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSamePersonByIdentity_throwsDuplicatePersonException() {
+        Person student = new PersonBuilder().withName("Amy Bee").withTags(VALID_TAG_STUDENT).build();
+        Person sameStudent = new PersonBuilder().withName("AMY BEE").withTags(VALID_TAG_STUDENT)
+                .withAddress(VALID_ADDRESS_BOB).build();
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(List.of(student, sameStudent)));
+
+        Person colleague = new PersonBuilder().withTags(VALID_TAG_COLLEAGUE).build();
+        Person colleagueSameEmail = new PersonBuilder().withName("Bob Choo").withPhone("91234567")
+                .withTags(VALID_TAG_COLLEAGUE).build();
+        assertThrows(DuplicatePersonException.class, () ->
+                uniquePersonList.setPersons(List.of(colleague, colleagueSameEmail)));
+    }
+
+    @Test
+    public void setPersons_studentAndColleagueWithSameDetails_success() {
+        Person student = new PersonBuilder().withTags(VALID_TAG_STUDENT).build();
+        Person colleague = new PersonBuilder().withTags(VALID_TAG_COLLEAGUE).build();
+        Person studentSamePhone = new PersonBuilder().withName("Bob Choo").withTags(VALID_TAG_STUDENT).build();
+
+        uniquePersonList.setPersons(List.of(student, colleague, studentSamePhone));
+        assertEquals(List.of(student, colleague, studentSamePhone), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,5 +1,6 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -95,4 +96,14 @@ public class TagTest {
         Tag colleagueTagUpperCase = new Tag("COLLEAGUE");
         assertTrue(colleagueTagUpperCase.isColleague());
     }
+
+    @Test
+    public void isValidTagName_agreesWithValidationRegex() {
+        String[] tagNames = {"student", "STUDENT", "Colleague", "cOlLeAgUe", "students", "stud", "", " student",
+            "\u017Ftudent", "\u0130"};
+        for (String tagName : tagNames) {
+            assertEquals(tagName.matches(Tag.VALIDATION_REGEX), Tag.isValidTagName(tagName), tagName);
+        }
+    }
+
 }
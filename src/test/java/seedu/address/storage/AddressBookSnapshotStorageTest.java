@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookSnapshotStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readSnapshot_noSnapshot_returnsEmpty() {
+        AddressBookSnapshotStorage snapshotStorage = new AddressBookSnapshotStorage(addressBookFile());
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void saveSnapshot_matchingDataFile_roundTrips() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Person withAttendance = new PersonBuilder(HOON).withFavourite(true)
+                .withAttendance(new Attendance(Map.of("2025-01-02", "PRESENT", "2025-01-03", "LATE"))).build();
+        original.addPerson(withAttendance);
+        AddressBookSnapshotStorage snapshotStorage = saveWithSnapshot(original);
+
+        assertTrue(Files.exists(snapshotStorage.getSnapshotFilePath()));
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readSnapshot();
+        assertTrue(snapshot.isPresent());
+        assertEquals(original, new AddressBook(snapshot.get()));
+
+        Person readBack = snapshot.get().getPersonList().get(original.getPersonList().size() - 1);
+        assertTrue(readBack.getIsFavBoolean());
+        assertEquals(withAttendance.getAttendance().getSerializedRecords(),
+                readBack.getAttendance().getSerializedRecords());
+    }
+
+    @Test
+    public void readSnapshot_dataFileChanged_returnsEmpty() throws Exception {
+        AddressBookSnapshotStorage snapshotStorage = saveWithSnapshot(getTypicalAddressBook());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        new JsonAddressBookStorage(addressBookFile()).saveAddressBook(changed);
+
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void saveSnapshot_modelDiffersFromDataFile_snapshotDeleted() throws Exception {
+        AddressBookSnapshotStorage snapshotStorage = saveWithSnapshot(getTypicalAddressBook());
+
+        AddressBook unsaved = getTypicalAddressBook();
+        unsaved.addPerson(HOON);
+        snapshotStorage.saveSnapshot(unsaved);
+
+        assertFalse(Files.exists(snapshotStorage.getSnapshotFilePath()));
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void readSnapshot_corruptSnapshot_returnsEmpty() throws Exception {
+        AddressBookSnapshotStorage snapshotStorage = saveWithSnapshot(getTypicalAddressBook());
+
+        byte[] content = Files.readAllBytes(snapshotStorage.getSnapshotFilePath());
+        Files.write(snapshotStorage.getSnapshotFilePath(), Arrays.copyOf(content, content.length / 2));
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+
+        Files.write(snapshotStorage.getSnapshotFilePath(), new byte[] {1, 2, 3});
+        assertFalse(snapshotStorage.readSnapshot().isPresent());
+    }
+
+    @Test
+    public void saveSnapshot_existingSnapshot_replacedWithoutTempFileLeft() throws Exception {
+        AddressBookSnapshotStorage snapshotStorage = saveWithSnapshot(getTypicalAddressBook());
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.addPerson(HOON);
+        saveWithSnapshot(changed);
+
+        assertEquals(changed, new AddressBook(snapshotStorage.readSnapshot().get()));
+        Path tempFile = snapshotStorage.getSnapshotFilePath().resolveSibling(
+                snapshotStorage.getSnapshotFilePath().getFileName() + AddressBookSnapshotStorage.TEMP_FILE_SUFFIX);
+        assertFalse(Files.exists(tempFile));
+    }
+
+    private AddressBookSnapshotStorage saveWithSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        new JsonAddressBookStorage(addressBookFile()).saveAddressBook(addressBook);
+        AddressBookSnapshotStorage snapshotStorage = new AddressBookSnapshotStorage(addressBookFile());
+        snapshotStorage.saveSnapshot(addressBook);
+        return snapshotStorage;
+    }
+
+    private Path addressBookFile() {
+        return testFolder.resolve("addressbook.json");
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class AttendanceBundleWriterTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 31, 18, 30, 5);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void finish_withReports_writesReportsAndManifest() throws IOException {
+        Path bundlePath = tempDir.resolve("reports").resolve("bundle.zip");
+        String firstCsv = "Name,Class,01-01-2025\nJohn Doe,K1A,PRESENT\nJane Doe,K1A,\n";
+        String secondCsv = "Name,Class,01-01-2025\nBob Lee,K2B,LATE\n";
+
+        try (AttendanceBundleWriter bundle = new AttendanceBundleWriter(bundlePath, CREATED_AT)) {
+            assertFalse(bundle.hasReports());
+            String savedPath = bundle.addReport(firstCsv, "K1A_attendance_01-2025.csv");
+            bundle.addReport(secondCsv, "K2B_attendance_01-2025.csv");
+            bundle.addReport(secondCsv, "K2B_attendance_01-2025.csv");
+
+            assertTrue(bundle.hasReports());
+            assertEquals(bundlePath.toAbsolutePath().toString(), savedPath);
+            bundle.finish();
+        }
+
+        Map<String, String> entries = readEntries(bundlePath);
+        assertEquals(4, entries.size());
+        assertEquals(firstCsv, entries.get("K1A_attendance_01-2025.csv"));
+        assertEquals(secondCsv, entries.get("K2B_attendance_01-2025.csv"));
+        assertEquals(secondCsv, entries.get("K2B_attendance_01-2025(2).csv"));
+        assertEquals("LittleLogBook attendance bundle\n"
+                + "Generated: 31-01-2025 18:30:05\n"
+                + "Reports: 3\n"
+                + "K1A_attendance_01-2025.csv (2 rows)\n"
+                + "K2B_attendance_01-2025.csv (1 row)\n"
+                + "K2B_attendance_01-2025(2).csv (1 row)\n",
+                entries.get(AttendanceBundleWriter.MANIFEST_FILE_NAME));
+    }
+
+    @Test
+    public void finish_withoutReports_noFileCreated() throws IOException {
+        Path bundlePath = tempDir.resolve("bundle.zip");
+
+        try (AttendanceBundleWriter bundle = new AttendanceBundleWriter(bundlePath, CREATED_AT)) {
+            assertEquals(bundlePath, bundle.getBundlePath());
+            bundle.finish();
+        }
+
+        assertFalse(Files.exists(bundlePath));
+    }
+
+    @Test
+    public void close_withoutFinish_partialBundleDeleted() throws IOException {
+        Path bundlePath = tempDir.resolve("bundle.zip");
+
+        try (AttendanceBundleWriter bundle = new AttendanceBundleWriter(bundlePath, CREATED_AT)) {
+            bundle.addReport("Name,Class,01-01-2025\nBob Lee,K2B,LATE\n", "K2B_attendance_01-2025.csv");
+            assertTrue(Files.exists(bundlePath));
+        }
+
+        assertFalse(Files.exists(bundlePath));
+    }
+
+    @Test
+    public void close_afterFailedReport_partialBundleDeleted() {
+        Path bundlePath = tempDir.resolve("bundle.zip");
+
+        assertThrows(IOException.class, () -> {
+            try (AttendanceBundleWriter bundle = new AttendanceBundleWriter(bundlePath, CREATED_AT)) {
+                bundle.addReport("Name,Class,01-01-2025\n", "K1A_attendance_01-2025.csv");
+                throw new IOException("Disk full");
+            }
+        });
+
+        assertFalse(Files.exists(bundlePath));
+    }
+
+    private static Map<String, String> readEntries(Path bundlePath) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (InputStream in = Files.newInputStream(bundlePath); ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
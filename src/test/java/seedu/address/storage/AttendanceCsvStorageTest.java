@@ -30,4 +30,14 @@ public class AttendanceCsvStorageTest {
         assertTrue(Files.exists(path));
         assertEquals(csvContent, Files.readString(path));
     }
+
+    @Test
+    void createAttendanceBundle_timestampedName_insideDataDirectory() {
+        AttendanceCsvStorage.setDataDirectory(tempDir);
+
+        Path bundlePath = AttendanceCsvStorage.createAttendanceBundle().getBundlePath();
+
+        assertEquals(tempDir, bundlePath.getParent());
+        assertTrue(bundlePath.getFileName().toString().matches("attendance_bundle_\\d{8}_\\d{6}_\\d{3}\\.zip"));
+    }
 }
@@ -0,0 +1,113 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.util.AttendanceReport;
+
+public class AttendanceXlsxWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void finish_withSheets_writesWorkbook() throws IOException {
+        Path workbookPath = tempDir.resolve("reports").resolve("attendance.xlsx");
+        List<List<String>> firstRows = List.of(List.of("John Doe", "K1A", "PRESENT"), List.of("Jane & Co", "K1A", ""));
+        AttendanceReport firstReport = new AttendanceReport(
+                List.of(List.of("Class: K1A"), List.of("Name", "Class", "01-01-2025")), 2, firstRows::get);
+        AttendanceReport secondReport = new AttendanceReport(
+                List.of(List.of("Name", "Class", "01-01-2025")), 1, row -> List.of("Bob Lee", "K2B", "ABSENT"));
+
+        try (AttendanceXlsxWriter workbook = new AttendanceXlsxWriter(workbookPath)) {
+            assertFalse(workbook.hasSheets());
+            String savedPath = workbook.addSheet(firstReport, "K1A");
+            workbook.addSheet(secondReport, "K2B");
+            workbook.addSheet(secondReport, "k2b");
+            workbook.finish();
+
+            assertTrue(workbook.hasSheets());
+            assertEquals(workbookPath.toAbsolutePath().toString(), savedPath);
+        }
+
+        Map<String, String> entries = readEntries(workbookPath);
+        assertTrue(entries.containsKey("[Content_Types].xml"));
+        assertTrue(entries.containsKey("xl/styles.xml"));
+
+        String firstSheet = entries.get("xl/worksheets/sheet1.xml");
+        assertTrue(firstSheet.contains("ySplit=\"2\" topLeftCell=\"B3\""));
+        assertTrue(firstSheet.contains("<c r=\"A2\" s=\"1\" t=\"inlineStr\"><is><t>Name</t></is></c>"));
+        assertTrue(firstSheet.contains("<c r=\"C3\" s=\"2\" t=\"inlineStr\"><is><t>PRESENT</t></is></c>"));
+        assertTrue(firstSheet.contains("<c r=\"A4\" t=\"inlineStr\"><is><t>Jane &amp; Co</t></is></c>"));
+        assertFalse(firstSheet.contains("r=\"C4\""));
+
+        String secondSheet = entries.get("xl/worksheets/sheet2.xml");
+        assertTrue(secondSheet.contains("ySplit=\"1\" topLeftCell=\"B2\""));
+        assertTrue(secondSheet.contains("<c r=\"C2\" s=\"5\" t=\"inlineStr\"><is><t>ABSENT</t></is></c>"));
+
+        String workbookXml = entries.get("xl/workbook.xml");
+        assertTrue(workbookXml.contains("<sheet name=\"K1A\" sheetId=\"1\""));
+        assertTrue(workbookXml.contains("<sheet name=\"K2B\" sheetId=\"2\""));
+        assertTrue(workbookXml.contains("<sheet name=\"k2b(2)\" sheetId=\"3\""));
+    }
+
+    @Test
+    public void close_notFinished_workbookDeleted() throws IOException {
+        Path workbookPath = tempDir.resolve("attendance.xlsx");
+        AttendanceReport report = new AttendanceReport(
+                List.of(List.of("Name", "Status")), 1, row -> List.of("Bob Lee", "ABSENT"));
+
+        try (AttendanceXlsxWriter workbook = new AttendanceXlsxWriter(workbookPath)) {
+            workbook.addSheet(report, "K2B");
+            assertTrue(Files.exists(workbookPath));
+        }
+
+        assertFalse(Files.exists(workbookPath));
+    }
+
+    @Test
+    public void close_withoutSheets_noFileCreated() throws IOException {
+        Path workbookPath = tempDir.resolve("attendance.xlsx");
+
+        try (AttendanceXlsxWriter workbook = new AttendanceXlsxWriter(workbookPath)) {
+            assertEquals(workbookPath, workbook.getWorkbookPath());
+            workbook.finish();
+        }
+
+        assertFalse(Files.exists(workbookPath));
+    }
+
+    @Test
+    public void toColumnName() {
+        assertEquals("A", AttendanceXlsxWriter.toColumnName(0));
+        assertEquals("Z", AttendanceXlsxWriter.toColumnName(25));
+        assertEquals("AA", AttendanceXlsxWriter.toColumnName(26));
+        assertEquals("AH", AttendanceXlsxWriter.toColumnName(33));
+    }
+
+    private static Map<String, String> readEntries(Path workbookPath) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (InputStream in = Files.newInputStream(workbookPath); ZipInputStream zip = new ZipInputStream(in)) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -76,6 +77,23 @@ public class JsonAdaptedPersonTest {
         assertEquals(2, samePerson.getAttendance().size());
     }
 
+    @Test
+    public void toModelType_untouchedAttendance_savedBackUnchanged() throws Exception {
+        Map<String, String> attendance = new LinkedHashMap<>();
+        attendance.put("2024-10-24", "ABSENT");
+        attendance.put("2024-10-23", "PRESENT");
+        attendance.put("2024-10-25", "LATE");
+        JsonAdaptedPerson jsonPerson = new JsonAdaptedPerson(VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_CLASS, VALID_BIRTHDAY, VALID_NOTE, VALID_TAGS, attendance, false);
+
+        Person person = jsonPerson.toModelType();
+        assertFalse(person.getAttendance().isHydrated());
+
+        Map<String, String> savedAttendance = new JsonAdaptedPerson(person).toModelType().getAttendance()
+                .getSerializedRecords();
+        assertEquals(List.copyOf(attendance.entrySet()), List.copyOf(savedAttendance.entrySet()));
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(INVALID_NAME, VALID_PHONE, VALID_EMAIL,
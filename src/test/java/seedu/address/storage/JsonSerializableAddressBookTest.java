@@ -5,12 +5,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +48,32 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_largeBook_keepsOrder() throws Exception {
+        List<Person> persons = createStudents(1000);
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        persons.forEach(person -> jsonPersons.add(new JsonAdaptedPerson(person)));
+
+        AddressBook addressBook = new JsonSerializableAddressBook(jsonPersons).toModelType();
+        assertEquals(persons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void toModelType_largeBookWithDuplicateFarApart_throwsIllegalValueException() {
+        List<Person> persons = createStudents(1000);
+        persons.add(persons.get(0));
+        List<JsonAdaptedPerson> jsonPersons = new ArrayList<>();
+        persons.forEach(person -> jsonPersons.add(new JsonAdaptedPerson(person)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                new JsonSerializableAddressBook(jsonPersons)::toModelType);
+    }
+
+    private static List<Person> createStudents(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder().withPhone(String.valueOf(80000000 + i)).build());
+        }
+        return persons;
+    }
 }
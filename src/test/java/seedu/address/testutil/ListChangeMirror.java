@@ -0,0 +1,63 @@
+package seedu.address.testutil;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A plain list that is kept in step with an observable list only through the changes that list reports,
+ * for checking that the reported changes describe how the list really changed.
+ */
+public class ListChangeMirror<E> {
+
+    private final List<E> items;
+    private int changeCount;
+
+    /**
+     * Creates a mirror of {@code list}, which then follows the changes {@code list} reports.
+     */
+    public ListChangeMirror(ObservableList<E> list) {
+        items = new ArrayList<>(list);
+        list.addListener(this::apply);
+    }
+
+    /**
+     * Returns the items of the mirror.
+     */
+    public List<E> getItems() {
+        return items;
+    }
+
+    /**
+     * Returns the number of changes reported so far.
+     */
+    public int getChangeCount() {
+        return changeCount;
+    }
+
+    private void apply(ListChangeListener.Change<? extends E> change) {
+        changeCount++;
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            if (change.wasPermutated()) {
+                List<E> permuted = new ArrayList<>(items.subList(from, to));
+                for (int i = from; i < to; i++) {
+                    permuted.set(change.getPermutation(i) - from, items.get(i));
+                }
+                for (int i = from; i < to; i++) {
+                    items.set(i, permuted.get(i - from));
+                }
+            } else if (!change.wasUpdated()) {
+                List<E> removed = items.subList(from, from + change.getRemovedSize());
+                assertEquals(removed, change.getRemoved());
+                removed.clear();
+                items.addAll(from, change.getAddedSubList());
+            }
+        }
+    }
+}
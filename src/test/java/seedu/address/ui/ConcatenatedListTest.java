@@ -0,0 +1,93 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.ListChangeMirror;
+
+public class ConcatenatedListTest {
+
+    private static final int CHANGE_COUNT = 2000;
+
+    private final Random random = new Random(2024);
+    private final ObservableList<Integer> first = FXCollections.observableArrayList(1, 2, 3);
+    private final ObservableList<Integer> second = FXCollections.observableArrayList(4, 5);
+    private final ConcatenatedList<Integer> concatenated = new ConcatenatedList<>(first, second);
+
+    @Test
+    public void get_showsFirstThenSecond() {
+        assertEquals(List.of(1, 2, 3, 4, 5), concatenated);
+        assertEquals(3, concatenated.getFirstSize());
+    }
+
+    @Test
+    public void change_toSecond_passedOnPastFirst() {
+        ListChangeMirror<Integer> mirror = new ListChangeMirror<>(concatenated);
+
+        second.set(0, 6);
+
+        assertEquals(List.of(1, 2, 3, 6, 5), mirror.getItems());
+        assertEquals(1, mirror.getChangeCount());
+    }
+
+    @Test
+    public void change_randomChangesToBothLists_passedOnAsTheyHappen() {
+        ListChangeMirror<Integer> mirror = new ListChangeMirror<>(concatenated);
+
+        for (int i = 0; i < CHANGE_COUNT; i++) {
+            changeRandomly(random.nextBoolean() ? first : second);
+
+            List<Integer> expected = new ArrayList<>(first);
+            expected.addAll(second);
+            assertEquals(expected, concatenated);
+            assertEquals(expected, mirror.getItems());
+            assertEquals(first.size(), concatenated.getFirstSize());
+        }
+    }
+
+    /**
+     * Makes one random change to {@code list}, of any of the kinds an observable list can report.
+     */
+    private void changeRandomly(ObservableList<Integer> list) {
+        int size = list.size();
+        int index = random.nextInt(size + 1);
+        int end = index + random.nextInt(size - index + 1);
+        switch (random.nextInt(7)) {
+        case 0:
+            list.add(index, random.nextInt(100));
+            break;
+        case 1:
+            list.addAll(index, List.of(random.nextInt(100), random.nextInt(100), random.nextInt(100)));
+            break;
+        case 2:
+            if (index < size) {
+                list.remove(index);
+            }
+            break;
+        case 3:
+            list.remove(index, end);
+            break;
+        case 4:
+            if (index < size) {
+                list.set(index, random.nextInt(100));
+            }
+            break;
+        case 5:
+            list.sort(random.nextBoolean() ? Comparator.naturalOrder() : Comparator.reverseOrder());
+            break;
+        default:
+            List<Integer> items = new ArrayList<>();
+            random.ints(random.nextInt(6), 0, 100).forEach(items::add);
+            list.setAll(items);
+            break;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.beans.WeakListener;
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.value.WeakChangeListener;
+import seedu.address.model.person.Favourite;
+
+public class FavouriteBindingTest {
+
+    private static final int PERSON_COUNT = 500;
+    private static final int CELL_COUNT = 15;
+    private static final int SCROLL_PASSES = 40;
+    private static final int TOGGLE_COUNT = 20000;
+
+    private final List<Boolean> shownValues = new ArrayList<>();
+
+    @Test
+    public void bind_showsCurrentValueAndFollowsChanges() {
+        Favourite favourite = new Favourite(true);
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add);
+
+        binding.bind(favourite.getFavBooleanProperty());
+        favourite.updateFavourite(false);
+
+        assertTrue(binding.isBound());
+        assertEquals(List.of(true, false), shownValues);
+    }
+
+    @Test
+    public void bind_anotherProperty_stopsFollowingPrevious() {
+        Favourite first = new Favourite(false);
+        Favourite second = new Favourite(false);
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add);
+
+        binding.bind(first.getFavBooleanProperty());
+        binding.bind(second.getFavBooleanProperty());
+        first.updateFavourite(true);
+
+        assertEquals(List.of(false, false), shownValues);
+    }
+
+    @Test
+    public void unbind_stopsFollowing() {
+        Favourite favourite = new Favourite(false);
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add);
+
+        binding.bind(favourite.getFavBooleanProperty());
+        binding.unbind();
+        favourite.updateFavourite(true);
+
+        assertFalse(binding.isBound());
+        assertEquals(List.of(false), shownValues);
+    }
+
+    @Test
+    public void bind_changePassedOnLater_showsValueOfPropertyBoundThen() {
+        Favourite first = new Favourite(false);
+        Favourite second = new Favourite(true);
+        List<Runnable> pendingChanges = new ArrayList<>();
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add, pendingChanges::add);
+
+        binding.bind(first.getFavBooleanProperty());
+        first.updateFavourite(true);
+        // The cell is recycled before the change to the first person is passed on
+        binding.bind(second.getFavBooleanProperty());
+        second.updateFavourite(false);
+        pendingChanges.forEach(Runnable::run);
+
+        assertEquals(List.of(false, true, false, false), shownValues);
+    }
+
+    @Test
+    public void bind_scrollingManyTimes_listenerCountStaysBounded() {
+        List<BooleanProperty> properties = new ArrayList<>();
+        for (int i = 0; i < PERSON_COUNT; i++) {
+            properties.add(new Favourite(false).getFavBooleanProperty());
+        }
+
+        // Each cell counts how often it is told about a change, as a stand-in for the listeners on each property
+        int[] notifications = new int[1];
+        List<FavouriteBinding> cells = new ArrayList<>();
+        for (int i = 0; i < CELL_COUNT; i++) {
+            cells.add(new FavouriteBinding(isFavourite -> notifications[0]++));
+        }
+
+        // Scroll down and back up through the whole list many times, rebinding the cells as they are recycled
+        for (int pass = 0; pass < SCROLL_PASSES; pass++) {
+            for (int top = 0; top + CELL_COUNT <= PERSON_COUNT; top++) {
+                scrollTo(cells, properties, pass % 2 == 0 ? top : PERSON_COUNT - CELL_COUNT - top);
+            }
+        }
+
+        // Only the cells still on screen follow their person, once each
+        notifications[0] = 0;
+        properties.forEach(property -> property.set(true));
+        assertEquals(CELL_COUNT, notifications[0]);
+    }
+
+    @Test
+    public void bind_propertyOnlyHoldsWeakListener() {
+        Favourite favourite = new Favourite(false);
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add);
+        binding.bind(favourite.getFavBooleanProperty());
+
+        // The property is given the weak listener, so it cannot keep the binding alive
+        WeakListener propertyListener = binding.getPropertyListener();
+        assertTrue(propertyListener instanceof WeakChangeListener);
+        assertFalse(propertyListener.wasGarbageCollected());
+        favourite.updateFavourite(true);
+        assertEquals(List.of(false, true), shownValues);
+
+        // Unbinding removes the weak listener, so the binding no longer follows the property
+        binding.unbind();
+        favourite.updateFavourite(false);
+        assertEquals(List.of(false, true), shownValues);
+    }
+
+    @Test
+    public void bind_bindingDiscardedWithoutUnbind_canBeGarbageCollected() {
+        Favourite favourite = new Favourite(false);
+        FavouriteBinding binding = new FavouriteBinding(shownValues::add);
+        binding.bind(favourite.getFavBooleanProperty());
+        WeakListener propertyListener = binding.getPropertyListener();
+
+        binding = null;
+        for (int i = 0; i < 20 && !propertyListener.wasGarbageCollected(); i++) {
+            System.gc();
+        }
+
+        // System.gc() is only a request, so this check is skipped if the JVM did not collect the binding
+        assumeTrue(propertyListener.wasGarbageCollected(), "The JVM did not run a garbage collection");
+        // Notifying the dropped listener does nothing
+        favourite.updateFavourite(true);
+        assertEquals(List.of(false), shownValues);
+    }
+
+    @Test
+    public void bind_whileStatusChangedOnAnotherThread_followsLatestStatus() throws InterruptedException {
+        Favourite favourite = new Favourite(false);
+        List<Boolean> lastShown = new ArrayList<>(List.of(false));
+        FavouriteBinding binding = new FavouriteBinding(isFavourite -> lastShown.set(0, isFavourite));
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // As a command would on the command thread, while a card is rebound on this thread
+        Thread commandThread = new Thread(() -> {
+            for (int i = 0; i < TOGGLE_COUNT; i++) {
+                favourite.updateFavourite(i % 2 == 0);
+            }
+        });
+        commandThread.setUncaughtExceptionHandler((thread, e) -> failure.set(e));
+        commandThread.start();
+        while (commandThread.isAlive()) {
+            binding.bind(favourite.getFavBooleanProperty());
+            binding.unbind();
+        }
+        commandThread.join();
+
+        assertEquals(null, failure.get());
+        binding.bind(favourite.getFavBooleanProperty());
+        assertEquals(favourite.getIsFavouriteBoolean(), lastShown.get(0));
+    }
+
+    private static void scrollTo(List<FavouriteBinding> cells, List<BooleanProperty> properties, int top) {
+        for (int i = 0; i < cells.size(); i++) {
+            cells.get(i).bind(properties.get(top + i));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.ListChangeMirror;
+
+public class FxThreadListTest {
+
+    private static final int UPDATE_COUNT = 2000;
+
+    private final Random random = new Random(2024);
+    // Copies are compared by reference, so equal rows are made as different objects
+    private final List<String> initialRows = List.of(new String("a"), new String("b"), new String("a"));
+    private final FxThreadList<String> fxThreadList =
+            new FxThreadList<>(FXCollections.observableArrayList(initialRows));
+    private final ObservableList<String> source = FXCollections.observableArrayList(initialRows);
+    // The updates waiting for the JavaFX application thread, which tests run by hand
+    private final List<Runnable> scheduledUpdates = new ArrayList<>();
+
+    @Test
+    public void show_oneRowChanged_onlyThatRowReplaced() {
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(fxThreadList.getList());
+        List<String> latestCopy = new ArrayList<>(initialRows);
+        latestCopy.set(1, new String("b"));
+
+        fxThreadList.show(latestCopy);
+
+        assertSameRows(latestCopy, fxThreadList.getList());
+        assertSameRows(latestCopy, mirror.getItems());
+        assertEquals(1, mirror.getChangeCount());
+    }
+
+    @Test
+    public void show_sameRows_nothingChanged() {
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(fxThreadList.getList());
+
+        fxThreadList.show(new ArrayList<>(initialRows));
+
+        assertSameRows(initialRows, fxThreadList.getList());
+        assertEquals(0, mirror.getChangeCount());
+    }
+
+    @Test
+    public void show_randomCopies_changesMatchCopy() {
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(fxThreadList.getList());
+
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            List<String> latestCopy = changeRandomly(new ArrayList<>(fxThreadList.getList()));
+
+            fxThreadList.show(latestCopy);
+
+            assertSameRows(latestCopy, fxThreadList.getList());
+            assertSameRows(latestCopy, mirror.getItems());
+        }
+    }
+
+    @Test
+    public void sourceChanged_onFxThread_sameChangeMadeToCopy() {
+        FxThreadList<String> onFxThread = new FxThreadList<>(source, () -> true, scheduledUpdates::add);
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(onFxThread.getList());
+
+        source.set(1, new String("b"));
+
+        assertSameRows(source, onFxThread.getList());
+        assertSameRows(source, mirror.getItems());
+        assertEquals(1, mirror.getChangeCount());
+        assertEquals(0, scheduledUpdates.size());
+    }
+
+    @Test
+    public void sourceChanged_offFxThread_madeToCopyOnceScheduledUpdateRuns() {
+        FxThreadList<String> offFxThread = new FxThreadList<>(source, () -> false, scheduledUpdates::add);
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(offFxThread.getList());
+
+        source.add(new String("c"));
+        source.remove(0);
+        assertSameRows(initialRows, offFxThread.getList());
+
+        // Only the first change schedules an update, which then makes both
+        assertEquals(1, scheduledUpdates.size());
+        scheduledUpdates.remove(0).run();
+
+        assertSameRows(source, offFxThread.getList());
+        assertSameRows(source, mirror.getItems());
+    }
+
+    @Test
+    public void sourceChanged_randomChangesOffFxThread_copyMatchesSourceAfterEachUpdate() {
+        FxThreadList<String> offFxThread = new FxThreadList<>(source, () -> false, scheduledUpdates::add);
+        ListChangeMirror<String> mirror = new ListChangeMirror<>(offFxThread.getList());
+
+        for (int i = 0; i < UPDATE_COUNT; i++) {
+            // Sometimes the JavaFX application thread falls far behind, so that the source list is copied instead
+            int changeCount = 1 + random.nextInt(random.nextInt(10) == 0 ? 20 : 3);
+            for (int j = 0; j < changeCount; j++) {
+                changeRandomly(source);
+            }
+            scheduledUpdates.forEach(Runnable::run);
+            scheduledUpdates.clear();
+
+            assertSameRows(source, offFxThread.getList());
+            assertSameRows(source, mirror.getItems());
+        }
+    }
+
+    /**
+     * Makes a few random edits to {@code rows} as a command would, and returns it.
+     */
+    private List<String> changeRandomly(List<String> rows) {
+        int editCount = 1 + random.nextInt(3);
+        for (int i = 0; i < editCount; i++) {
+            int index = random.nextInt(rows.size() + 1);
+            switch (random.nextInt(4)) {
+            case 0:
+                rows.add(index, newRow());
+                break;
+            case 1:
+                if (index < rows.size()) {
+                    rows.remove(index);
+                }
+                break;
+            case 2:
+                if (index < rows.size()) {
+                    rows.set(index, newRow());
+                }
+                break;
+            default:
+                if (index < rows.size()) {
+                    rows.add(random.nextInt(rows.size()), rows.remove(index));
+                }
+                break;
+            }
+        }
+        return rows;
+    }
+
+    private String newRow() {
+        return new String(String.valueOf((char) ('a' + random.nextInt(3))));
+    }
+
+    private static void assertSameRows(List<String> expected, List<String> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame(expected.get(i), actual.get(i));
+        }
+    }
+}